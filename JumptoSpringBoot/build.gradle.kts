@@ -39,9 +39,39 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.thymeleaf.extras:thymeleaf-extras-springsecurity6")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    testImplementation("org.springframework.security:spring-security-test")
     implementation("org.commonmark:commonmark:0.21.0")
+    implementation("org.apache.lucene:lucene-core:9.12.1")
+    implementation("org.apache.lucene:lucene-analysis-nori:9.12.1")
+    implementation("org.apache.lucene:lucene-queryparser:9.12.1")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// 부하 테스트(@Tag("load"))는 오래 걸리므로 test 에서 제외하고 loadTest 로 따로 실행
+// -Pload.xxx, -Pspring.xxx 는 테스트의 시스템 프로퍼티로 전달 (예: -Pload.requests=5000)
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("load")
+    }
+}
+
+tasks.register<Test>("loadTest") {
+    description = "질문 목록/상세, 추천 부하 테스트를 실행하고 build/load-test/result.json 에 결과를 저장"
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
+    systemProperties(project.properties
+        .filterKeys { it.startsWith("load.") || it.startsWith("spring.") }
+        .mapValues { it.value.toString() })
+    testLogging {
+        showStandardStreams = true
+    }
+    outputs.upToDateWhen { false }
+}
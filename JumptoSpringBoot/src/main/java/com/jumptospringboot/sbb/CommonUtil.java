@@ -5,13 +5,60 @@ import org.commonmark.parser.Parser;
 import org.commonmark.renderer.html.HtmlRenderer;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 // 마크다운 컴포넌트
 @Component // 스프링 부트가 관리하는 빈으로 등록
 public class CommonUtil {
+    // 캐시에 보관할 최대 HTML 개수
+    private static final int MAX_CACHE_SIZE = 1000;
+
+    // Parser, HtmlRenderer 는 스레드 안전하므로 한 번만 만들어서 재사용
+    private static final Parser PARSER = Parser.builder().build();
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().build();
+
+    // 마크다운 원문의 해시 => 변환된 HTML
+    // accessOrder = true 로 두면 가장 오래 사용되지 않은 항목부터 밀려남(LRU)
+    // 수정된 글은 해시가 달라서 새로 변환되고, 이전 원문의 HTML 은 쓰이지 않다가 밀려남
+    private final Map<String, String> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > MAX_CACHE_SIZE;
+                }
+            }
+    );
+
     public String markdown(String markdown) {
-        Parser parser = Parser.builder().build();
-        Node document = parser.parse(markdown);
-        HtmlRenderer renderer = HtmlRenderer.builder().build();
-        return renderer.render(document);
+        String key = hash(markdown);
+        String html = cache.get(key);
+
+        if (html == null) {
+            // 변환은 락 밖에서 수행, 같은 원문이 동시에 들어와도 결과는 같음
+            Node document = PARSER.parse(markdown);
+            html = RENDERER.render(document);
+            cache.put(key, html);
+        }
+
+        return html;
+    }
+
+    public int cacheSize() {
+        return cache.size();
+    }
+
+    private String hash(String markdown) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(markdown.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
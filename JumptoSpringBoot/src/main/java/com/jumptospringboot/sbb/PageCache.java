@@ -0,0 +1,141 @@
+package com.jumptospringboot.sbb;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+// 로그인하지 않은 사용자에게 보여 줄 질문 목록/상세 화면(HTML)을 보관하는 캐시
+// 저장/조회는 PageCacheFilter 에서, 삭제는 질문/답변이 바뀌는 서비스 메서드에서 함
+@Component
+public class PageCache {
+    private static final int MAX_SIZE = 500;
+    // 서비스를 거치지 않은 변경(h2-console 등)이 있어도 최대 1분 뒤에는 새로 그림
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    public record CachedPage(byte[] body, String contentType, long createdAt) {
+    }
+
+    // 키 => 화면, 가장 오래 사용되지 않은 화면부터 밀려남(LRU)
+    private final Map<String, CachedPage> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedPage> eldest) {
+                    return size() > MAX_SIZE;
+                }
+            }
+    );
+
+    // 캐시를 지울 때마다 증가
+    // 화면을 그리는 도중에 캐시가 지워졌다면 그 화면은 이전 데이터일 수 있으므로 저장하지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    // 적중률 = hit / (hit + miss), /actuator/metrics/sbb.page.cache 에서 확인
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter bypassCounter;
+
+    public PageCache(MeterRegistry meterRegistry) {
+        this.hitCounter = meterRegistry.counter("sbb.page.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("sbb.page.cache", "result", "miss");
+        this.bypassCounter = meterRegistry.counter("sbb.page.cache", "result", "bypass");
+        Gauge.builder("sbb.page.cache.size", this.cache, Map::size).register(meterRegistry);
+    }
+
+    public CachedPage get(String key) {
+        CachedPage page = this.cache.get(key);
+
+        if (page != null && System.currentTimeMillis() - page.createdAt() > TTL.toMillis()) {
+            this.cache.remove(key);
+            page = null;
+        }
+
+        if (page == null) {
+            this.missCounter.increment();
+        } else {
+            this.hitCounter.increment();
+        }
+
+        return page;
+    }
+
+    public long generation() {
+        return this.generation.get();
+    }
+
+    // generation: 화면을 그리기 전에 읽은 값
+    public void put(String key, byte[] body, String contentType, long generation) {
+        // evict 와 같은 락 안에서 비교해야 비교 직후에 지워지는 경우를 막을 수 있음
+        synchronized (this.cache) {
+            if (this.generation.get() != generation) {
+                return;
+            }
+
+            this.cache.put(key, new CachedPage(body, contentType, System.currentTimeMillis()));
+        }
+    }
+
+    // 로그인한 사용자 요청처럼 캐시를 사용하지 않은 경우
+    public void bypass() {
+        this.bypassCounter.increment();
+    }
+
+    public double hitRate() {
+        double total = this.hitCounter.count() + this.missCounter.count();
+        return total == 0 ? 0 : this.hitCounter.count() / total;
+    }
+
+    // 질문이 등록/수정/삭제되었거나 답변 개수가 바뀌었을 때 => 해당 질문의 상세 화면과 모든 목록 화면 삭제
+    public void evictQuestion(Integer questionId) {
+        afterCommit(() -> evict(key -> key.startsWith("list?") || key.startsWith(detailKeyPrefix(questionId))));
+    }
+
+    // 추천, 답변 수정처럼 목록에는 영향이 없을 때 => 해당 질문의 상세 화면만 삭제
+    public void evictDetail(Integer questionId) {
+        afterCommit(() -> evict(key -> key.startsWith(detailKeyPrefix(questionId))));
+    }
+
+    public static String listKey(int page) {
+        return "list?page=" + page;
+    }
+
+    public static String detailKey(Integer questionId, int page, String sort) {
+        return detailKeyPrefix(questionId) + "page=" + page + "&sort=" + sort;
+    }
+
+    private static String detailKeyPrefix(Integer questionId) {
+        return "detail/" + questionId + "?";
+    }
+
+    private void evict(Predicate<String> condition) {
+        // synchronizedMap 을 순회할 때는 직접 잠가야 함
+        synchronized (this.cache) {
+            this.generation.incrementAndGet();
+            this.cache.keySet().removeIf(condition);
+        }
+    }
+
+    // 커밋 전에 지우면 그 사이에 들어온 요청이 이전 데이터로 다시 캐시를 채울 수 있으므로 커밋 이후에 지움
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,139 @@
+package com.jumptospringboot.sbb;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 로그인하지 않은 사용자의 질문 목록/상세 화면 요청은 캐시된 HTML 을 그대로 응답
+// 첫 페이지, 인기 질문처럼 같은 화면을 여러 사람이 볼 때 조회 쿼리와 타임리프 렌더링을 생략
+// 로그인한 사용자는 수정/삭제 버튼 등 화면이 사용자마다 다르므로 캐시를 사용하지 않음
+// 스프링 시큐리티 필터 다음에 실행되므로 SecurityContextHolder 에서 로그인 여부를 알 수 있음
+@Component
+@RequiredArgsConstructor
+public class PageCacheFilter extends OncePerRequestFilter {
+    private static final Pattern DETAIL_PATH = Pattern.compile("/question/detail/(\\d{1,9})");
+    private static final Set<String> LIST_PARAMS = Set.of("page", "kw");
+    private static final Set<String> DETAIL_PARAMS = Set.of("page", "sort");
+    // 여러 사람이 같이 보는 앞쪽 페이지만 저장
+    // 검색어, 먼 페이지는 요청마다 값이 달라서 저장해도 다시 쓰이지 않고 자주 보는 화면만 LRU 에서 밀어냄
+    private static final int MAX_CACHED_PAGE = 5;
+    private static final Set<String> SORTS = Set.of("latest", "recommend");
+
+    private final PageCache pageCache;
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = cacheKey(request);
+
+        if (key == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 로그인한 사용자, 쿠키 없이 URL 에 세션 id 를 붙여서 요청한 경우(링크에 세션 id 가 들어감)는 캐시 사용 X
+        if (!isAnonymous() || request.isRequestedSessionIdFromURL()) {
+            this.pageCache.bypass();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        PageCache.CachedPage page = this.pageCache.get(key);
+
+        if (page != null) {
+            response.setContentType(page.contentType());
+            response.setContentLength(page.body().length);
+            response.getOutputStream().write(page.body());
+            return;
+        }
+
+        long generation = this.pageCache.generation();
+        // 응답 내용을 메모리에 모아 두는 래퍼, copyBodyToResponse 를 호출해야 실제로 전송됨
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+
+        // 정상 응답만 저장, 세션 쿠키처럼 요청한 사람에게만 보내야 하는 헤더가 있으면 저장 X
+        if (responseWrapper.getStatus() == HttpServletResponse.SC_OK
+                && !responseWrapper.containsHeader(HttpHeaders.SET_COOKIE)) {
+            this.pageCache.put(key, responseWrapper.getContentAsByteArray(), responseWrapper.getContentType(), generation);
+        }
+
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private boolean isAnonymous() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || this.trustResolver.isAnonymous(authentication);
+    }
+
+    // 캐시 대상이 아니면 null
+    // 컨트롤러의 기본값과 같게 맞춰서 ?page=0 과 파라미터가 없는 요청이 같은 키가 되도록 함
+    // 키의 종류가 (목록 페이지 수 + 질문 수 * 상세 페이지 수 * 정렬 2가지)를 넘지 않도록 검색어가 없는 앞쪽 페이지만 대상
+    private String cacheKey(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+
+        if (path.equals("/question/list")) {
+            if (!hasOnly(request, LIST_PARAMS)) return null;
+            if (!paramOrDefault(request, "kw", "").isEmpty()) return null;
+            Integer page = pageParam(request);
+            if (page == null) return null;
+            return PageCache.listKey(page);
+        }
+
+        Matcher matcher = DETAIL_PATH.matcher(path);
+
+        if (matcher.matches()) {
+            if (!hasOnly(request, DETAIL_PARAMS)) return null;
+            String sort = paramOrDefault(request, "sort", "latest");
+            if (!SORTS.contains(sort)) return null;
+            Integer page = pageParam(request);
+            if (page == null) return null;
+            return PageCache.detailKey(Integer.valueOf(matcher.group(1)), page, sort);
+        }
+
+        return null;
+    }
+
+    private boolean hasOnly(HttpServletRequest request, Set<String> allowedParams) {
+        return allowedParams.containsAll(request.getParameterMap().keySet());
+    }
+
+    // 캐시하지 않을 페이지면 null
+    private Integer pageParam(HttpServletRequest request) {
+        int page;
+
+        try {
+            page = Integer.parseInt(paramOrDefault(request, "page", "0"));
+        } catch (NumberFormatException e) {
+            return null; // 잘못된 값은 컨트롤러에서 처리
+        }
+
+        return page >= 0 && page < MAX_CACHED_PAGE ? page : null;
+    }
+
+    private String paramOrDefault(HttpServletRequest request, String name, String defaultValue) {
+        String value = request.getParameter(name);
+        return value == null ? defaultValue : value;
+    }
+}
@@ -0,0 +1,19 @@
+package com.jumptospringboot.sbb;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 비밀번호 해시 스레드 풀의 대기열이 가득 찼거나 제한 시간 안에 끝나지 않았을 때 발생
+// 로그인: AuthenticationException 이므로 스프링 시큐리티의 로그인 실패 처리로 전달됨 => LoginFailureHandler 에서 503
+// 그 밖의 요청(회원가입 등): 컨트롤러에서 잡지 않으면 @ResponseStatus 에 의해 503
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashBusyException extends AuthenticationServiceException {
+    private static final long serialVersionUID = 1L;
+    // 클라이언트에게 알려 줄 재시도 대기 시간(초), Retry-After 헤더 값
+    public static final int RETRY_AFTER_SECONDS = 5;
+
+    public PasswordHashBusyException() {
+        super("요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
@@ -0,0 +1,133 @@
+package com.jumptospringboot.sbb;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 비밀번호 해시(BCrypt)를 전용 스레드 풀에서 실행하는 PasswordEncoder
+// BCrypt 는 일부러 느리게 만든 해시라서 회원가입/로그인이 몰리면 톰캣 스레드가 전부 해시 계산에 묶임
+// 해시 작업은 정해진 개수의 스레드에서만 실행하고, 대기열이 가득 차면 기다리지 않고 바로 거절(PasswordHashBusyException => 503)
+// => 해시 작업이 CPU 를 일정 비율 이상 차지하지 못하므로 다른 페이지는 계속 응답 가능
+public class PooledPasswordEncoder implements PasswordEncoder, DisposableBean {
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    // 대기열에서 기다린 시간과 실제 해시 계산 시간을 따로 기록
+    // 대기 시간이 길면 스레드가 부족한 것이고, 해시 시간이 길면 CPU 가 부족한 것
+    private final Timer encodeQueueTimer;
+    private final Timer encodeHashTimer;
+    private final Timer matchesQueueTimer;
+    private final Timer matchesHashTimer;
+    private final Counter rejectedCounter;
+
+    public PooledPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        // AbortPolicy: 대기열이 가득 차면 submit 에서 RejectedExecutionException 발생
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.encodeQueueTimer = timer(meterRegistry, "sbb.password.queue", "encode");
+        this.encodeHashTimer = timer(meterRegistry, "sbb.password.hash", "encode");
+        this.matchesQueueTimer = timer(meterRegistry, "sbb.password.queue", "matches");
+        this.matchesHashTimer = timer(meterRegistry, "sbb.password.hash", "matches");
+        this.rejectedCounter = Counter.builder("sbb.password.rejected").register(meterRegistry);
+        Gauge.builder("sbb.password.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("sbb.password.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword), encodeQueueTimer, encodeHashTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword), matchesQueueTimer, matchesHashTimer);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Supplier<T> task, Timer queueTimer, Timer hashTimer) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+
+                try {
+                    return task.get();
+                } finally {
+                    hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw busy();
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 대기열에 있다면 실행되지 않도록 취소
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private PasswordHashBusyException busy() {
+        return new PasswordHashBusyException();
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String name, String operation) {
+        return Timer.builder(name)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -1,5 +1,9 @@
 package com.jumptospringboot.sbb;
 
+import com.jumptospringboot.sbb.user.LoginAttemptFilter;
+import com.jumptospringboot.sbb.user.LoginAttemptLimiter;
+import com.jumptospringboot.sbb.user.LoginFailureHandler;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,8 +14,11 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.header.writers.frameoptions.XFrameOptionsHeaderWriter;
 
+import java.time.Duration;
+
 // Spring Boot 3.x: spring-boot-starter-security 추가 → 추가 설정 없이는 보안 기능이 활성화되지 않음
 
 @Configuration // 이 파일이 스프링의 환경 설정임을 의미하는 어노테이션
@@ -21,7 +28,7 @@ public class SecurityConfig {
     // 빈(bean)은 스프링에 의해 생성 또는 관리되는 객체를 의미
     // Bean 어노테이션을 통해 자바 코드 내에서 별도로 빈을 정의하고 등록 가능
     @Bean
-    SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    SecurityFilterChain filterChain(HttpSecurity http, LoginAttemptLimiter loginAttemptLimiter) throws Exception {
         http
                 .authorizeHttpRequests((authorizeHttpRequests) -> authorizeHttpRequests
                         .requestMatchers("/**").permitAll()) // AntPathRequestMatcher 지원 중지됨 -> 제거
@@ -31,10 +38,13 @@ public class SecurityConfig {
                 .headers((headers) -> headers
                         .addHeaderWriter(new XFrameOptionsHeaderWriter(
                                 XFrameOptionsHeaderWriter.XFrameOptionsMode.SAMEORIGIN)))
+                // 로그인 실패가 많은 사용자명/IP 는 로그인 처리 전에 차단
+                .addFilterBefore(new LoginAttemptFilter(loginAttemptLimiter), UsernamePasswordAuthenticationFilter.class)
                 // .formLogin 메서드: 스프링 시큐리티의 로그인 설정을 담당하는 부분
                 .formLogin((formLogin) -> formLogin
                         .loginPage("/user/login") // 로그인 페이지의 URL
-                        .defaultSuccessUrl("/")) // 로그인 성공 시 이동할 페이지
+                        .defaultSuccessUrl("/") // 로그인 성공 시 이동할 페이지
+                        .failureHandler(new LoginFailureHandler())) // 실패 시 /user/login?error, 해시 대기열이 가득 차면 503
                 // .logout 메서드: 스프링 시큐리티의 로그아웃 설정을 담당하는 부분
                 .logout((logout) -> logout
                         .logoutUrl("/user/logout")  // AntPathRequestMatcher 대신 직접 URL 지정
@@ -45,9 +55,12 @@ public class SecurityConfig {
     }
 
     // PasswordEncoder 빈
+    // BCrypt 해시는 전용 스레드 풀에서 실행 (회원가입, 로그인 모두 이 빈을 사용)
+    // 스레드 수: CPU 코어의 절반, 대기열: 스레드당 16개, 대기열에서 5초 안에 끝나지 않으면 PasswordHashBusyException(503)
     @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new PooledPasswordEncoder(new BCryptPasswordEncoder(), threads, threads * 16, Duration.ofSeconds(5), meterRegistry);
     }
 
     @Bean
@@ -5,6 +5,7 @@ import com.jumptospringboot.sbb.user.SiteUser;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.Set;
@@ -13,6 +14,11 @@ import java.util.Set;
 // 원래 entity에는 setter 안 씀
 @Setter
 @Entity
+// 질문별 최신순, 추천순 정렬을 인덱스로 처리
+@Table(indexes = {
+        @Index(columnList = "question_id, createDate, id"),
+        @Index(columnList = "question_id, voteCount, id")
+})
 public class Answer {
     @Id // id 속성을 기본키로 지정
     // @GeneratedValue: 값을 일일이 입력하지 않아도 자동으로 1씩 증가
@@ -39,6 +45,17 @@ public class Answer {
     @ManyToOne
     private SiteUser author;
 
+    // 추천은 AnswerRepository.insertVoter 에서 조인 테이블에 직접 INSERT 하므로 테이블/컬럼명을 고정
     @ManyToMany
+    @JoinTable(
+            name = "answer_voter",
+            joinColumns = @JoinColumn(name = "answer_id"),
+            inverseJoinColumns = @JoinColumn(name = "voter_id")
+    )
     Set<SiteUser> voter;
+
+    // 추천 개수, AnswerRepository 의 증감 쿼리로만 변경
+    @ColumnDefault("0")
+    @Column(updatable = false)
+    private int voteCount;
 }
@@ -7,6 +7,7 @@ import com.jumptospringboot.sbb.user.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
@@ -44,6 +45,9 @@ public class AnswerController {
             Page<Answer> answerPaging = this.answerService.getAnswerList(question, 0, "latest");
             model.addAttribute("answerPaging", answerPaging);
             model.addAttribute("sort", "latest");
+            model.addAttribute("answers", answerPaging.getContent());
+            model.addAttribute("answerPage", 0);
+            model.addAttribute("nextCursor", this.answerService.nextCursorOf(answerPaging, "latest"));
             return "question_detail";
         }
         Answer answer = this.answerService.create(question, answerForm.getContent(), siteUser);
@@ -51,6 +55,21 @@ public class AnswerController {
                 answer.getQuestion().getId(), answer.getId());
     }
 
+    // 답변 더보기 - cursor 다음의 답변을 HTML 조각(answer_list.html)으로 응답
+    // 질문 상세 화면의 '답변 더보기' 버튼에서 fetch 로 호출
+    @GetMapping("/list/{id}")
+    public String answerList(Model model, @PathVariable("id") Integer id,
+                             @RequestParam(value = "sort", defaultValue = "latest") String sort,
+                             @RequestParam("cursor") String cursor) {
+        Question question = this.questionService.getQuestion(id);
+        Slice<Answer> answerSlice = this.answerService.getAnswerListAfter(question, sort, cursor);
+        model.addAttribute("answers", answerSlice.getContent());
+        model.addAttribute("answerPage", 0);
+        model.addAttribute("sort", sort);
+        model.addAttribute("nextCursor", this.answerService.nextCursorOf(answerSlice, sort));
+        return "answer_list :: answerCards";
+    }
+
     // 수정 폼을 보여 주기 위한 요청 -> 수정 버튼을 클릭, GET 요청으로 기존 데이터가 채워진 폼을 보여 줌
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/modify/{id}")
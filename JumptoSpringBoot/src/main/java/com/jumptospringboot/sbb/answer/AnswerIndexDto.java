@@ -0,0 +1,9 @@
+package com.jumptospringboot.sbb.answer;
+
+// 검색 색인에 필요한 답변 데이터만 조회하기 위한 DTO
+public record AnswerIndexDto(
+        Integer questionId,
+        String content,
+        String username
+) {
+}
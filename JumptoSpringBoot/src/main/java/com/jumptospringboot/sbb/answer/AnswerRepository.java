@@ -1,19 +1,74 @@
 package com.jumptospringboot.sbb.answer;
 
 import com.jumptospringboot.sbb.question.Question;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 public interface AnswerRepository extends JpaRepository<Answer, Integer> {
     // 특정 질문에 대한 답변들을 페이징과 정렬로 조회
-    Page<Answer> findByQuestion(Question question, Pageable pageable);
-    
+    // Slice 로 리턴하면 count 쿼리 없이 size + 1 개를 조회해서 다음 페이지 여부만 확인
+    // 전체 개수는 question.answerCount 사용
+    @EntityGraph(attributePaths = "author")
+    Slice<Answer> findByQuestion(Question question, Pageable pageable);
+
     // 추천수 기준으로 정렬된 답변 조회 (JPQL 사용)
+    // SIZE(a.voter)는 행마다 하위 쿼리가 실행되므로 voteCount 컬럼으로 정렬 (question_id, voteCount, id 인덱스 사용)
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT a FROM Answer a " +
+           "WHERE a.question = :question " +
+           "ORDER BY a.voteCount DESC, a.id DESC")
+    Slice<Answer> findByQuestionOrderByVoteCountDesc(@Param("question") Question question, Pageable pageable);
+
+    // 답변 더보기 - 최신순, 커서(마지막으로 본 답변의 createDate, id) 다음부터 limit 개
+    // offset 방식은 뒤 페이지로 갈수록 앞의 행을 모두 읽고 버리지만, 커서 방식은 인덱스에서 바로 이어서 읽음
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT a FROM Answer a " +
+           "WHERE a.question = :question " +
+           "AND (a.createDate < :createDate OR (a.createDate = :createDate AND a.id < :id)) " +
+           "ORDER BY a.createDate DESC, a.id DESC")
+    List<Answer> findLatestAfter(@Param("question") Question question,
+                                 @Param("createDate") LocalDateTime createDate,
+                                 @Param("id") Integer id,
+                                 Limit limit);
+
+    // 답변 더보기 - 추천순, 커서(마지막으로 본 답변의 voteCount, id) 다음부터 limit 개
+    @EntityGraph(attributePaths = "author")
     @Query("SELECT a FROM Answer a " +
            "WHERE a.question = :question " +
-           "ORDER BY SIZE(a.voter) DESC, a.createDate DESC")
-    Page<Answer> findByQuestionOrderByVoteCountDesc(@Param("question") Question question, Pageable pageable);
+           "AND (a.voteCount < :voteCount OR (a.voteCount = :voteCount AND a.id < :id)) " +
+           "ORDER BY a.voteCount DESC, a.id DESC")
+    List<Answer> findRecommendAfter(@Param("question") Question question,
+                                    @Param("voteCount") int voteCount,
+                                    @Param("id") Integer id,
+                                    Limit limit);
+
+    // 검색 색인용 조회 - 질문 여러 개의 답변을 한 번에
+    @Query("select new com.jumptospringboot.sbb.answer.AnswerIndexDto(a.question.id, a.content, u.username) " +
+           "from Answer a left join a.author u " +
+           "where a.question.id in :questionIds")
+    List<AnswerIndexDto> findIndexDtosByQuestionIdIn(@Param("questionIds") Collection<Integer> questionIds);
+
+    // 추천 개수 증감
+    @Modifying
+    @Query("update Answer a set a.voteCount = a.voteCount + :delta where a.id = :id")
+    void increaseVoteCount(@Param("id") Integer id, @Param("delta") int delta);
+
+    // 추천자 추가 - 이미 추천했으면 무시되고 0을 리턴
+    @Modifying
+    @Query(value = "insert ignore into answer_voter (answer_id, voter_id) values (:answerId, :voterId)",
+           nativeQuery = true)
+    int insertVoter(@Param("answerId") Integer answerId, @Param("voterId") Long voterId);
+
+    @Query("select a.voteCount from Answer a where a.id = :id")
+    int findVoteCountById(@Param("id") Integer id);
 }
@@ -1,16 +1,27 @@
 package com.jumptospringboot.sbb.answer;
 
 import com.jumptospringboot.sbb.DataNotFoundException;
+import com.jumptospringboot.sbb.PageCache;
 import com.jumptospringboot.sbb.question.Question;
+import com.jumptospringboot.sbb.question.QuestionRepository;
+import com.jumptospringboot.sbb.question.QuestionSearchService;
 import com.jumptospringboot.sbb.user.SiteUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -18,9 +29,15 @@ import java.util.Optional;
 @RequiredArgsConstructor
 @Service
 public class AnswerService {
+    private static final int PAGE_SIZE = 5; // 페이지당 5개씩
     private final AnswerRepository answerRepository;
+    private final QuestionRepository questionRepository;
+    private final QuestionSearchService questionSearchService;
+    private final PageCache pageCache;
 
     // 답변 데이터 생성
+    // 답변 저장과 질문의 답변 개수 증가를 하나의 트랜잭션으로 처리
+    @Transactional
     public Answer create(Question question, String content, SiteUser author) {
         Answer answer = new Answer();
         answer.setContent(content);
@@ -28,6 +45,10 @@ public class AnswerService {
         answer.setQuestion(question);
         answer.setAuthor(author);
         this.answerRepository.save(answer);
+        this.questionRepository.increaseAnswerCount(question.getId(), 1);
+        question.setAnswerCount(question.getAnswerCount() + 1); // 화면 출력용, DB에는 반영되지 않음
+        this.questionSearchService.index(question.getId()); // 답변 내용도 질문 검색 대상
+        this.pageCache.evictQuestion(question.getId()); // 목록의 답변 개수도 바뀜
 
         return answer;
     }
@@ -43,36 +64,104 @@ public class AnswerService {
     }
 
     // 답변 데이터 수정
+    @Transactional
     public void modify(Answer answer, String content) {
         answer.setContent(content);
         answer.setModifyDate(LocalDateTime.now());
         this.answerRepository.save(answer);
+        this.questionSearchService.index(answer.getQuestion().getId());
+        this.pageCache.evictDetail(answer.getQuestion().getId());
     }
 
     // 답변 데이터 삭제
+    @Transactional
     public void delete(Answer answer) {
         this.answerRepository.delete(answer);
+        this.questionRepository.increaseAnswerCount(answer.getQuestion().getId(), -1);
+        this.questionSearchService.index(answer.getQuestion().getId());
+        this.pageCache.evictQuestion(answer.getQuestion().getId());
     }
 
     // 답변 데이터 추천
-    public void vote(Answer answer, SiteUser siteUser) {
-        answer.getVoter().add(siteUser);
-        this.answerRepository.save(answer);
+    // voter 컬렉션을 불러오지 않고 조인 테이블에 INSERT IGNORE + 추천 개수 증가
+    // 추천 후의 추천 개수를 리턴
+    @Transactional
+    public int vote(Answer answer, SiteUser siteUser) {
+        if (this.answerRepository.insertVoter(answer.getId(), siteUser.getId()) == 1) {
+            this.answerRepository.increaseVoteCount(answer.getId(), 1);
+            this.pageCache.evictDetail(answer.getQuestion().getId());
+        }
+        int voteCount = this.answerRepository.findVoteCountById(answer.getId());
+        answer.setVoteCount(voteCount); // 화면 출력용, DB에는 반영되지 않음
+        return voteCount;
     }
 
     // 특정 질문의 답변들을 페이징과 정렬로 조회
+    // 답변은 Slice 로 한 번만 조회하고, 페이지 번호 출력에 필요한 전체 개수는 question.answerCount 사용 (count 쿼리 X)
     public Page<Answer> getAnswerList(Question question, int page, String sort) {
-        Pageable pageable = PageRequest.of(page, 5); // 페이지당 5개씩
-        
+        Slice<Answer> slice;
+
         if ("recommend".equals(sort)) {
             // 추천순 정렬: 추천수 내림차순, 같으면 최신순
-            return this.answerRepository.findByQuestionOrderByVoteCountDesc(question, pageable);
+            slice = this.answerRepository.findByQuestionOrderByVoteCountDesc(question, PageRequest.of(page, PAGE_SIZE));
         } else {
             // 기본값은 최신순 정렬: 생성일 내림차순
             List<Sort.Order> sorts = new ArrayList<>();
             sorts.add(Sort.Order.desc("createDate"));
-            pageable = PageRequest.of(page, 5, Sort.by(sorts));
-            return this.answerRepository.findByQuestion(question, pageable);
+            sorts.add(Sort.Order.desc("id"));
+            slice = this.answerRepository.findByQuestion(question, PageRequest.of(page, PAGE_SIZE, Sort.by(sorts)));
+        }
+
+        // answerCount 가 실제보다 작더라도(카운터 도입 이전 데이터) 다음 페이지 링크는 나오도록 보정
+        long total = Math.max(question.getAnswerCount(),
+                slice.getPageable().getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0));
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    // 답변 더보기 - cursor(이전에 마지막으로 받은 답변) 다음의 답변 조회
+    // PAGE_SIZE + 1 개를 조회해서 다음 답변이 더 있는지 확인
+    public Slice<Answer> getAnswerListAfter(Question question, String sort, String cursor) {
+        String[] values = cursor.split("_", 2);
+        boolean recommend = "recommend".equals(sort);
+        Integer id;
+        int voteCount = 0;
+        LocalDateTime createDate = null;
+
+        // 커서 해석만 400 으로 바꿈 (조회 중의 DB 오류까지 잘못된 커서로 응답하지 않도록)
+        try {
+            id = Integer.valueOf(values[1]);
+            if (recommend) {
+                voteCount = Integer.parseInt(values[0]);
+            } else {
+                createDate = LocalDateTime.parse(values[0]);
+            }
+        } catch (NumberFormatException | DateTimeParseException | ArrayIndexOutOfBoundsException e) { // 숫자/날짜 형식 오류, '_' 가 없는 경우
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+
+        List<Answer> answers = recommend
+                ? this.answerRepository.findRecommendAfter(question, voteCount, id, Limit.of(PAGE_SIZE + 1))
+                : this.answerRepository.findLatestAfter(question, createDate, id, Limit.of(PAGE_SIZE + 1));
+
+        boolean hasNext = answers.size() > PAGE_SIZE;
+        List<Answer> content = hasNext ? answers.subList(0, PAGE_SIZE) : answers;
+        return new SliceImpl<>(content, Pageable.ofSize(PAGE_SIZE), hasNext);
+    }
+
+    // 답변 더보기에 넘겨 줄 커서
+    // 최신순은 createDate_id, 추천순은 voteCount_id (정렬 기준 + 같은 값일 때 순서를 정하는 id)
+    public String cursorOf(Answer answer, String sort) {
+        if ("recommend".equals(sort)) {
+            return answer.getVoteCount() + "_" + answer.getId();
+        }
+        return answer.getCreateDate() + "_" + answer.getId();
+    }
+
+    // 다음 답변이 있으면 마지막 답변의 커서, 없으면 null
+    public String nextCursorOf(Slice<Answer> slice, String sort) {
+        if (!slice.hasNext() || slice.getContent().isEmpty()) {
+            return null;
         }
+        return cursorOf(slice.getContent().getLast(), sort);
     }
 }
@@ -5,6 +5,7 @@ import com.jumptospringboot.sbb.user.SiteUser;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -13,6 +14,8 @@ import java.util.Set;
 @Getter
 @Setter
 @Entity
+// 목록은 최신순으로 조회하므로 createDate 인덱스 추가
+@Table(indexes = @Index(columnList = "createDate"))
 public class Question {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -38,6 +41,23 @@ public class Question {
 
     private LocalDateTime modifyDate;
 
+    // 추천은 QuestionRepository.insertVoter 에서 조인 테이블에 직접 INSERT 하므로 테이블/컬럼명을 고정
     @ManyToMany
+    @JoinTable(
+            name = "question_voter",
+            joinColumns = @JoinColumn(name = "question_id"),
+            inverseJoinColumns = @JoinColumn(name = "voter_id")
+    )
     Set<SiteUser> voter; // voter 속성값이 서로 중복되지 않도록 하기 위함
+
+    // 답변 개수, 추천 개수를 컬럼으로 따로 저장 => 목록/상세 화면에서 answerList, voter 를 불러오지 않아도 됨
+    // updatable = false: 엔티티 값을 바꿔도 UPDATE 문에 포함되지 않음
+    // 값은 QuestionRepository 의 증감 쿼리로만 변경 (동시에 요청이 와도 누락되지 않도록)
+    @ColumnDefault("0")
+    @Column(updatable = false)
+    private int answerCount;
+
+    @ColumnDefault("0")
+    @Column(updatable = false)
+    private int voteCount;
 }
@@ -61,6 +61,10 @@ public class QuestionController {
         Page<Answer> answerPaging = this.answerService.getAnswerList(question, page, sort);
         model.addAttribute("answerPaging", answerPaging);
         model.addAttribute("sort", sort);
+        // 답변 목록 조각(answer_list.html)에서 사용
+        model.addAttribute("answers", answerPaging.getContent());
+        model.addAttribute("answerPage", answerPaging.getNumber());
+        model.addAttribute("nextCursor", this.answerService.nextCursorOf(answerPaging, sort));
         
         return "question_detail";
     }
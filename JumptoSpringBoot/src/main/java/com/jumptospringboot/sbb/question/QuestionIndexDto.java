@@ -0,0 +1,11 @@
+package com.jumptospringboot.sbb.question;
+
+// 검색 색인에 필요한 질문 데이터만 조회하기 위한 DTO
+// 엔티티 대신 필요한 컬럼만 조회하면 작성자(author)를 따로 불러오지 않아도 됨
+public record QuestionIndexDto(
+        Integer id,
+        String subject,
+        String content,
+        String username
+) {
+}
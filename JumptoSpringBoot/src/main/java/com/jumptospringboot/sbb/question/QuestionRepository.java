@@ -1,21 +1,68 @@
 package com.jumptospringboot.sbb.question;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface QuestionRepository extends JpaRepository<Question, Integer> {
     Question findBySubject(String subject);
     Question findBySubjectAndContent(String subject, String content);
     List<Question> findBySubjectLike(String subject);
 
+    // 목록 화면에서 작성자를 함께 출력하므로 한 번의 조인으로 가져옴
+    @EntityGraph(attributePaths = "author")
     Page<Question> findAll(Pageable pageable);
     // Specification과 Pageable 객체를 사용하여 DB에서 Question 엔티티를 조회한 결과를 페이징하여 반환
+    @EntityGraph(attributePaths = "author")
     Page<Question> findAll(Specification<Question> specification,  Pageable pageable);
 
+    // 검색 색인용 조회 - 작성자가 없는 질문도 포함하도록 left join
+    @Query("select new com.jumptospringboot.sbb.question.QuestionIndexDto(q.id, q.subject, q.content, u.username) " +
+           "from Question q left join q.author u " +
+           "where q.id = :id")
+    Optional<QuestionIndexDto> findIndexDtoById(@Param("id") Integer id);
+
+    // 색인 전체 재생성용 - id 역순으로 lastId 보다 작은 것부터 limit 개씩
+    @Query("select new com.jumptospringboot.sbb.question.QuestionIndexDto(q.id, q.subject, q.content, u.username) " +
+           "from Question q left join q.author u " +
+           "where q.id < :lastId " +
+           "order by q.id desc")
+    List<QuestionIndexDto> findIndexDtosByIdLessThan(@Param("lastId") Integer lastId, Limit limit);
+
+    // 주어진 id 의 질문을 작성자와 함께 조회 (검색 결과 화면용)
+    @EntityGraph(attributePaths = "author")
+    List<Question> findWithAuthorByIdIn(Collection<Integer> ids);
+
+    // 답변 개수 증감 - 읽고 더해서 저장하면 동시에 들어온 요청이 누락되므로 DB에서 바로 더함
+    @Modifying
+    @Query("update Question q set q.answerCount = q.answerCount + :delta where q.id = :id")
+    void increaseAnswerCount(@Param("id") Integer id, @Param("delta") int delta);
+
+    // 추천 개수 증감
+    @Modifying
+    @Query("update Question q set q.voteCount = q.voteCount + :delta where q.id = :id")
+    void increaseVoteCount(@Param("id") Integer id, @Param("delta") int delta);
+
+    // 추천자 추가 - voter 컬렉션을 불러오지 않고 조인 테이블에 바로 INSERT
+    // (question_id, voter_id)가 기본키이므로 이미 추천했으면 무시되고 0을 리턴
+    @Modifying
+    @Query(value = "insert ignore into question_voter (question_id, voter_id) values (:questionId, :voterId)",
+           nativeQuery = true)
+    int insertVoter(@Param("questionId") Integer questionId, @Param("voterId") Long voterId);
+
+    @Query("select q.voteCount from Question q where q.id = :id")
+    int findVoteCountById(@Param("id") Integer id);
+
 
     /*
     @Query는 반드시 테이블 기준이 아닌 엔티티 기준으로 작성
@@ -0,0 +1,295 @@
+package com.jumptospringboot.sbb.question;
+
+import com.jumptospringboot.sbb.answer.AnswerIndexDto;
+import com.jumptospringboot.sbb.answer.AnswerRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+// 질문 검색 색인 (Lucene 내장)
+// 질문 1개가 문서 1개이고, 문서에는 제목, 내용, 답변 내용, 질문/답변 작성자명이 들어감
+// LIKE '%kw%' 검색은 매번 전체 테이블을 읽지만, 색인은 단어 => 문서 목록을 바로 찾음
+// 트랜잭션이 커밋될 때마다 그 트랜잭션의 변경을 반영하고 색인도 커밋함 (비정상 종료 시 유실 방지)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuestionSearchService {
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final String[] SEARCH_FIELDS = {"subject", "content", "answer", "username"};
+    // 제목에서 찾은 결과가 더 위에 오도록 가중치 부여
+    private static final Map<String, Float> SEARCH_FIELD_BOOSTS = Map.of(
+            "subject", 2f,
+            "content", 1f,
+            "answer", 1f,
+            "username", 1f
+    );
+
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+
+    @Value("${custom.search.indexDir}")
+    private String indexDir;
+
+    private Analyzer analyzer;
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+    // 트랜잭션마다 커밋 이후에 반영할 작업 목록을 묶어 두는 키
+    private final Object pendingTasksKey = new Object();
+
+    @PostConstruct
+    public void init() throws IOException {
+        // indexDir 이 비어 있으면(테스트) 메모리에 색인
+        Directory directory = indexDir.isBlank()
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Path.of(indexDir));
+
+        analyzer = new KoreanAnalyzer(); // 한국어 형태소 분석기 (nori)
+        indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close(); // 종료 시 커밋됨
+    }
+
+    // 질문이 등록/수정되었거나 답변이 등록/수정/삭제되었을 때 호출
+    // 커밋된 뒤에 질문과 답변을 다시 읽어서 질문 문서를 통째로 교체
+    // (호출 시점에 읽어 두면 그 뒤에 커밋된 다른 답변 변경을 덮어쓸 수 있음)
+    public void index(Integer questionId) {
+        afterCommit(() -> reindex(questionId));
+    }
+
+    public void delete(Integer questionId) {
+        afterCommit(() -> reindex(questionId)); // 질문이 없으면 문서를 지움
+    }
+
+    // 검색어와 관련도가 높은 순으로 질문 id 를 리턴
+    // 전체 개수는 색인에서 바로 계산하므로 count 쿼리가 필요 없음
+    public Page<Integer> search(String kw, Pageable pageable) {
+        Query query = parseQuery(kw);
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+
+            try {
+                // 색인된 문서 수보다 뒤의 페이지는 검색하지 않음 (offset + pageSize 가 int 범위를 넘는 경우 포함)
+                int numDocs = searcher.getIndexReader().numDocs();
+
+                if (pageable.getOffset() >= numDocs) {
+                    return new PageImpl<>(List.of(), pageable, searcher.count(query));
+                }
+
+                TopDocs topDocs = searcher.search(query, (int) Math.min(pageable.getOffset() + pageable.getPageSize(), numDocs));
+                StoredFields storedFields = searcher.storedFields();
+                List<Integer> ids = new ArrayList<>();
+
+                for (int i = (int) pageable.getOffset(); i < topDocs.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+                    ids.add(Integer.parseInt(storedFields.document(scoreDoc.doc).get("id")));
+                }
+
+                return new PageImpl<>(ids, pageable, searcher.count(query));
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // DB 의 질문, 답변으로 색인을 처음부터 다시 만듦, 색인된 질문 수를 리턴
+    public synchronized long rebuild() {
+        try {
+            indexWriter.deleteAll();
+
+            long count = 0;
+            Integer lastId = Integer.MAX_VALUE;
+
+            while (true) {
+                List<QuestionIndexDto> questions = questionRepository.findIndexDtosByIdLessThan(lastId, Limit.of(REBUILD_BATCH_SIZE));
+                if (questions.isEmpty()) break;
+
+                // 질문 500개의 답변을 한 번에 조회해서 질문별로 묶음
+                Map<Integer, List<AnswerIndexDto>> answersByQuestionId = answerRepository
+                        .findIndexDtosByQuestionIdIn(questions.stream().map(QuestionIndexDto::id).toList())
+                        .stream()
+                        .collect(Collectors.groupingBy(AnswerIndexDto::questionId));
+
+                for (QuestionIndexDto question : questions) {
+                    indexWriter.updateDocument(
+                            idTerm(question.id()),
+                            toDocument(question, answersByQuestionId.getOrDefault(question.id(), List.of()))
+                    );
+                }
+
+                count += questions.size();
+                lastId = questions.getLast().id();
+            }
+
+            indexWriter.commit();
+            searcherManager.maybeRefreshBlocking();
+
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 애플리케이션 시작 시 색인 문서 수가 질문 수와 다르면(색인 삭제, 비정상 종료 등) 다시 만듦
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfOutOfSync() {
+        if (indexWriter.getDocStats().numDocs == questionRepository.count()) {
+            return;
+        }
+
+        log.info("질문 검색 색인 재생성: {}건", rebuild());
+    }
+
+    private Query parseQuery(String kw) {
+        if (kw == null || kw.isBlank()) {
+            return new MatchNoDocsQuery();
+        }
+
+        // 쿼리 파서는 스레드 안전하지 않으므로 매번 생성
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(SEARCH_FIELDS, analyzer, SEARCH_FIELD_BOOSTS);
+        // 검색어의 단어가 모두 들어간 질문만 찾음 (LIKE 검색과 비슷한 결과)
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+
+        try {
+            // escape: 검색어에 들어간 +, -, * 같은 특수문자를 일반 문자로 취급
+            return parser.parse(QueryParser.escape(kw));
+        } catch (ParseException e) {
+            return new MatchNoDocsQuery();
+        }
+    }
+
+    // 롤백된 변경이 색인에 남지 않도록 트랜잭션이 커밋된 뒤에 반영
+    // 한 트랜잭션의 작업은 모아서 실행하고 색인 커밋은 한 번만 함
+    @SuppressWarnings("unchecked")
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyAndCommit(List.of(task));
+            return;
+        }
+
+        List<Runnable> tasks = (List<Runnable>) TransactionSynchronizationManager.getResource(pendingTasksKey);
+
+        if (tasks == null) {
+            List<Runnable> pendingTasks = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(pendingTasksKey, pendingTasks);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyAndCommit(pendingTasks);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(pendingTasksKey);
+                }
+            });
+            tasks = pendingTasks;
+        }
+
+        tasks.add(task);
+    }
+
+    private void applyAndCommit(List<Runnable> tasks) {
+        tasks.forEach(Runnable::run);
+
+        try {
+            indexWriter.commit();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 읽기와 색인 교체를 한 번에 하나씩만 실행
+    // => 나중에 시작한 reindex 가 항상 더 최신 상태를 읽고 마지막에 씀
+    private synchronized void reindex(Integer questionId) {
+        try {
+            Optional<QuestionIndexDto> question = questionRepository.findIndexDtoById(questionId);
+
+            if (question.isEmpty()) {
+                indexWriter.deleteDocuments(idTerm(questionId));
+                return;
+            }
+
+            indexWriter.updateDocument(
+                    idTerm(questionId),
+                    toDocument(question.get(), answerRepository.findIndexDtosByQuestionIdIn(List.of(questionId)))
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Term idTerm(Integer questionId) {
+        return new Term("id", String.valueOf(questionId));
+    }
+
+    private Document toDocument(QuestionIndexDto question, List<AnswerIndexDto> answers) {
+        Document document = new Document();
+        document.add(new StringField("id", String.valueOf(question.id()), Field.Store.YES));
+        document.add(new TextField("subject", nullToEmpty(question.subject()), Field.Store.NO));
+        document.add(new TextField("content", nullToEmpty(question.content()), Field.Store.NO));
+        document.add(new TextField("username", nullToEmpty(question.username()), Field.Store.NO));
+
+        // 같은 이름의 필드를 여러 번 추가하면 하나의 필드처럼 검색됨
+        for (AnswerIndexDto answer : answers) {
+            document.add(new TextField("answer", nullToEmpty(answer.content()), Field.Store.NO));
+            document.add(new TextField("username", nullToEmpty(answer.username()), Field.Store.NO));
+        }
+
+        return document;
+    }
+
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -1,21 +1,24 @@
 package com.jumptospringboot.sbb.question;
 
 import com.jumptospringboot.sbb.DataNotFoundException;
-import com.jumptospringboot.sbb.answer.Answer;
+import com.jumptospringboot.sbb.PageCache;
 import com.jumptospringboot.sbb.user.SiteUser;
-import jakarta.persistence.criteria.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 // 서비스가 필요한 이유
 // 1. 복잡한 코드를 모듈화할 수 있음
@@ -26,6 +29,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class QuestionService {
     private final QuestionRepository questionRepository;
+    private final QuestionSearchService questionSearchService;
+    private final PageCache pageCache;
 
     // 질문 목록 데이터를 조회하여 리턴 => 원래 Repository에서 하던 일
 //    public List<Question> getList() {
@@ -34,14 +39,30 @@ public class QuestionService {
 
     // 페이징
     public Page<Question> getList(int page, String kw) {
+        page = Math.max(page, 0); // 음수 페이지는 첫 페이지로
         // 최신순(역순)으로 데이터 조회
         // sort.add 메서드를 통해 정렬 조건 추가 가능
         // desc 내림차순, asc 오름차순
         List<Sort.Order> sorts = new ArrayList<>();
         sorts.add(Sort.Order.desc("createDate"));
         Pageable pageable = PageRequest.of(page, 10, Sort.by(sorts)); // PageRequest.of(page, 10) => page는 조회할 페이지의 번호, 10은 한 페이지에 보여 줄 게시물 개수
-        Specification<Question> spec = search(kw); // 검색어를 의미하는 매개변수 kw
-        return this.questionRepository.findAll(spec, pageable);
+        // 검색어가 없으면 답변 조인(distinct) 없이 질문 + 작성자만 조회
+        if (kw == null || kw.isBlank()) {
+            return this.questionRepository.findAll(pageable);
+        }
+        // 검색어가 있으면 검색 색인에서 관련도 순으로 질문 id 를 찾은 뒤 해당 질문만 조회
+        // 이전에는 Specification 으로 작성자/답변/답변 작성자를 LEFT JOIN 하고 LIKE '%kw%' 5개를 OR 로 검색 => 매번 전체 스캔
+        Page<Integer> idPaging = this.questionSearchService.search(kw, pageable);
+        Map<Integer, Question> questions = this.questionRepository.findWithAuthorByIdIn(idPaging.getContent())
+                .stream()
+                .collect(Collectors.toMap(Question::getId, question -> question));
+        // IN 조회는 순서를 보장하지 않으므로 색인의 순서대로 다시 정렬
+        // 색인에 반영되기 직전에 삭제된 질문은 건너뜀
+        List<Question> content = idPaging.getContent().stream()
+                .map(questions::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, idPaging.getTotalElements());
     }
 
     // 상세 페이지에 서비스 활용
@@ -57,6 +78,8 @@ public class QuestionService {
     }
 
     // 질문 데이터 저장
+    // 질문 저장과 색인/페이지 캐시 반영(커밋 이후)을 하나의 트랜잭션으로 묶음
+    @Transactional
     public void create(String subject, String content, SiteUser user) {
         Question question = new Question();
         question.setSubject(subject);
@@ -64,57 +87,41 @@ public class QuestionService {
         question.setCreateDate(LocalDateTime.now());
         question.setAuthor(user);
         this.questionRepository.save(question);
+        this.questionSearchService.index(question.getId());
+        this.pageCache.evictQuestion(question.getId());
     }
 
     // 질문 서비스 수정
+    @Transactional
     public void modify(Question question, String subject, String content) {
         question.setSubject(subject);
         question.setContent(content);
         question.setModifyDate(LocalDateTime.now());
         this.questionRepository.save(question);
+        this.questionSearchService.index(question.getId());
+        this.pageCache.evictQuestion(question.getId());
     }
 
     // 질문 삭제 가능
+    @Transactional
     public void delete(Question question) {
         this.questionRepository.delete(question);
+        this.questionSearchService.delete(question.getId());
+        this.pageCache.evictQuestion(question.getId());
     }
 
     // 추천 기능
-    public void vote(Question question, SiteUser siteUser) {
-        question.getVoter().add(siteUser);
-        this.questionRepository.save(question);
-    }
-
-    // 검색 기능 - 제목, 내용, 질문작성자, 답변내용, 답변작성자를 OR 조건으로 검색
-    private Specification<Question> search(String kw) {
-        return new Specification<>() {
-            private static final long serialVersionUID = 1L;
-
-            @Override
-            public Predicate toPredicate(Root<Question> questionRoot, CriteriaQuery<?> query, CriteriaBuilder cb) {
-                query.distinct(true); // 중복 결과 제거 (JOIN으로 인한 중복 방지)
-
-                // u1: Question 엔티티와 SiteUser(질문 작성자) 엔티티를 LEFT JOIN
-                // Question의 author 속성을 통해 연결
-                Join<Question, SiteUser> u1 = questionRoot.join("author", JoinType.LEFT);
-
-                // answerJoin: Question 엔티티와 Answer 엔티티를 LEFT JOIN
-                // Question의 answerList 속성을 통해 연결 (1:N 관계)
-                Join<Question, Answer> answerJoin = questionRoot.join("answerList", JoinType.LEFT);
-
-                // u2: Answer 엔티티와 SiteUser(답변 작성자) 엔티티를 LEFT JOIN
-                // Answer의 author 속성을 통해 연결
-                Join<Answer, SiteUser> u2 = answerJoin.join("author", JoinType.LEFT);
-
-                // OR 조건으로 여러 필드에서 키워드 검색 (하나라도 일치하면 결과에 포함)
-                return cb.or(
-                        cb.like(questionRoot.get("subject"), "%" + kw + "%"),    // 질문 제목에서 검색
-                        cb.like(questionRoot.get("content"), "%" + kw + "%"),    // 질문 내용에서 검색
-                        cb.like(u1.get("username"), "%" + kw + "%"),            // 질문 작성자명에서 검색
-                        cb.like(answerJoin.get("content"), "%" + kw + "%"),      // 답변 내용에서 검색
-                        cb.like(u2.get("username"), "%" + kw + "%")             // 답변 작성자명에서 검색
-                );
-            }
-        };
+    // voter 컬렉션(추천자 전체)을 불러와서 add 하지 않고 조인 테이블에 INSERT IGNORE + 추천 개수 증가
+    // 이미 추천한 사용자면 아무것도 바뀌지 않음, 동시에 추천해도 누락/중복 없음
+    // 추천 후의 추천 개수를 리턴
+    @Transactional
+    public int vote(Question question, SiteUser siteUser) {
+        if (this.questionRepository.insertVoter(question.getId(), siteUser.getId()) == 1) {
+            this.questionRepository.increaseVoteCount(question.getId(), 1);
+            this.pageCache.evictDetail(question.getId());
+        }
+        int voteCount = this.questionRepository.findVoteCountById(question.getId());
+        question.setVoteCount(voteCount); // 화면 출력용, DB에는 반영되지 않음
+        return voteCount;
     }
 }
@@ -0,0 +1,86 @@
+package com.jumptospringboot.sbb.seed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+// 시드 데이터 생성/적재 명령
+// 생성: ./gradlew bootRun --args='--seed.generate=build/seed --seed.users=10000 --seed.questions=1000000'
+// 적재: ./gradlew bootRun --args='--seed.import=build/seed'
+// 둘을 같이 주면 생성 후 바로 적재, 끝나면 애플리케이션을 종료함
+// 질문 검색 색인은 다음 실행 시 QuestionSearchService.rebuildIfOutOfSync 에서 다시 만들어짐
+// 생성되는 사용자의 비밀번호는 모두 1234
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeedCommand implements ApplicationRunner {
+    private final SeedImporter seedImporter;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${seed.generate:}")
+    private String generateDir;
+
+    @Value("${seed.import:}")
+    private String importDir;
+
+    @Value("${seed.format:ndjson}")
+    private String format;
+
+    @Value("${seed.prefix:seed}")
+    private String prefix;
+
+    @Value("${seed.users:1000}")
+    private int users;
+
+    @Value("${seed.questions:10000}")
+    private int questions;
+
+    @Value("${seed.answers-per-question:3}")
+    private double answersPerQuestion;
+
+    @Value("${seed.votes-per-question:2}")
+    private double votesPerQuestion;
+
+    @Value("${seed.votes-per-answer:1}")
+    private double votesPerAnswer;
+
+    @Value("${seed.random-seed:42}")
+    private long randomSeed;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (generateDir.isBlank() && importDir.isBlank()) {
+            return;
+        }
+
+        if (!generateDir.isBlank()) {
+            SeedGenerator.Options options = new SeedGenerator.Options(
+                    prefix, users, questions, answersPerQuestion, votesPerQuestion, votesPerAnswer, randomSeed,
+                    SeedFormat.valueOf(format.toUpperCase())
+            );
+            Map<SeedTable, Long> counts = new SeedGenerator(options, passwordEncoder.encode("1234"))
+                    .generate(Path.of(generateDir));
+
+            log.info("시드 생성 완료: {} => {}", counts, Path.of(generateDir).toAbsolutePath());
+        }
+
+        if (!importDir.isBlank()) {
+            long startedAt = System.nanoTime();
+            Map<SeedTable, Long> counts = seedImporter.importDir(Path.of(importDir));
+
+            log.info("시드 적재 완료: {}, {}초", counts, (System.nanoTime() - startedAt) / 1_000_000_000);
+        }
+
+        System.exit(SpringApplication.exit(context));
+    }
+}
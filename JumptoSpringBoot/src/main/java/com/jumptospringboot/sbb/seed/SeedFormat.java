@@ -0,0 +1,224 @@
+package com.jumptospringboot.sbb.seed;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+// 시드 파일 형식
+// NDJSON: 한 줄에 JSON 객체 1개
+// CSV: 첫 줄은 필드명, 값에 쉼표/따옴표/줄바꿈이 있으면 큰따옴표로 감쌈 (RFC 4180)
+// 둘 다 한 줄(행)씩 읽고 쓰므로 파일 크기와 상관없이 메모리를 거의 쓰지 않음
+public enum SeedFormat {
+    NDJSON("ndjson") {
+        @Override
+        public Reader reader(Path path) throws IOException {
+            MappingIterator<Map<String, Object>> iterator = OBJECT_MAPPER
+                    .readerForMapOf(Object.class)
+                    .readValues(Files.newBufferedReader(path, StandardCharsets.UTF_8));
+
+            return new Reader() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Map<String, Object> next() {
+                    return iterator.next();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    iterator.close();
+                }
+            };
+        }
+
+        @Override
+        public Writer writer(Path path, List<String> fields) throws IOException {
+            SequenceWriter sequenceWriter = OBJECT_MAPPER.writer()
+                    .withRootValueSeparator("\n")
+                    .writeValues(Files.newBufferedWriter(path, StandardCharsets.UTF_8));
+
+            return new Writer() {
+                @Override
+                public void write(Map<String, Object> row) throws IOException {
+                    sequenceWriter.write(row);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    sequenceWriter.close();
+                }
+            };
+        }
+    },
+    CSV("csv") {
+        @Override
+        public Reader reader(Path path) throws IOException {
+            return new CsvReader(Files.newBufferedReader(path, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Writer writer(Path path, List<String> fields) throws IOException {
+            BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+            writer.write(String.join(",", fields));
+            writer.write('\n');
+
+            return new Writer() {
+                @Override
+                public void write(Map<String, Object> row) throws IOException {
+                    for (int i = 0; i < fields.size(); i++) {
+                        if (i > 0) writer.write(',');
+                        Object value = row.get(fields.get(i));
+                        if (value != null) writer.write(quote(value.toString()));
+                    }
+                    writer.write('\n');
+                }
+
+                @Override
+                public void close() throws IOException {
+                    writer.close();
+                }
+            };
+        }
+    };
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public interface Reader extends Iterator<Map<String, Object>>, Closeable {
+    }
+
+    public interface Writer extends Closeable {
+        void write(Map<String, Object> row) throws IOException;
+    }
+
+    private final String extension;
+
+    SeedFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public Path path(Path dir, SeedTable table) {
+        return dir.resolve(table.fileName() + "." + extension);
+    }
+
+    public abstract Reader reader(Path path) throws IOException;
+
+    public abstract Writer writer(Path path, List<String> fields) throws IOException;
+
+    private static String quote(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    // 빈 값은 null 로 읽음
+    private static class CsvReader implements Reader {
+        private final BufferedReader reader;
+        private final List<String> header;
+        private List<String> nextRecord;
+
+        CsvReader(BufferedReader reader) throws IOException {
+            this.reader = reader;
+            this.header = readRecord();
+            this.nextRecord = header == null ? null : readRecord();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextRecord != null;
+        }
+
+        @Override
+        public Map<String, Object> next() {
+            if (nextRecord == null) {
+                throw new NoSuchElementException();
+            }
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < header.size() && i < nextRecord.size(); i++) {
+                String value = nextRecord.get(i);
+                row.put(header.get(i), value.isEmpty() ? null : value);
+            }
+
+            try {
+                nextRecord = readRecord();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            return row;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+
+        // 행 1개를 읽음, 따옴표 안의 줄바꿈은 값에 포함, 파일 끝이면 null
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+
+            List<String> record = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IOException("CSV 따옴표가 닫히지 않았습니다.");
+                    }
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            value.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        value.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    record.add(value.toString());
+                    value.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    break;
+                } else if (c != '\r') {
+                    value.append((char) c);
+                }
+
+                c = reader.read();
+            }
+
+            record.add(value.toString());
+            return record;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.jumptospringboot.sbb.seed;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+// 성능 측정용 가짜 데이터를 시드 파일로 생성
+// - 질문 작성일은 최근 1년에 고르게 퍼져 있고 id 가 클수록 최신
+// - 질문/답변 작성자는 일부 사용자에게 몰림 (글을 많이 쓰는 사람은 소수)
+// - 질문당 답변 수, 추천 수는 평균값을 갖는 기하분포 (대부분 적고 가끔 많음)
+// randomSeed 가 같으면 같은 데이터가 만들어짐 (작성일 제외)
+public class SeedGenerator {
+    private static final int MAX_ANSWERS_PER_QUESTION = 200;
+    private static final Duration PERIOD = Duration.ofDays(365);
+
+    private static final List<String> TOPICS = List.of(
+            "스프링 부트", "JPA", "타임리프", "스프링 시큐리티", "H2 데이터베이스", "MySQL", "롬복", "그레이들",
+            "페이징", "트랜잭션", "엔티티 매핑", "N+1 문제", "REST API", "세션", "마크다운", "검색", "캐시", "인덱스"
+    );
+    private static final List<String> QUESTION_PATTERNS = List.of(
+            "%s 설정은 어떻게 하나요?", "%s 사용 중 오류가 발생합니다", "%s 관련 질문입니다", "%s 를 적용하는 방법이 궁금합니다",
+            "%s 성능이 느린 이유가 뭘까요?", "%s 예제 코드가 동작하지 않아요", "%s 와 다른 방법의 차이점"
+    );
+    private static final List<String> SENTENCES = List.of(
+            "책에 나온 대로 따라 했는데 결과가 다르게 나옵니다.",
+            "로컬에서는 잘 되는데 서버에 올리면 문제가 생깁니다.",
+            "공식 문서를 찾아봤지만 잘 이해가 되지 않습니다.",
+            "설정 파일을 여러 번 확인했는데 오타는 없었습니다.",
+            "데이터가 많아지면 화면이 점점 느려집니다.",
+            "비슷한 질문을 검색해 봤지만 버전이 달라서 적용이 안 됩니다.",
+            "로그를 보면 쿼리가 여러 번 실행되는 것 같습니다.",
+            "어떤 방법이 더 좋은지 의견을 듣고 싶습니다."
+    );
+    private static final List<String> ANSWER_SENTENCES = List.of(
+            "의존성 버전을 먼저 확인해 보세요.",
+            "설정에서 해당 옵션을 켜면 해결됩니다.",
+            "저도 같은 문제가 있었는데 캐시를 지우니 해결되었습니다.",
+            "fetch join 이나 @EntityGraph 를 사용해 보세요.",
+            "트랜잭션 범위를 확인해 보시면 좋을 것 같습니다.",
+            "인덱스를 추가하면 훨씬 빨라집니다.",
+            "공식 문서의 예제를 참고하세요."
+    );
+    private static final List<String> CODE_SNIPPETS = List.of(
+            "```java\n@Transactional\npublic void save() {\n}\n```",
+            "```yaml\nspring:\n  jpa:\n    show-sql: true\n```",
+            "```sql\nselect * from question order by create_date desc;\n```"
+    );
+
+    public record Options(
+            String prefix, // 사용자명/이메일 앞부분, 이미 있는 사용자와 겹치지 않도록 실행마다 다르게 지정
+            int users,
+            int questions,
+            double answersPerQuestion,
+            double votesPerQuestion,
+            double votesPerAnswer,
+            long randomSeed,
+            SeedFormat format
+    ) {
+    }
+
+    private final Options options;
+    // 모든 사용자가 같은 비밀번호를 사용 (BCrypt 를 사용자 수만큼 계산하지 않기 위함)
+    private final String encodedPassword;
+    private final Random random;
+
+    public SeedGenerator(Options options, String encodedPassword) {
+        this.options = options;
+        this.encodedPassword = encodedPassword;
+        this.random = new Random(options.randomSeed());
+    }
+
+    // 테이블별로 생성한 행 수를 리턴
+    public Map<SeedTable, Long> generate(Path dir) throws IOException {
+        Files.createDirectories(dir);
+
+        Map<SeedTable, SeedFormat.Writer> writers = new EnumMap<>(SeedTable.class);
+        Map<SeedTable, Long> counts = new EnumMap<>(SeedTable.class);
+
+        try {
+            for (SeedTable table : SeedTable.values()) {
+                writers.put(table, options.format().writer(options.format().path(dir, table), table.fields()));
+                counts.put(table, 0L);
+            }
+
+            for (long userId = 1; userId <= options.users(); userId++) {
+                write(writers, counts, SeedTable.USER, row(
+                        "id", userId,
+                        "username", options.prefix() + userId,
+                        "email", options.prefix() + userId + "@example.com",
+                        "password", encodedPassword
+                ));
+            }
+
+            LocalDateTime end = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+            LocalDateTime start = end.minus(PERIOD);
+            long answerId = 0;
+
+            for (long questionId = 1; questionId <= options.questions(); questionId++) {
+                LocalDateTime questionDate = start.plusSeconds(PERIOD.toSeconds() * (questionId - 1) / options.questions());
+                String topic = pick(TOPICS);
+                // 답변 수, 추천 수를 먼저 정해서 질문 행에 같이 기록 => 적재 후 다시 계산하지 않아도 됨
+                int answers = Math.min(geometric(options.answersPerQuestion()), MAX_ANSWERS_PER_QUESTION);
+                Set<Long> questionVoters = voters(options.votesPerQuestion());
+
+                write(writers, counts, SeedTable.QUESTION, row(
+                        "id", questionId,
+                        "subject", pick(QUESTION_PATTERNS).formatted(topic),
+                        "content", content(SENTENCES, 2 + random.nextInt(4)),
+                        "createDate", questionDate.toString(),
+                        "authorId", author(),
+                        "answerCount", answers,
+                        "voteCount", questionVoters.size()
+                ));
+
+                for (long voterId : questionVoters) {
+                    write(writers, counts, SeedTable.QUESTION_VOTER, row("questionId", questionId, "voterId", voterId));
+                }
+
+                LocalDateTime answerDate = questionDate;
+
+                for (int i = 0; i < answers; i++) {
+                    answerId++;
+                    // 답변은 질문 이후에 몇 시간 간격으로 달림
+                    answerDate = answerDate.plusMinutes(1 + random.nextInt(60 * 12));
+                    if (answerDate.isAfter(end)) answerDate = end;
+                    Set<Long> answerVoters = voters(options.votesPerAnswer());
+
+                    write(writers, counts, SeedTable.ANSWER, row(
+                            "id", answerId,
+                            "questionId", questionId,
+                            "content", content(ANSWER_SENTENCES, 1 + random.nextInt(3)),
+                            "createDate", answerDate.toString(),
+                            "authorId", author(),
+                            "voteCount", answerVoters.size()
+                    ));
+
+                    for (long voterId : answerVoters) {
+                        write(writers, counts, SeedTable.ANSWER_VOTER, row("answerId", answerId, "voterId", voterId));
+                    }
+                }
+            }
+        } finally {
+            for (SeedFormat.Writer writer : writers.values()) {
+                writer.close();
+            }
+        }
+
+        return counts;
+    }
+
+    private void write(Map<SeedTable, SeedFormat.Writer> writers, Map<SeedTable, Long> counts, SeedTable table,
+                       Map<String, Object> row) throws IOException {
+        writers.get(table).write(row);
+        counts.merge(table, 1L, Long::sum);
+    }
+
+    // 세제곱을 하면 작은 값이 훨씬 자주 나옴 => 앞쪽 사용자가 글을 많이 씀
+    private long author() {
+        return 1 + (long) (options.users() * Math.pow(random.nextDouble(), 3));
+    }
+
+    // 서로 다른 추천자 목록
+    private Set<Long> voters(double mean) {
+        int count = Math.min(geometric(mean), options.users());
+        Set<Long> voters = new HashSet<>();
+
+        while (voters.size() < count) {
+            voters.add(1 + (long) random.nextInt(options.users()));
+        }
+
+        return voters;
+    }
+
+    // 평균이 mean 인 기하분포 (0, 1, 2, ...)
+    private int geometric(double mean) {
+        if (mean <= 0) {
+            return 0;
+        }
+
+        double p = 1 / (1 + mean);
+        return (int) Math.floor(Math.log(1 - random.nextDouble()) / Math.log(1 - p));
+    }
+
+    // 문장 몇 개를 이어 붙인 마크다운, 가끔 코드 블록 포함
+    private String content(List<String> sentences, int count) {
+        StringBuilder content = new StringBuilder();
+
+        for (int i = 0; i < count; i++) {
+            if (i > 0) content.append(' ');
+            content.append(pick(sentences));
+        }
+
+        if (random.nextInt(4) == 0) {
+            content.append("\n\n").append(pick(CODE_SNIPPETS));
+        }
+
+        return content.toString();
+    }
+
+    private <T> T pick(List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static Map<String, Object> row(Object... keyValues) {
+        Map<String, Object> row = new LinkedHashMap<>();
+
+        for (int i = 0; i < keyValues.length; i += 2) {
+            row.put((String) keyValues[i], keyValues[i + 1]);
+        }
+
+        return row;
+    }
+}
@@ -0,0 +1,300 @@
+package com.jumptospringboot.sbb.seed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// 시드 파일(NDJSON/CSV)을 JDBC 배치 INSERT 로 적재
+// QuestionService.create 처럼 한 건씩 save 하면 IDENTITY 때문에 INSERT 가 1건씩 실행되어 수백만 건에 몇 시간이 걸림
+// 1. id 선할당: 테이블별로 (현재 최대 id + 1 ~ 파일의 최대 id 만큼)을 미리 확보하고 AUTO_INCREMENT 를 그 뒤로 옮김
+//    => 파일의 id 에 확보한 범위의 시작값을 더해서 직접 INSERT, 확보한 뒤에 앱이 INSERT 하는 행은 범위 뒤의 id 를 받음
+//    (확보하는 도중에 INSERT 된 행은 reserveIds 에서 다시 확인)
+// 2. 같은 stage 의 테이블은 각자 커넥션을 하나씩 잡고 동시에 적재
+// 3. 답변 수, 추천 수는 파일(SeedGenerator 가 미리 계산)의 값을 그대로 INSERT
+//    파일에 없거나 기존 질문/답변에 답변/추천만 추가한 경우에만 적재 후에 다시 계산 (UPDATE 는 INSERT 보다 훨씬 느림)
+// MySQL 에서는 JDBC URL 에 rewriteBatchedStatements=true 를 주어야 배치가 INSERT 한 문장으로 합쳐짐
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeedImporter {
+    private static final int BATCH_SIZE = 1000;
+    private static final int COUNTER_CHUNK_SIZE = 10_000;
+    private static final int MAX_RESERVE_ATTEMPTS = 10;
+
+    private final DataSource dataSource;
+
+    // 테이블별로 적재한 행 수를 리턴, 디렉터리에 없는 파일(테이블)은 건너뜀
+    public Map<SeedTable, Long> importDir(Path dir) throws IOException, SQLException, InterruptedException {
+        Map<SeedTable, Path> files = new EnumMap<>(SeedTable.class);
+        Map<SeedTable, SeedFormat> formats = new EnumMap<>(SeedTable.class);
+
+        for (SeedTable table : SeedTable.values()) {
+            for (SeedFormat format : SeedFormat.values()) {
+                Path path = format.path(dir, table);
+                if (Files.exists(path)) {
+                    files.put(table, path);
+                    formats.put(table, format);
+                }
+            }
+        }
+
+        if (files.isEmpty()) {
+            throw new IllegalArgumentException("시드 파일이 없습니다: " + dir.toAbsolutePath());
+        }
+
+        // 파일이 없는 테이블을 가리키는 id 는 이미 DB 에 있는 행이므로 그대로 사용 (0 을 더함)
+        Map<SeedTable.ColumnType, Long> idBases = new EnumMap<>(SeedTable.ColumnType.class);
+        for (SeedTable.ColumnType type : SeedTable.ColumnType.values()) {
+            if (type.isId()) idBases.put(type, 0L);
+        }
+
+        for (SeedTable table : files.keySet()) {
+            if (table.idType() != null) {
+                idBases.put(table.idType(), reserveIds(table, maxFileId(formats.get(table), files.get(table))));
+            }
+        }
+
+        Map<SeedTable, Long> counts = new EnumMap<>(SeedTable.class);
+        Set<SeedTable> countersMissing = ConcurrentHashMap.newKeySet();
+        int maxStage = Arrays.stream(SeedTable.values()).mapToInt(SeedTable::stage).max().orElse(0);
+        ExecutorService executor = Executors.newFixedThreadPool(SeedTable.values().length);
+
+        try {
+            for (int stage = 1; stage <= maxStage; stage++) {
+                Map<SeedTable, Future<Long>> futures = new EnumMap<>(SeedTable.class);
+
+                for (SeedTable table : files.keySet()) {
+                    if (table.stage() != stage) continue;
+
+                    Callable<Long> task = () -> load(table, formats.get(table), files.get(table), idBases, countersMissing);
+                    futures.put(table, executor.submit(task));
+                }
+
+                for (Map.Entry<SeedTable, Future<Long>> entry : futures.entrySet()) {
+                    counts.put(entry.getKey(), get(entry.getValue()));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        updateCounters(files.keySet(), countersMissing, idBases);
+
+        return counts;
+    }
+
+    // 테이블 1개 적재, BATCH_SIZE 건마다 executeBatch + commit
+    private long load(SeedTable table, SeedFormat format, Path path, Map<SeedTable.ColumnType, Long> idBases,
+                      Set<SeedTable> countersMissing) throws IOException, SQLException {
+        long startedAt = System.nanoTime();
+        long count = 0;
+
+        try (SeedFormat.Reader reader = format.reader(path);
+             Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(table.insertSql())) {
+            connection.setAutoCommit(false);
+
+            while (reader.hasNext()) {
+                Map<String, Object> row = reader.next();
+                List<SeedTable.Column> columns = table.columns();
+
+                for (int i = 0; i < columns.size(); i++) {
+                    SeedTable.Column column = columns.get(i);
+                    Object value = row.get(column.field());
+
+                    if (column.type() == SeedTable.ColumnType.COUNT && value == null) {
+                        countersMissing.add(table);
+                        value = 0;
+                    }
+
+                    bind(statement, i + 1, column, value, idBases);
+                }
+
+                statement.addBatch();
+
+                if (++count % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+
+            statement.executeBatch();
+            connection.commit();
+        }
+
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        log.info("시드 적재: {} {}건, {}초, 초당 {}건", table.tableName(), count,
+                String.format("%.1f", seconds), String.format("%.0f", count / Math.max(seconds, 0.001)));
+
+        return count;
+    }
+
+    private void bind(PreparedStatement statement, int index, SeedTable.Column column, Object value,
+                      Map<SeedTable.ColumnType, Long> idBases) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, column.type().sqlType());
+            return;
+        }
+
+        switch (column.type()) {
+            case TEXT -> statement.setString(index, value.toString());
+            case DATETIME -> statement.setObject(index, LocalDateTime.parse(value.toString()));
+            case COUNT -> statement.setInt(index, (int) toLong(value));
+            default -> statement.setLong(index, toLong(value) + idBases.get(column.type()));
+        }
+    }
+
+    // 파일에서 가장 큰 id (id 만 읽으므로 적재보다 훨씬 빠름)
+    private long maxFileId(SeedFormat format, Path path) throws IOException {
+        long max = 0;
+
+        try (SeedFormat.Reader reader = format.reader(path)) {
+            while (reader.hasNext()) {
+                Object id = reader.next().get("id");
+                if (id == null) {
+                    throw new IllegalArgumentException("id 가 없는 행이 있습니다: " + path);
+                }
+                max = Math.max(max, toLong(id));
+            }
+        }
+
+        return max;
+    }
+
+    // (현재 최대 id, 현재 최대 id + count] 범위를 확보하고 범위의 시작값 - 1 을 리턴
+    // 최대 id 조회와 AUTO_INCREMENT 변경은 원자적이지 않음 (MySQL, H2 모두 ALTER 가 바로 커밋되므로 한 트랜잭션으로 묶을 수 없음)
+    // => 그 사이에 앱이 INSERT 하면 그 행의 id 가 확보한 범위 안에 들어감
+    //    ALTER 이후에는 새 id 가 범위 뒤에서 발급되므로, ALTER 후에 최대 id 를 다시 읽어서 바뀌었으면 처음부터 다시 확보
+    //    그 사이에 INSERT 하고 아직 커밋하지 않은 행은 다시 읽어도 보이지 않음
+    //    => 이 경우에는 적재할 때 기본키가 겹쳐서 적재가 실패함 (기존 행과 시드 행이 섞이지는 않음)
+    private long reserveIds(SeedTable table, long count) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            String product = connection.getMetaData().getDatabaseProductName();
+            // 풀 설정에 따라 autocommit 일 수 있음 (MySQL 드라이버는 autocommit 상태에서 commit 하면 예외)
+            // 다른 적재 메서드처럼 끄고 직접 commit => 다시 읽는 최대 id 는 새 트랜잭션에서 읽음
+            connection.setAutoCommit(false);
+
+            for (int attempt = 1; attempt <= MAX_RESERVE_ATTEMPTS; attempt++) {
+                long base = maxId(statement, table);
+                long next = base + count + 1;
+
+                // DDL 에는 바인딩 변수를 쓸 수 없으므로 숫자를 직접 넣음
+                if (product.equals("MySQL") || product.equals("MariaDB")) {
+                    statement.execute("alter table " + table.tableName() + " auto_increment = " + next);
+                } else {
+                    statement.execute("alter table " + table.tableName() + " alter column id restart with " + next);
+                }
+
+                connection.commit();
+
+                if (maxId(statement, table) == base) {
+                    log.info("시드 id 확보: {} {} ~ {}", table.tableName(), base + 1, base + count);
+                    return base;
+                }
+
+                log.info("시드 id 확보 중 {} 에 행이 추가되어 다시 확보 ({}번째)", table.tableName(), attempt);
+            }
+
+            throw new IllegalStateException("시드 id 를 확보하지 못했습니다: " + table.tableName());
+        }
+    }
+
+    private long maxId(Statement statement, SeedTable table) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery("select coalesce(max(id), 0) from " + table.tableName())) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    // 답변 수, 추천 수 컬럼을 다시 계산
+    // 파일이 없는 부모 테이블(예: 기존 질문에 답변만 적재)은 base 가 0 이므로 전체를 다시 계산
+    // 한 트랜잭션으로 수십만 건을 UPDATE 하면 매우 느리므로 id 구간별로 나눠서 커밋하고, 값이 바뀌는 행만 UPDATE
+    private void updateCounters(Set<SeedTable> loaded, Set<SeedTable> countersMissing,
+                                Map<SeedTable.ColumnType, Long> idBases) throws SQLException {
+        boolean questionCounters = loaded.contains(SeedTable.QUESTION)
+                ? countersMissing.contains(SeedTable.QUESTION)
+                : loaded.contains(SeedTable.ANSWER) || loaded.contains(SeedTable.QUESTION_VOTER);
+        boolean answerCounters = loaded.contains(SeedTable.ANSWER)
+                ? countersMissing.contains(SeedTable.ANSWER)
+                : loaded.contains(SeedTable.ANSWER_VOTER);
+
+        if (questionCounters) {
+            updateInChunks("question", idBases.get(SeedTable.ColumnType.QUESTION_ID), """
+                    update question q
+                    set answer_count = (select count(*) from answer a where a.question_id = q.id),
+                        vote_count = (select count(*) from question_voter v where v.question_id = q.id)
+                    where q.id > ? and q.id <= ?
+                      and (q.answer_count <> (select count(*) from answer a where a.question_id = q.id)
+                        or q.vote_count <> (select count(*) from question_voter v where v.question_id = q.id))
+                    """);
+        }
+
+        if (answerCounters) {
+            updateInChunks("answer", idBases.get(SeedTable.ColumnType.ANSWER_ID), """
+                    update answer a
+                    set vote_count = (select count(*) from answer_voter v where v.answer_id = a.id)
+                    where a.id > ? and a.id <= ?
+                      and a.vote_count <> (select count(*) from answer_voter v where v.answer_id = a.id)
+                    """);
+        }
+    }
+
+    private void updateInChunks(String tableName, long fromId, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement maxStatement = connection.createStatement();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            connection.setAutoCommit(false);
+
+            long maxId;
+            try (ResultSet resultSet = maxStatement.executeQuery("select coalesce(max(id), 0) from " + tableName)) {
+                resultSet.next();
+                maxId = resultSet.getLong(1);
+            }
+
+            for (long id = fromId; id < maxId; id += COUNTER_CHUNK_SIZE) {
+                statement.setLong(1, id);
+                statement.setLong(2, id + COUNTER_CHUNK_SIZE);
+                statement.executeUpdate();
+                connection.commit();
+            }
+        }
+    }
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+    }
+
+    private long get(Future<Long> future) throws SQLException, IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException sqlException) throw sqlException;
+            if (e.getCause() instanceof IOException ioException) throw ioException;
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
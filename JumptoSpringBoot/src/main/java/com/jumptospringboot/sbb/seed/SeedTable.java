@@ -0,0 +1,117 @@
+package com.jumptospringboot.sbb.seed;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 시드 파일 1개 = 테이블 1개
+// 파일의 id, ...Id 값은 파일 안에서만 쓰는 번호이고, 적재할 때 테이블별로 미리 확보한 id 범위로 옮겨짐
+// answerCount, voteCount 는 파일에 없으면 0 으로 넣고 적재 후에 다시 계산
+// stage: 같은 stage 의 테이블은 동시에 적재 (외래키 때문에 참조하는 테이블은 다음 stage)
+public enum SeedTable {
+    USER("site_user", "users", 1, false,
+            column("id", "id", ColumnType.USER_ID),
+            column("username", "username", ColumnType.TEXT),
+            column("email", "email", ColumnType.TEXT),
+            column("password", "password", ColumnType.TEXT)),
+    QUESTION("question", "questions", 2, false,
+            column("id", "id", ColumnType.QUESTION_ID),
+            column("subject", "subject", ColumnType.TEXT),
+            column("content", "content", ColumnType.TEXT),
+            column("createDate", "create_date", ColumnType.DATETIME),
+            column("authorId", "author_id", ColumnType.USER_ID),
+            column("answerCount", "answer_count", ColumnType.COUNT),
+            column("voteCount", "vote_count", ColumnType.COUNT)),
+    ANSWER("answer", "answers", 3, false,
+            column("id", "id", ColumnType.ANSWER_ID),
+            column("questionId", "question_id", ColumnType.QUESTION_ID),
+            column("content", "content", ColumnType.TEXT),
+            column("createDate", "create_date", ColumnType.DATETIME),
+            column("authorId", "author_id", ColumnType.USER_ID),
+            column("voteCount", "vote_count", ColumnType.COUNT)),
+    // 추천은 중복되면 무시 (QuestionRepository.insertVoter 와 같은 방식)
+    QUESTION_VOTER("question_voter", "question_voters", 3, true,
+            column("questionId", "question_id", ColumnType.QUESTION_ID),
+            column("voterId", "voter_id", ColumnType.USER_ID)),
+    ANSWER_VOTER("answer_voter", "answer_voters", 4, true,
+            column("answerId", "answer_id", ColumnType.ANSWER_ID),
+            column("voterId", "voter_id", ColumnType.USER_ID));
+
+    public enum ColumnType {
+        TEXT(Types.VARCHAR),
+        DATETIME(Types.TIMESTAMP),
+        COUNT(Types.INTEGER),
+        USER_ID(Types.BIGINT),
+        QUESTION_ID(Types.INTEGER),
+        ANSWER_ID(Types.INTEGER);
+
+        private final int sqlType;
+
+        ColumnType(int sqlType) {
+            this.sqlType = sqlType;
+        }
+
+        public int sqlType() {
+            return sqlType;
+        }
+
+        public boolean isId() {
+            return this == USER_ID || this == QUESTION_ID || this == ANSWER_ID;
+        }
+    }
+
+    public record Column(String field, String name, ColumnType type) {
+    }
+
+    private final String tableName;
+    private final String fileName;
+    private final int stage;
+    private final boolean ignoreDuplicates;
+    private final List<Column> columns;
+
+    SeedTable(String tableName, String fileName, int stage, boolean ignoreDuplicates, Column... columns) {
+        this.tableName = tableName;
+        this.fileName = fileName;
+        this.stage = stage;
+        this.ignoreDuplicates = ignoreDuplicates;
+        this.columns = List.of(columns);
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+
+    public String fileName() {
+        return fileName;
+    }
+
+    public int stage() {
+        return stage;
+    }
+
+    public List<Column> columns() {
+        return columns;
+    }
+
+    public List<String> fields() {
+        return columns.stream().map(Column::field).toList();
+    }
+
+    // 자기 id 를 가진 테이블이면 그 id 의 종류, 조인 테이블이면 null
+    public ColumnType idType() {
+        Column first = columns.getFirst();
+        return first.field().equals("id") ? first.type() : null;
+    }
+
+    public String insertSql() {
+        String names = columns.stream().map(Column::name).collect(Collectors.joining(", "));
+        String params = columns.stream().map(c -> "?").collect(Collectors.joining(", "));
+
+        return (ignoreDuplicates ? "insert ignore into " : "insert into ")
+                + tableName + " (" + names + ") values (" + params + ")";
+    }
+
+    private static Column column(String field, String name, ColumnType type) {
+        return new Column(field, name, type);
+    }
+}
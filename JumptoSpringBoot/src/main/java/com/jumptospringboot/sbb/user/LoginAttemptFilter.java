@@ -0,0 +1,34 @@
+package com.jumptospringboot.sbb.user;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// 로그인 요청(POST /user/login)이 스프링 시큐리티의 로그인 처리 필터에 도달하기 전에 실행
+// 실패가 너무 많은 사용자명/IP 면 DB 조회와 비밀번호 비교 없이 로그인 화면으로 돌려보냄
+// @Component 로 등록하면 서블릿 필터로도 한 번 더 등록되므로 SecurityConfig 에서 직접 생성해서 추가
+@RequiredArgsConstructor
+public class LoginAttemptFilter extends OncePerRequestFilter {
+    private final LoginAttemptLimiter loginAttemptLimiter;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !("POST".equals(request.getMethod())
+                && "/user/login".equals(request.getRequestURI().substring(request.getContextPath().length())));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (this.loginAttemptLimiter.isBlocked(request.getParameter("username"), request.getRemoteAddr())) {
+            response.sendRedirect(request.getContextPath() + "/user/login?blocked");
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,163 @@
+package com.jumptospringboot.sbb.user;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 로그인 실패 횟수 제한
+// 최근 WINDOW 동안 같은 IP 에서 같은 사용자명으로 USERNAME_LIMIT 번, 같은 IP 에서 IP_LIMIT 번 실패하면 로그인 요청을 막음
+// 사용자명 제한도 IP 별로 따로 셈 => 다른 사람이 일부러 틀려도 원래 사용자의 로그인은 막히지 않음
+// 막힌 요청은 LoginAttemptFilter 에서 바로 돌려보내므로 DB 조회, BCrypt 비교가 실행되지 않음
+@Component
+public class LoginAttemptLimiter {
+    private static final Duration WINDOW = Duration.ofMinutes(5);
+    private static final int USERNAME_LIMIT = 5;
+    private static final int IP_LIMIT = 20;
+    private static final int MAX_KEYS = 100_000;
+
+    // "user:주소/사용자명" 또는 "ip:주소" => 최근 실패 시각
+    // ConcurrentHashMap 이므로 isBlocked(조회)는 락 없이 실행, 실패 기록도 키마다 따로 처리되어 서로 기다리지 않음
+    // 키가 maxKeys 를 넘으면 한 스레드만 정리(evict): WINDOW 가 지난 기록을 지우고, 그래도 많으면 가장 오래전에 실패한 키부터 지움
+    // 한 번 정리할 때 maxKeys 의 1/4 만큼 여유를 만들므로 정리 비용은 새 키 여러 개에 나뉘어 들어감
+    // 실패가 계속되는 IP 의 기록은 가장 최근에 실패한 키이므로 밀려나지 않음
+    private final Map<String, SlidingWindow> windows = new ConcurrentHashMap<>();
+    private final int maxKeys;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    // 실패 순서 (같은 밀리초에 실패한 키끼리도 순서를 정하기 위함)
+    private final AtomicLong failureSeq = new AtomicLong();
+
+    public LoginAttemptLimiter() {
+        this(MAX_KEYS);
+    }
+
+    LoginAttemptLimiter(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    public boolean isBlocked(String username, String ip) {
+        long now = System.currentTimeMillis();
+        return isFull(usernameKey(username, ip), now) || isFull(ipKey(ip), now);
+    }
+
+    // 비밀번호가 틀렸거나 없는 사용자명일 때 스프링 시큐리티가 발생시키는 이벤트
+    @EventListener
+    public void onFailure(AuthenticationFailureBadCredentialsEvent event) {
+        long now = System.currentTimeMillis();
+        String ip = remoteAddress(event.getAuthentication());
+        record(usernameKey(event.getAuthentication().getName(), ip), USERNAME_LIMIT, now);
+        record(ipKey(ip), IP_LIMIT, now);
+    }
+
+    // 로그인에 성공하면 해당 IP 의 사용자명 실패 기록 삭제 (IP 기록은 유지)
+    @EventListener
+    public void onSuccess(AuthenticationSuccessEvent event) {
+        Authentication authentication = event.getAuthentication();
+        this.windows.remove(usernameKey(authentication.getName(), remoteAddress(authentication)));
+    }
+
+    int size() {
+        return this.windows.size();
+    }
+
+    private boolean isFull(String key, long now) {
+        SlidingWindow window = this.windows.get(key);
+        return window != null && window.isFull(now);
+    }
+
+    private void record(String key, int limit, long now) {
+        this.windows.computeIfAbsent(key, k -> new SlidingWindow(limit)).record(now, this.failureSeq.incrementAndGet());
+
+        evict(now);
+    }
+
+    // 다른 스레드가 정리 중이면 기다리지 않고 돌아감
+    // 정리하는 동안 다른 스레드가 추가한 키는 정리를 마친 스레드가 다시 확인해서 정리
+    private void evict(long now) {
+        while (this.windows.size() > this.maxKeys && this.evicting.compareAndSet(false, true)) {
+            try {
+                this.windows.values().removeIf(window -> window.isExpired(now));
+
+                int excess = this.windows.size() - (this.maxKeys - this.maxKeys / 4);
+                if (excess > 0) {
+                    this.windows.entrySet().stream()
+                            .sorted(Comparator.comparingLong(entry -> entry.getValue().lastSeq))
+                            .limit(excess)
+                            .map(Map.Entry::getKey)
+                            .toList()
+                            .forEach(this.windows::remove);
+                }
+            } finally {
+                this.evicting.set(false);
+            }
+        }
+    }
+
+    // 로그인 폼으로 요청하면 details 에 요청한 주소가 들어 있음
+    private String remoteAddress(Authentication authentication) {
+        if (authentication.getDetails() instanceof WebAuthenticationDetails details) {
+            return details.getRemoteAddress();
+        }
+        return "";
+    }
+
+    // IP 주소에는 '/' 가 없으므로 사용자명에 어떤 글자가 있어도 키가 겹치지 않음
+    private String usernameKey(String username, String ip) {
+        return "user:" + ip + "/" + username;
+    }
+
+    private String ipKey(String ip) {
+        return "ip:" + ip;
+    }
+
+    // 최근 실패 시각 limit 개를 원형 버퍼에 저장
+    // limit 개가 모두 WINDOW 안에 있으면 제한 => 고정된 시간 구간이 아니라 현재 시각 기준으로 WINDOW 만큼을 봄(슬라이딩 윈도우)
+    // 락 없이 Atomic 연산만 사용하므로 동시에 여러 요청이 와도 서로 기다리지 않음
+    private static class SlidingWindow {
+        private final AtomicLongArray timestamps;
+        private final AtomicInteger next = new AtomicInteger();
+        // 마지막 실패 시각, 순서 (정리할 때 사용)
+        private volatile long lastFailedAt;
+        private volatile long lastSeq;
+
+        SlidingWindow(int limit) {
+            this.timestamps = new AtomicLongArray(limit);
+        }
+
+        void record(long now, long seq) {
+            // 가장 오래된 칸을 덮어씀
+            this.timestamps.set(Math.floorMod(this.next.getAndIncrement(), this.timestamps.length()), now);
+            this.lastFailedAt = now;
+            this.lastSeq = seq;
+        }
+
+        // 마지막 실패도 WINDOW 밖이면 더 이상 제한에 쓰이지 않음
+        boolean isExpired(long now) {
+            return !isRecent(this.lastFailedAt, now);
+        }
+
+        boolean isFull(long now) {
+            for (int i = 0; i < this.timestamps.length(); i++) {
+                if (!isRecent(this.timestamps.get(i), now)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isRecent(long timestamp, long now) {
+            return timestamp != 0 && now - timestamp < WINDOW.toMillis();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.jumptospringboot.sbb.user;
+
+import com.jumptospringboot.sbb.PasswordHashBusyException;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+
+import java.io.IOException;
+
+// 로그인 실패 처리
+// 비밀번호가 틀린 경우 등은 기본 동작 그대로 로그인 화면(/user/login?error)으로 이동
+// 비밀번호 해시 대기열이 가득 찬 경우는 비밀번호가 틀린 것이 아니므로 503 + Retry-After 로 응답
+public class LoginFailureHandler extends SimpleUrlAuthenticationFailureHandler {
+    public LoginFailureHandler() {
+        super("/user/login?error");
+    }
+
+    @Override
+    public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
+                                        AuthenticationException exception) throws IOException, ServletException {
+        if (exception instanceof PasswordHashBusyException) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(PasswordHashBusyException.RETRY_AFTER_SECONDS));
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, exception.getMessage());
+            return;
+        }
+        super.onAuthenticationFailure(request, response, exception);
+    }
+}
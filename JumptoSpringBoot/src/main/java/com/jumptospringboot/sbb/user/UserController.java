@@ -1,5 +1,6 @@
 package com.jumptospringboot.sbb.user;
 
+import com.jumptospringboot.sbb.PasswordHashBusyException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -44,6 +45,10 @@ public class UserController {
             e.printStackTrace();
             bindingResult.reject("signupFailed", "이미 등록된 사용자입니다.");
             return "signup_form";
+        }catch( // 비밀번호 해시 대기열이 가득 찬 경우
+        PasswordHashBusyException e) {
+            bindingResult.reject("signupFailed", e.getMessage());
+            return "signup_form";
         }catch(Exception e) {
             e.printStackTrace();
             bindingResult.reject("signupFailed", e.getMessage());
@@ -1,6 +1,10 @@
 package com.jumptospringboot.sbb.user;
 
 import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
 
 // 스프링 시큐리티는 인증뿐만 아니라 권한 부여도 함
 // enum 자료형(열거 자료형)
@@ -12,7 +16,11 @@ public enum UserRole {
 
    UserRole(String value) {
        this.value = value;
+       this.authorities = List.of(new SimpleGrantedAuthority(value));
    }
 
    private String value;
+
+   // 로그인할 때마다 권한 객체를 새로 만들지 않도록 미리 만들어서 공유 (SimpleGrantedAuthority, List.of 모두 변경 불가능)
+   private final List<GrantedAuthority> authorities;
 }
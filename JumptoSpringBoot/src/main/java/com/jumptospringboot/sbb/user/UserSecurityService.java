@@ -1,16 +1,16 @@
 package com.jumptospringboot.sbb.user;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 // 스프링 시큐리티가 로그인 시 사용할 서비스
@@ -18,24 +18,53 @@ import java.util.Optional;
 @Service
 // UserSecurityService는 스프링 시큐리티가 제공하는 UserDetailsService라는 인터페이스를 implements 해야 함
 public class UserSecurityService implements UserDetailsService {
+    private static final int MAX_CACHE_SIZE = 10_000;
+    // 캐시된 사용자 정보를 사용하는 시간, 지나면 DB에서 다시 조회
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    // 캐시에는 User 객체 대신 값만 저장
+    // 로그인에 성공하면 스프링 시큐리티가 User 객체의 비밀번호를 지우므로(eraseCredentials) User 객체를 공유하면 안 됨
+    private record CachedUser(String username, String password, UserRole role, long expiresAt) {
+    }
 
     private final UserRepository userRepository;
 
+    // 사용자명 => 사용자 정보, 가장 오래 사용되지 않은 항목부터 밀려남(LRU)
+    private final Map<String, CachedUser> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedUser> eldest) {
+                    return size() > MAX_CACHE_SIZE;
+                }
+            }
+    );
+
     @Override
     // loadUserByUsername: 사용자명으로 스프링 시큐리티의 사용자 객체를 조회하여 리턴하는 메서드
     // 스프링 시큐리티는 loadUserByUsername 메서드에 의해 리턴된 User 객체의 비밀번호가 사용자로부터 입력받은 비밀번호와 일치하는지 검사하는 기능이 내부에 있음
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        CachedUser cachedUser = this.cache.get(username);
+        if (cachedUser == null || cachedUser.expiresAt() < System.currentTimeMillis()) {
+            cachedUser = load(username);
+            this.cache.put(username, cachedUser);
+        }
+        // 권한 목록은 UserRole 에 미리 만들어 둔 것을 사용
+        return new User(cachedUser.username(), cachedUser.password(), cachedUser.role().getAuthorities());
+    }
+
+    // 비밀번호 변경 등 사용자 정보가 바뀌면 호출
+    public void evict(String username) {
+        this.cache.remove(username);
+    }
+
+    private CachedUser load(String username) {
         Optional<SiteUser> _siteUser = this.userRepository.findByusername(username);
         if (_siteUser.isEmpty()) {
             throw new UsernameNotFoundException("사용자를 찾을수 없습니다.");
         }
         SiteUser siteUser = _siteUser.get();
-        List<GrantedAuthority> authorities = new ArrayList<>();
-        if ("admin".equals(username)) {
-            authorities.add(new SimpleGrantedAuthority(UserRole.ADMIN.getValue()));
-        } else {
-            authorities.add(new SimpleGrantedAuthority(UserRole.USER.getValue()));
-        }
-        return new User(siteUser.getUsername(), siteUser.getPassword(), authorities);
+        UserRole role = "admin".equals(username) ? UserRole.ADMIN : UserRole.USER;
+        return new CachedUser(siteUser.getUsername(), siteUser.getPassword(), role,
+                System.currentTimeMillis() + TTL.toMillis());
     }
-}
\ No newline at end of file
+}
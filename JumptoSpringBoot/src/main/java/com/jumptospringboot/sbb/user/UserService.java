@@ -15,6 +15,7 @@ public class UserService {
     private final UserRepository userRepository;
     // 빈으로 등록한 PasswordEncoder 객체를 주입받아 사용
     private final PasswordEncoder passwordEncoder;
+    private final UserSecurityService userSecurityService;
 
     // 회원가입
     public SiteUser create(String username, String email, String password) {
@@ -30,6 +31,13 @@ public class UserService {
         return user;
     }
 
+    // 비밀번호 변경 - 로그인용 사용자 정보 캐시도 함께 삭제해야 이전 비밀번호로 로그인되지 않음
+    public void modifyPassword(SiteUser user, String password) {
+        user.setPassword(passwordEncoder.encode(password));
+        this.userRepository.save(user);
+        this.userSecurityService.evict(user.getUsername());
+    }
+
     // SiteUser 조회
     public SiteUser getUser(String username) {
         Optional<SiteUser> siteUser = this.userRepository.findByusername(username);
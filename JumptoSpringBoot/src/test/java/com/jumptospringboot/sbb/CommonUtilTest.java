@@ -0,0 +1,40 @@
+package com.jumptospringboot.sbb;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+// 스프링 컨텍스트 없이 CommonUtil 만 테스트
+class CommonUtilTest {
+    @Test
+    @DisplayName("마크다운 변환")
+    void test1() {
+        CommonUtil commonUtil = new CommonUtil();
+
+        assertEquals("<p><strong>sbb</strong> 입니다.</p>\n", commonUtil.markdown("**sbb** 입니다."));
+    }
+
+    @Test
+    @DisplayName("같은 원문은 캐시된 HTML 을 그대로 리턴")
+    void test2() {
+        CommonUtil commonUtil = new CommonUtil();
+
+        String html1 = commonUtil.markdown("# 제목");
+        String html2 = commonUtil.markdown("# 제목");
+
+        assertSame(html1, html2);
+        assertEquals(1, commonUtil.cacheSize());
+    }
+
+    @Test
+    @DisplayName("수정된 원문은 캐시와 상관없이 새로 변환")
+    void test3() {
+        CommonUtil commonUtil = new CommonUtil();
+        commonUtil.markdown("수정 전");
+
+        assertEquals("<p>수정 후</p>\n", commonUtil.markdown("수정 후"));
+        assertEquals(2, commonUtil.cacheSize());
+    }
+}
@@ -0,0 +1,110 @@
+package com.jumptospringboot.sbb;
+
+import com.jumptospringboot.sbb.question.Question;
+import com.jumptospringboot.sbb.question.QuestionRepository;
+import com.jumptospringboot.sbb.question.QuestionService;
+import com.jumptospringboot.sbb.user.SiteUser;
+import com.jumptospringboot.sbb.user.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class PageCacheFilterTest {
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    @DisplayName("비로그인 상세 화면은 두 번째 요청부터 캐시에서 응답, 수정하면 다시 그림")
+    void test1() throws Exception {
+        SiteUser user = this.userService.create("pagecache1", "pagecache1@test.com", "1234");
+        this.questionService.create("캐시 질문", "캐시 전 내용", user);
+        Question question = this.questionRepository.findBySubject("캐시 질문");
+        String url = "/question/detail/" + question.getId();
+
+        double hit = count("hit");
+        this.mvc.perform(get(url)).andExpect(status().isOk());
+        this.mvc.perform(get(url).param("page", "0"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("캐시 전 내용")));
+        assertEquals(hit + 1, count("hit"));
+
+        this.questionService.modify(question, "캐시 질문", "캐시 후 내용");
+
+        this.mvc.perform(get(url))
+                .andExpect(content().string(containsString("캐시 후 내용")));
+        assertEquals(hit + 1, count("hit"));
+    }
+
+    @Test
+    @DisplayName("로그인한 사용자는 캐시를 사용하지 않음")
+    @WithMockUser("pagecache2")
+    void test2() throws Exception {
+        double bypass = count("bypass");
+        double hit = count("hit");
+
+        this.mvc.perform(get("/question/list")).andExpect(status().isOk());
+        this.mvc.perform(get("/question/list")).andExpect(status().isOk());
+
+        assertEquals(bypass + 2, count("bypass"));
+        assertEquals(hit, count("hit"));
+    }
+
+    @Test
+    @DisplayName("질문을 등록하면 목록 캐시 삭제")
+    void test3() throws Exception {
+        SiteUser user = this.userService.create("pagecache3", "pagecache3@test.com", "1234");
+        this.mvc.perform(get("/question/list").param("kw", "")).andExpect(status().isOk());
+
+        this.questionService.create("목록 캐시 새 질문", "내용", user);
+
+        this.mvc.perform(get("/question/list"))
+                .andExpect(content().string(containsString("목록 캐시 새 질문")));
+    }
+
+    @Test
+    @DisplayName("검색어가 있거나 먼 페이지, 모르는 정렬은 캐시에 저장하지 않음")
+    void test4() throws Exception {
+        double hit = count("hit");
+        double miss = count("miss");
+
+        for (int i = 0; i < 2; i++) {
+            this.mvc.perform(get("/question/list").param("kw", "캐시 검색어")).andExpect(status().isOk());
+            this.mvc.perform(get("/question/list").param("page", "1000")).andExpect(status().isOk());
+            this.mvc.perform(get("/question/list").param("page", "-1")).andExpect(status().isOk());
+        }
+
+        assertEquals(hit, count("hit"));
+        assertEquals(miss, count("miss"));
+    }
+
+    private double count(String result) {
+        return this.meterRegistry.counter("sbb.page.cache", "result", result).count();
+    }
+}
@@ -0,0 +1,89 @@
+package com.jumptospringboot.sbb;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 스프링 컨텍스트 없이 PooledPasswordEncoder 만 테스트
+class PooledPasswordEncoderTest {
+    @Test
+    @DisplayName("해시 생성, 비교 결과는 BCrypt 와 같고 대기/해시 시간이 따로 기록됨")
+    void test1() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PooledPasswordEncoder passwordEncoder = new PooledPasswordEncoder(
+                new BCryptPasswordEncoder(4), 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        String encoded = passwordEncoder.encode("1234");
+
+        assertTrue(passwordEncoder.matches("1234", encoded));
+        assertFalse(passwordEncoder.matches("12345", encoded));
+        assertEquals(1, meterRegistry.get("sbb.password.queue").tag("operation", "encode").timer().count());
+        assertEquals(1, meterRegistry.get("sbb.password.hash").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("sbb.password.hash").tag("operation", "matches").timer().count());
+
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차 있으면 기다리지 않고 바로 503")
+    void test2() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PooledPasswordEncoder passwordEncoder = new PooledPasswordEncoder(
+                slowEncoder(started, release), 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        // 첫 번째는 실행 중, 두 번째는 대기열에서 대기
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("b"));
+        while (meterRegistry.get("sbb.password.queue.size").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        long startedAt = System.nanoTime();
+        assertThrows(PasswordHashBusyException.class, () -> passwordEncoder.encode("c"));
+
+        assertTrue(System.nanoTime() - startedAt < TimeUnit.SECONDS.toNanos(1));
+        assertEquals(1, meterRegistry.get("sbb.password.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("a", running.get(5, TimeUnit.SECONDS));
+        assertEquals("b", queued.get(5, TimeUnit.SECONDS));
+
+        passwordEncoder.destroy();
+    }
+
+    // release 될 때까지 해시를 끝내지 않는 인코더
+    private PasswordEncoder slowEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+}
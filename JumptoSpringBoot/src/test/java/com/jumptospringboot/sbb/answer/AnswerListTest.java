@@ -0,0 +1,121 @@
+package com.jumptospringboot.sbb.answer;
+
+import com.jumptospringboot.sbb.question.Question;
+import com.jumptospringboot.sbb.question.QuestionRepository;
+import com.jumptospringboot.sbb.question.QuestionService;
+import com.jumptospringboot.sbb.user.SiteUser;
+import com.jumptospringboot.sbb.user.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class AnswerListTest {
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerService answerService;
+
+    @Autowired
+    private UserService userService;
+
+    private Question question;
+    private List<Answer> answers;
+
+    // 답변 7개 (5개 + 2개), 테스트마다 새 질문 사용
+    @BeforeEach
+    void setUp() {
+        String name = "answerlist" + System.nanoTime();
+        SiteUser user = this.userService.create(name, name + "@test.com", "1234");
+        this.questionService.create(name, "내용", user);
+        this.question = this.questionRepository.findBySubject(name);
+        this.answers = new ArrayList<>();
+        for (int i = 1; i <= 7; i++) {
+            this.answers.add(this.answerService.create(this.question, "답변 내용 " + i, user));
+        }
+        this.question = this.questionService.getQuestion(this.question.getId());
+    }
+
+    @Test
+    @DisplayName("전체 개수는 answerCount 로 계산")
+    void test1() {
+        Page<Answer> paging = this.answerService.getAnswerList(this.question, 1, "latest");
+
+        assertEquals(7, paging.getTotalElements());
+        assertEquals(2, paging.getTotalPages());
+        assertEquals(2, paging.getContent().size());
+        assertFalse(paging.hasNext());
+    }
+
+    @Test
+    @DisplayName("추천순 더보기 - 커서 다음부터 이어서 조회")
+    void test2() {
+        SiteUser voter = this.userService.create("voter" + System.nanoTime(), null, "1234");
+        this.answerService.vote(this.answers.get(2), voter);
+
+        Page<Answer> first = this.answerService.getAnswerList(this.question, 0, "recommend");
+        assertEquals(this.answers.get(2).getId(), first.getContent().get(0).getId());
+
+        Slice<Answer> next = this.answerService.getAnswerListAfter(this.question, "recommend",
+                this.answerService.nextCursorOf(first, "recommend"));
+
+        assertEquals(2, next.getContent().size());
+        assertNull(this.answerService.nextCursorOf(next, "recommend"));
+        // 첫 페이지와 겹치는 답변 없이 나머지 답변이 모두 나와야 함
+        List<Integer> ids = new ArrayList<>();
+        first.forEach(answer -> ids.add(answer.getId()));
+        next.forEach(answer -> ids.add(answer.getId()));
+        assertEquals(7, ids.stream().distinct().count());
+    }
+
+    @Test
+    @DisplayName("답변 더보기 HTML 조각 응답")
+    void test3() throws Exception {
+        Page<Answer> first = this.answerService.getAnswerList(this.question, 0, "latest");
+        String cursor = this.answerService.nextCursorOf(first, "latest");
+        assertTrue(cursor != null);
+
+        this.mvc.perform(get("/answer/list/" + this.question.getId()).param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("답변 내용 2")))
+                .andExpect(content().string(containsString("답변 내용 1")))
+                .andExpect(content().string(not(containsString("답변 내용 3"))))
+                .andExpect(content().string(not(containsString("answer-next-cursor"))));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 400")
+    void test4() throws Exception {
+        this.mvc.perform(get("/answer/list/" + this.question.getId()).param("cursor", "abc"))
+                .andExpect(status().isBadRequest());
+    }
+}
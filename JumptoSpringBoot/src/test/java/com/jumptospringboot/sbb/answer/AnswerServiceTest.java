@@ -0,0 +1,96 @@
+package com.jumptospringboot.sbb.answer;
+
+import com.jumptospringboot.sbb.question.Question;
+import com.jumptospringboot.sbb.question.QuestionRepository;
+import com.jumptospringboot.sbb.question.QuestionService;
+import com.jumptospringboot.sbb.user.SiteUser;
+import com.jumptospringboot.sbb.user.UserService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// test 프로필(메모리 DB) 사용, 테스트가 끝나면 롤백
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AnswerServiceTest {
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerService answerService;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("답변 등록/삭제 시 질문의 answerCount 증감")
+    void test1() {
+        SiteUser user = this.userService.create("counter1", "counter1@test.com", "1234");
+        Question question = createQuestion(user);
+
+        this.answerService.create(question, "답변 1", user);
+        Answer answer2 = this.answerService.create(question, "답변 2", user);
+        assertEquals(2, question.getAnswerCount());
+
+        this.answerService.delete(answer2);
+
+        assertEquals(1, reloadQuestion(question).getAnswerCount());
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 여러 번 추천해도 voteCount 는 1번만 증가")
+    void test2() {
+        SiteUser user1 = this.userService.create("counter2", "counter2@test.com", "1234");
+        SiteUser user2 = this.userService.create("counter3", "counter3@test.com", "1234");
+        Question question = createQuestion(user1);
+        Answer answer = this.answerService.create(question, "답변", user1);
+        question = reloadQuestion(question);
+        answer = this.answerRepository.findById(answer.getId()).orElseThrow();
+        // 요청 처리와 같이 voter 와 같은 영속성 컨텍스트에서 사용자 조회
+        user1 = this.userService.getUser("counter2");
+        user2 = this.userService.getUser("counter3");
+
+        this.questionService.vote(question, user1);
+        this.questionService.vote(question, user1);
+        this.questionService.vote(question, user2);
+        this.answerService.vote(answer, user2);
+        this.answerService.vote(answer, user2);
+
+        assertEquals(2, reloadQuestion(question).getVoteCount());
+        assertEquals(1, reloadAnswer(answer).getVoteCount());
+    }
+
+    private Question createQuestion(SiteUser author) {
+        this.questionService.create("카운터 테스트", "내용", author);
+        return this.questionRepository.findBySubject("카운터 테스트");
+    }
+
+    // 영속성 컨텍스트를 비우고 DB 값을 다시 읽음
+    private Question reloadQuestion(Question question) {
+        this.em.flush();
+        this.em.clear();
+        return this.questionRepository.findById(question.getId()).orElseThrow();
+    }
+
+    private Answer reloadAnswer(Answer answer) {
+        this.em.flush();
+        this.em.clear();
+        return this.answerRepository.findById(answer.getId()).orElseThrow();
+    }
+}
@@ -0,0 +1,186 @@
+package com.jumptospringboot.sbb.load;
+
+import org.hibernate.stat.Statistics;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 가상 사용자(HTTP 클라이언트 + 세션 쿠키) 여러 명이 동시에 같은 시나리오를 요청하고 결과를 집계
+// 가상 사용자마다 정해진 seed 의 Random 을 쓰므로 몇 번을 실행해도 같은 URL 이 같은 횟수만큼 요청됨
+// => 요청당 SQL 수는 실행할 때마다 같게 나오므로 기준값과 비교할 수 있음
+class LoadRunner {
+    private static final Pattern CSRF_PATTERN = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+
+    record Result(long requests, long errors, double throughput, double p50Ms, double p99Ms, double statementsPerRequest) {
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("requests", requests);
+            map.put("errors", errors);
+            map.put("throughput", round(throughput, 1));
+            map.put("p50Ms", round(p50Ms, 2));
+            map.put("p99Ms", round(p99Ms, 2));
+            map.put("statementsPerRequest", round(statementsPerRequest, 2));
+            return map;
+        }
+    }
+
+    // 요청 1건: 경로와 성공으로 보는 응답 코드 (페이지는 200, 추천은 302 리다이렉트)
+    record Call(String path, int expectedStatus) {
+    }
+
+    static class VirtualUser {
+        private final HttpClient client;
+        private final Random random;
+
+        VirtualUser(long seed) {
+            this.client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .cookieHandler(new CookieManager())
+                    .followRedirects(HttpClient.Redirect.NEVER)
+                    .build();
+            this.random = new Random(seed);
+        }
+
+        Random random() {
+            return random;
+        }
+    }
+
+    private final String baseUrl;
+    private final Statistics statistics;
+    private final int requests;
+    private final int warmupRequests;
+
+    LoadRunner(String baseUrl, Statistics statistics, int requests, int warmupRequests) {
+        this.baseUrl = baseUrl;
+        this.statistics = statistics;
+        this.requests = requests;
+        this.warmupRequests = warmupRequests;
+    }
+
+    // 로그인 폼의 CSRF 토큰을 받아서 로그인, 세션 쿠키는 가상 사용자의 CookieManager 에 저장됨
+    void login(VirtualUser user, String username, String password) throws IOException, InterruptedException {
+        HttpResponse<String> form = user.client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/user/login")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = CSRF_PATTERN.matcher(form.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("로그인 폼에서 CSRF 토큰을 찾을 수 없습니다.");
+        }
+
+        String body = "username=" + encode(username) + "&password=" + encode(password) + "&_csrf=" + encode(matcher.group(1));
+        HttpResponse<Void> response = user.client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/user/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        String location = response.headers().firstValue("Location").orElse("");
+
+        if (response.statusCode() != 302 || location.contains("?")) {
+            throw new IllegalStateException("로그인 실패: " + username + " => " + location);
+        }
+    }
+
+    // 가상 사용자마다 warmup + requests / 사용자 수 만큼 요청, warmup 은 집계하지 않음
+    Result run(List<VirtualUser> users, Function<Random, Call> scenario) throws Exception {
+        int perUser = Math.max(1, requests / users.size());
+        int warmupPerUser = warmupRequests / users.size();
+
+        execute(users, scenario, warmupPerUser, null, new AtomicLong());
+
+        long[] latencies = new long[perUser * users.size()];
+        AtomicLong errors = new AtomicLong();
+        long statementsBefore = statistics.getPrepareStatementCount();
+        long startedAt = System.nanoTime();
+
+        execute(users, scenario, perUser, latencies, errors);
+
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        long statements = statistics.getPrepareStatementCount() - statementsBefore;
+        Arrays.sort(latencies);
+
+        return new Result(
+                latencies.length,
+                errors.get(),
+                latencies.length / seconds,
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.99),
+                (double) statements / latencies.length
+        );
+    }
+
+    private void execute(List<VirtualUser> users, Function<Random, Call> scenario, int perUser,
+                         long[] latencies, AtomicLong errors) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(users.size());
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int u = 0; u < users.size(); u++) {
+                VirtualUser user = users.get(u);
+                int offset = u * perUser;
+
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perUser; i++) {
+                        Call call = scenario.apply(user.random());
+                        long startedAt = System.nanoTime();
+                        HttpResponse<Void> response = user.client.send(
+                                HttpRequest.newBuilder(URI.create(baseUrl + call.path())).GET().build(),
+                                HttpResponse.BodyHandlers.discarding());
+
+                        if (latencies != null) {
+                            latencies[offset + i] = System.nanoTime() - startedAt;
+                        }
+                        if (response.statusCode() != call.expectedStatus()) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1e6;
+    }
+
+    private static double round(double value, int digits) {
+        double scale = Math.pow(10, digits);
+        return Math.round(value * scale) / scale;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
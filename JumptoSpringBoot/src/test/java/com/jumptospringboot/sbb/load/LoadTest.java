@@ -0,0 +1,252 @@
+package com.jumptospringboot.sbb.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jumptospringboot.sbb.question.QuestionSearchService;
+import com.jumptospringboot.sbb.seed.SeedFormat;
+import com.jumptospringboot.sbb.seed.SeedGenerator;
+import com.jumptospringboot.sbb.seed.SeedImporter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// 질문 목록/상세, 추천 부하 테스트
+// gradle test 에서는 제외되고 ./gradlew loadTest 로 실행
+// - 기본은 메모리 H2, -Pspring.datasource.url=... 로 로컬 DB 지정 가능
+// - -Pload.questions=100000 -Pload.requests=5000 -Pload.concurrency=32 처럼 규모 조정
+// 결과는 build/load-test/result.json 에 저장되고 src/test/resources/load/baseline.json 과 비교
+// - 요청당 SQL 수가 기준보다 늘어나면 실패 (N+1 쿼리 등), 실행 환경과 상관없이 같은 값이 나옴 (화면 캐시를 거치는 시나리오는 제외)
+// - 기준 파일이 없거나 설정이 다르면 비교를 건너뜀(skipped)
+// - 처리량/지연 시간은 기계마다 다르므로 -Pload.latencyTolerance=0.5 처럼 지정한 경우에만 비교
+// - -Pload.updateBaseline=true 로 실행하면 결과로 기준 파일을 교체
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.orm.jdbc.bind=OFF",
+        "logging.level.org.hibernate.orm.jdbc.extract=OFF",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=OFF",
+        "logging.level.org.springframework.transaction.interceptor=OFF"
+})
+@ActiveProfiles("test")
+class LoadTest {
+    private static final Logger log = LoggerFactory.getLogger(LoadTest.class);
+    private static final Path BASELINE = Path.of("src/test/resources/load/baseline.json");
+    private static final Path RESULT = Path.of("build/load-test/result.json");
+    private static final String PASSWORD = "1234";
+    // 목록 검색어 (SeedGenerator 가 만드는 질문 제목/내용에 들어 있는 단어)
+    // 비로그인 요청은 화면 캐시(PageCache)를 거침
+    // 동시에 같은 페이지를 처음 요청하면 여러 요청이 함께 DB 를 조회하고, 캐시 유효 시간(1분)이 실행 시간에 따라 지나기도 하므로
+    // 요청당 SQL 수가 실행마다 달라짐 => 기준 파일과 비교하지 않고 결과에만 기록
+    private static final Set<String> CACHED_SCENARIOS = Set.of("list-anonymous");
+    private static final List<String> KEYWORDS = List.of("스프링", "JPA", "타임리프", "트랜잭션", "인덱스", "캐시", "오류", "설정");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SeedImporter seedImporter;
+
+    @Autowired
+    private QuestionSearchService questionSearchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${load.users:1000}")
+    private int seedUsers;
+
+    @Value("${load.questions:20000}")
+    private int seedQuestions;
+
+    @Value("${load.concurrency:16}")
+    private int concurrency;
+
+    @Value("${load.requests:2000}")
+    private int requests;
+
+    @Value("${load.warmup:200}")
+    private int warmup;
+
+    @Value("${load.statementTolerance:0.1}")
+    private double statementTolerance;
+
+    // 0 이하면 처리량/지연 시간은 비교하지 않음
+    @Value("${load.latencyTolerance:0}")
+    private double latencyTolerance;
+
+    @Value("${load.updateBaseline:false}")
+    private boolean updateBaseline;
+
+    @TempDir
+    private Path seedDir;
+
+    @Test
+    @DisplayName("질문 목록/상세, 추천 부하 테스트")
+    void run() throws Exception {
+        // 이미 데이터가 있는 DB 에서도 겹치지 않도록 실행마다 다른 사용자명 사용
+        String prefix = "load" + Long.toString(System.currentTimeMillis(), 36) + "-";
+        new SeedGenerator(new SeedGenerator.Options(prefix, seedUsers, seedQuestions, 3, 2, 1, 42, SeedFormat.NDJSON), passwordEncoder.encode(PASSWORD))
+                .generate(seedDir);
+        seedImporter.importDir(seedDir);
+        questionSearchService.rebuild();
+
+        long[] questionIds = idRange("question");
+        long[] answerIds = idRange("answer");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        LoadRunner runner = new LoadRunner("http://localhost:" + port, statistics, requests, warmup);
+
+        List<LoadRunner.VirtualUser> anonymousUsers = new ArrayList<>();
+        List<LoadRunner.VirtualUser> loginUsers = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            anonymousUsers.add(new LoadRunner.VirtualUser(1000 + i));
+            LoadRunner.VirtualUser user = new LoadRunner.VirtualUser(i);
+            runner.login(user, prefix + (i + 1), PASSWORD);
+            loginUsers.add(user);
+        }
+
+        // 로그인 사용자는 화면 캐시(PageCache)를 거치지 않으므로 DB 조회 비용이 그대로 측정됨
+        // 추천은 데이터를 바꾸므로 조회 시나리오 뒤에 실행
+        Map<String, Object> scenarios = new LinkedHashMap<>();
+        scenarios.put("list-anonymous", runner.run(anonymousUsers, page(r -> "/question/list?page=" + listPage(r))).toMap());
+        scenarios.put("list", runner.run(loginUsers, page(r -> "/question/list?page=" + listPage(r))).toMap());
+        scenarios.put("list-kw", runner.run(loginUsers, page(r -> "/question/list?page=" + r.nextInt(3)
+                + "&kw=" + URLEncoder.encode(KEYWORDS.get(r.nextInt(KEYWORDS.size())), StandardCharsets.UTF_8))).toMap());
+        scenarios.put("detail-latest", runner.run(loginUsers, page(r -> "/question/detail/" + pick(r, questionIds) + "?sort=latest")).toMap());
+        scenarios.put("detail-recommend", runner.run(loginUsers, page(r -> "/question/detail/" + pick(r, questionIds) + "?sort=recommend")).toMap());
+        scenarios.put("vote-question", runner.run(loginUsers, redirect(r -> "/question/vote/" + pick(r, questionIds))).toMap());
+        scenarios.put("vote-answer", runner.run(loginUsers, redirect(r -> "/answer/vote/" + pick(r, answerIds))).toMap());
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        try (Connection connection = dataSource.getConnection()) {
+            config.put("database", connection.getMetaData().getDatabaseProductName());
+        }
+        config.put("users", seedUsers);
+        config.put("questions", seedQuestions);
+        config.put("concurrency", concurrency);
+        config.put("requests", requests);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("config", config);
+        result.put("scenarios", scenarios);
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        Files.createDirectories(RESULT.getParent());
+        objectMapper.writeValue(RESULT.toFile(), result);
+        log.info("부하 테스트 결과\n{}", objectMapper.writeValueAsString(result));
+
+        if (updateBaseline) {
+            Files.createDirectories(BASELINE.getParent());
+            objectMapper.writeValue(BASELINE.toFile(), result);
+            return;
+        }
+
+        for (Map.Entry<String, Object> entry : scenarios.entrySet()) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> current = (Map<String, Object>) entry.getValue();
+            assertEquals(0L, current.get("errors"), entry.getKey() + " 시나리오에서 오류 응답이 있습니다.");
+        }
+
+        assumeTrue(Files.exists(BASELINE), "기준 파일이 없어서 비교하지 않음: " + BASELINE);
+
+        // 데이터 규모, 요청 수가 다르면 캐시 적중률 등이 달라지므로 같은 설정으로 실행한 경우에만 비교
+        Map<?, ?> baseline = objectMapper.readValue(BASELINE.toFile(), Map.class);
+        assumeTrue(config.equals(baseline.get("config")), "기준 파일과 설정이 달라서 비교하지 않음: " + baseline.get("config"));
+
+        compare(baseline, scenarios);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void compare(Map<?, ?> baseline, Map<String, Object> scenarios) {
+        Map<String, Map<String, Number>> baseScenarios = (Map<String, Map<String, Number>>) baseline.get("scenarios");
+
+        for (Map.Entry<String, Object> entry : scenarios.entrySet()) {
+            Map<String, Number> base = baseScenarios.get(entry.getKey());
+            if (base == null) continue;
+
+            Map<String, Number> current = (Map<String, Number>) entry.getValue();
+            String name = entry.getKey();
+
+            double baseStatements = base.get("statementsPerRequest").doubleValue();
+            double statements = current.get("statementsPerRequest").doubleValue();
+            if (CACHED_SCENARIOS.contains(name)) {
+                log.info("{}: 요청당 SQL 수 {} => {} (화면 캐시 적중에 따라 달라지므로 비교하지 않음)", name, baseStatements, statements);
+            } else {
+                assertTrue(statements <= baseStatements * (1 + statementTolerance) + 0.05,
+                        "%s: 요청당 SQL 수 %.2f => %.2f".formatted(name, baseStatements, statements));
+            }
+
+            if (latencyTolerance > 0) {
+                double baseP99 = base.get("p99Ms").doubleValue();
+                double baseThroughput = base.get("throughput").doubleValue();
+                assertTrue(current.get("p99Ms").doubleValue() <= baseP99 * (1 + latencyTolerance),
+                        "%s: p99 %.2fms => %.2fms".formatted(name, baseP99, current.get("p99Ms").doubleValue()));
+                assertTrue(current.get("throughput").doubleValue() >= baseThroughput / (1 + latencyTolerance),
+                        "%s: 처리량 %.1f => %.1f".formatted(name, baseThroughput, current.get("throughput").doubleValue()));
+            }
+        }
+    }
+
+    // 대부분 앞쪽 페이지를 보고 가끔 뒤쪽 페이지까지 넘김
+    private int listPage(Random random) {
+        return random.nextInt(5) == 0 ? random.nextInt(100) : random.nextInt(5);
+    }
+
+    private long pick(Random random, long[] range) {
+        return range[0] + (long) (random.nextDouble() * (range[1] - range[0] + 1));
+    }
+
+    private long[] idRange(String table) {
+        Map<String, Object> row = jdbcTemplate.queryForMap("select min(id) as min_id, max(id) as max_id from " + table);
+        return new long[]{((Number) row.get("min_id")).longValue(), ((Number) row.get("max_id")).longValue()};
+    }
+
+    private static Function<Random, LoadRunner.Call> page(Function<Random, String> path) {
+        return r -> new LoadRunner.Call(path.apply(r), 200);
+    }
+
+    private static Function<Random, LoadRunner.Call> redirect(Function<Random, String> path) {
+        return r -> new LoadRunner.Call(path.apply(r), 302);
+    }
+}
@@ -0,0 +1,162 @@
+package com.jumptospringboot.sbb.question;
+
+import com.jumptospringboot.sbb.answer.Answer;
+import com.jumptospringboot.sbb.answer.AnswerRepository;
+import com.jumptospringboot.sbb.answer.AnswerService;
+import com.jumptospringboot.sbb.user.SiteUser;
+import com.jumptospringboot.sbb.user.UserService;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.store.FSDirectory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 색인은 커밋 이후에 반영되므로 @Transactional 을 붙이지 않음
+// 각 테스트는 서로 겹치지 않는 검색어를 사용
+// 색인 커밋을 새 DirectoryReader 로 확인할 수 있도록 임시 디렉토리에 색인 (다른 테스트와 DB 도 따로 씀)
+// 임시 디렉토리를 지우기 전에 컨텍스트를 닫음 (@DirtiesContext)
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:db_question_search;MODE=MySQL")
+@DirtiesContext
+class QuestionSearchServiceTest {
+    @TempDir
+    static Path indexDir;
+
+    @DynamicPropertySource
+    static void indexDirProperty(DynamicPropertyRegistry registry) {
+        registry.add("custom.search.indexDir", () -> indexDir.toString());
+    }
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerService answerService;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private QuestionSearchService questionSearchService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("제목, 내용, 답변, 작성자명으로 검색")
+    void test1() {
+        SiteUser user1 = this.userService.create("searchwriter", "searchwriter@test.com", "1234");
+        SiteUser user2 = this.userService.create("searchanswerer", "searchanswerer@test.com", "1234");
+        this.questionService.create("타임리프 레이아웃 질문", "레이아웃 상속은 어떻게 하나요?", user1);
+        this.questionService.create("시큐리티 질문", "로그인 페이지 설정", user1);
+        Question question = this.questionRepository.findBySubject("시큐리티 질문");
+        this.answerService.create(question, "타임리프 시큐리티 확장을 사용하세요.", user2);
+
+        assertEquals(2, this.questionService.getList(0, "타임리프").getTotalElements());
+        assertEquals(1, this.questionService.getList(0, "레이아웃").getTotalElements());
+        assertEquals(2, this.questionService.getList(0, "searchwriter").getTotalElements());
+        assertEquals(question.getId(), this.questionService.getList(0, "searchanswerer").getContent().get(0).getId());
+    }
+
+    @Test
+    @DisplayName("제목에서 찾은 질문이 먼저 나옴")
+    void test2() {
+        SiteUser user = this.userService.create("searchboost", "searchboost@test.com", "1234");
+        this.questionService.create("일반 질문", "그레이들 빌드가 느립니다.", user);
+        this.questionService.create("그레이들 질문", "빌드 설정", user);
+
+        Page<Question> paging = this.questionService.getList(0, "그레이들");
+
+        assertEquals(2, paging.getTotalElements());
+        assertEquals("그레이들 질문", paging.getContent().get(0).getSubject());
+    }
+
+    @Test
+    @DisplayName("질문/답변 수정, 삭제가 색인에 반영")
+    void test3() {
+        SiteUser user = this.userService.create("searchmodify", "searchmodify@test.com", "1234");
+        this.questionService.create("수정 전 질문", "내용", user);
+        Question question = this.questionRepository.findBySubject("수정 전 질문");
+        Answer answer = this.answerService.create(question, "도커 답변", user);
+
+        this.questionService.modify(question, "쿠버네티스 질문", "내용");
+        assertEquals(1, this.questionService.getList(0, "쿠버네티스").getTotalElements());
+
+        this.answerService.delete(answer);
+        assertEquals(0, this.questionService.getList(0, "도커").getTotalElements());
+
+        this.questionService.delete(question);
+        assertEquals(0, this.questionService.getList(0, "쿠버네티스").getTotalElements());
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 커밋되면 색인도 커밋됨")
+    void test4() throws IOException {
+        SiteUser user = this.userService.create("searchcommit", "searchcommit@test.com", "1234");
+        this.questionService.create("엘라스틱 질문", "내용", user);
+
+        assertEquals(1, this.questionService.getList(0, "엘라스틱").getTotalElements());
+
+        // 새로 연 reader 는 커밋된 색인만 봄
+        try (FSDirectory directory = FSDirectory.open(indexDir);
+             DirectoryReader reader = DirectoryReader.open(directory)) {
+            assertEquals(this.questionRepository.count(), reader.numDocs());
+        }
+    }
+
+    @Test
+    @DisplayName("아주 큰 페이지 번호는 빈 페이지")
+    void test5() {
+        SiteUser user = this.userService.create("searchpage", "searchpage@test.com", "1234");
+        this.questionService.create("레디스 질문", "내용", user);
+
+        Page<Question> paging = this.questionService.getList(Integer.MAX_VALUE, "레디스");
+
+        assertEquals(0, paging.getNumberOfElements());
+        assertEquals(1, paging.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("색인은 호출 시점이 아니라 커밋된 내용으로 만들어짐")
+    void test6() {
+        SiteUser user = this.userService.create("searchreload", "searchreload@test.com", "1234");
+        this.questionService.create("몽고 질문", "내용", user);
+        Question question = this.questionRepository.findBySubject("몽고 질문");
+
+        // 색인 요청 뒤에 같은 트랜잭션에서 답변이 더 저장됨 (색인 요청 없이)
+        this.transactionTemplate.executeWithoutResult(status -> {
+            this.questionSearchService.index(question.getId());
+
+            Answer answer = new Answer();
+            answer.setContent("카산드라 답변");
+            answer.setCreateDate(LocalDateTime.now());
+            answer.setQuestion(question);
+            answer.setAuthor(user);
+            this.answerRepository.save(answer);
+        });
+
+        assertEquals(1, this.questionService.getList(0, "카산드라").getTotalElements());
+    }
+}
@@ -0,0 +1,112 @@
+package com.jumptospringboot.sbb.question;
+
+import com.jumptospringboot.sbb.answer.Answer;
+import com.jumptospringboot.sbb.answer.AnswerRepository;
+import com.jumptospringboot.sbb.answer.AnswerService;
+import com.jumptospringboot.sbb.user.SiteUser;
+import com.jumptospringboot.sbb.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 여러 스레드에서 동시에 추천해도 추천자 수와 voteCount 가 정확히 일치하는지 확인
+@SpringBootTest
+@ActiveProfiles("test")
+class VoteConcurrencyTest {
+    private static final int VOTER_COUNT = 1000;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerService answerService;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<SiteUser> voters;
+
+    @BeforeEach
+    void setUp() {
+        // 비밀번호 암호화(BCrypt)는 느리므로 UserService 대신 저장소로 바로 저장
+        String prefix = "voter" + System.nanoTime() + "_";
+        List<SiteUser> users = new ArrayList<>();
+        for (int i = 0; i < VOTER_COUNT; i++) {
+            SiteUser user = new SiteUser();
+            user.setUsername(prefix + i);
+            user.setEmail(prefix + i + "@test.com");
+            user.setPassword("{noop}1234");
+            users.add(user);
+        }
+        this.voters = this.userRepository.saveAll(users);
+    }
+
+    @Test
+    @DisplayName("질문 동시 추천 - 사용자마다 2번씩 추천해도 1번만 반영")
+    void test1() throws Exception {
+        String subject = "동시 추천 질문 " + System.nanoTime();
+        this.questionService.create(subject, "내용", this.voters.get(0));
+        Question question = this.questionRepository.findBySubject(subject);
+
+        voteInParallel(voter -> this.questionService.vote(question, voter));
+
+        assertEquals(VOTER_COUNT, this.questionRepository.findVoteCountById(question.getId()));
+        assertEquals(VOTER_COUNT, this.jdbcTemplate.queryForObject(
+                "select count(*) from question_voter where question_id = ?", Integer.class, question.getId()));
+    }
+
+    @Test
+    @DisplayName("답변 동시 추천 - 사용자마다 2번씩 추천해도 1번만 반영")
+    void test2() throws Exception {
+        String subject = "동시 추천 답변 " + System.nanoTime();
+        this.questionService.create(subject, "내용", this.voters.get(0));
+        Question question = this.questionRepository.findBySubject(subject);
+        Answer answer = this.answerService.create(question, "답변", this.voters.get(0));
+
+        voteInParallel(voter -> this.answerService.vote(answer, voter));
+
+        assertEquals(VOTER_COUNT, this.answerRepository.findVoteCountById(answer.getId()));
+        assertEquals(VOTER_COUNT, this.jdbcTemplate.queryForObject(
+                "select count(*) from answer_voter where answer_id = ?", Integer.class, answer.getId()));
+    }
+
+    private void voteInParallel(Consumer<SiteUser> vote) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                for (SiteUser voter : this.voters) {
+                    futures.add(executor.submit(() -> vote.accept(voter)));
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get(); // 예외가 발생했으면 테스트 실패
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
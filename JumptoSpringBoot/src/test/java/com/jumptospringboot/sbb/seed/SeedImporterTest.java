@@ -0,0 +1,121 @@
+package com.jumptospringboot.sbb.seed;
+
+import com.jumptospringboot.sbb.user.SiteUser;
+import com.jumptospringboot.sbb.user.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SeedImporterTest {
+    @Autowired
+    private SeedImporter seedImporter;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    @DisplayName("생성한 NDJSON 시드 적재, 답변 수/추천 수 계산")
+    void test1() throws Exception {
+        Map<SeedTable, Long> generated = generate("seed-ndjson-", SeedFormat.NDJSON);
+        long questionsBefore = count("question");
+        long maxQuestionIdBefore = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from question", Long.class);
+
+        Map<SeedTable, Long> imported = seedImporter.importDir(dir);
+
+        assertEquals(generated, imported);
+        assertEquals(questionsBefore + 50, count("question"));
+
+        // 파일의 질문 id 1 ~ 50 은 기존 최대 id 뒤로 옮겨짐
+        List<Map<String, Object>> mismatches = jdbcTemplate.queryForList("""
+                select q.id from question q
+                where q.id > ?
+                  and (q.answer_count <> (select count(*) from answer a where a.question_id = q.id)
+                    or q.vote_count <> (select count(*) from question_voter v where v.question_id = q.id))
+                """, maxQuestionIdBefore);
+        assertTrue(mismatches.isEmpty());
+        assertEquals(generated.get(SeedTable.ANSWER), jdbcTemplate.queryForObject(
+                "select coalesce(sum(answer_count), 0) from question where id > ?", Long.class, maxQuestionIdBefore));
+    }
+
+    @Test
+    @DisplayName("CSV 시드 적재 후 새로 가입한 사용자 id 는 확보된 범위와 겹치지 않음")
+    void test2() throws Exception {
+        generate("seed-csv-", SeedFormat.CSV);
+
+        seedImporter.importDir(dir);
+        long maxUserId = jdbcTemplate.queryForObject("select max(id) from site_user", Long.class);
+        SiteUser user = userService.create("seed-csv-after", "seed-csv-after@example.com", "1234");
+
+        assertTrue(user.getId() > maxUserId);
+    }
+
+    @Test
+    @DisplayName("CSV 값의 쉼표, 따옴표, 줄바꿈")
+    void test3() throws Exception {
+        Path path = dir.resolve("test.csv");
+        String content = "첫 줄, \"인용\"\n둘째 줄";
+
+        try (SeedFormat.Writer writer = SeedFormat.CSV.writer(path, List.of("id", "content"))) {
+            writer.write(Map.of("id", 1, "content", content));
+        }
+
+        try (SeedFormat.Reader reader = SeedFormat.CSV.reader(path)) {
+            Map<String, Object> row = reader.next();
+
+            assertEquals("1", row.get("id"));
+            assertEquals(content, row.get("content"));
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    @DisplayName("기존 질문에 답변만 적재하면 질문의 답변 수를 다시 계산")
+    void test4() throws Exception {
+        generate("seed-parent-", SeedFormat.NDJSON);
+        seedImporter.importDir(dir);
+        long questionId = jdbcTemplate.queryForObject("select max(id) from question", Long.class);
+        long userId = jdbcTemplate.queryForObject("select max(id) from site_user", Long.class);
+        int answerCount = jdbcTemplate.queryForObject("select answer_count from question where id = ?", Integer.class, questionId);
+
+        Path answersDir = dir.resolve("answers-only");
+        Files.createDirectories(answersDir);
+        try (SeedFormat.Writer writer = SeedFormat.NDJSON.writer(SeedFormat.NDJSON.path(answersDir, SeedTable.ANSWER), SeedTable.ANSWER.fields())) {
+            writer.write(Map.of("id", 1, "questionId", questionId, "content", "추가 답변", "createDate", "2025-01-01T00:00", "authorId", userId));
+        }
+
+        Map<SeedTable, Long> imported = seedImporter.importDir(answersDir);
+
+        assertEquals(Map.of(SeedTable.ANSWER, 1L), imported);
+        assertEquals(answerCount + 1, jdbcTemplate.queryForObject("select answer_count from question where id = ?", Integer.class, questionId));
+    }
+
+    private Map<SeedTable, Long> generate(String prefix, SeedFormat format) throws Exception {
+        SeedGenerator.Options options = new SeedGenerator.Options(prefix, 20, 50, 3, 2, 1, 42, format);
+        return new SeedGenerator(options, "{noop}1234").generate(dir);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+    }
+}
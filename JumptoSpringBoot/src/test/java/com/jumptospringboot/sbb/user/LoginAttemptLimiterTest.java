@@ -0,0 +1,90 @@
+package com.jumptospringboot.sbb.user;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 스프링 컨텍스트 없이 LoginAttemptLimiter 만 테스트
+class LoginAttemptLimiterTest {
+    @Test
+    @DisplayName("같은 사용자명이라도 다른 IP 에서의 실패로는 차단되지 않음")
+    void test1() {
+        LoginAttemptLimiter limiter = new LoginAttemptLimiter();
+
+        for (int i = 0; i < 5; i++) {
+            fail(limiter, "victim", "10.0.0.1");
+        }
+
+        assertTrue(limiter.isBlocked("victim", "10.0.0.1"));
+        assertFalse(limiter.isBlocked("victim", "10.0.0.2"));
+    }
+
+    @Test
+    @DisplayName("키가 가득 차면 가장 오래전에 실패한 키부터 밀려나고 실패가 계속되는 IP 는 계속 차단")
+    void test2() {
+        LoginAttemptLimiter limiter = new LoginAttemptLimiter(100);
+
+        for (int i = 0; i < 20; i++) {
+            fail(limiter, "attacker" + i, "10.0.0.1");
+        }
+        assertTrue(limiter.isBlocked("other", "10.0.0.1"));
+
+        // 다른 IP 들에서 실패가 많이 쌓여도 크기는 maxKeys 를 넘지 않음
+        for (int i = 0; i < 1_000; i++) {
+            fail(limiter, "user" + i, "10.1." + (i / 256) + "." + (i % 256));
+            fail(limiter, "attacker", "10.0.0.1");
+            assertTrue(limiter.size() <= 100);
+        }
+
+        assertTrue(limiter.size() <= 100);
+        assertTrue(limiter.isBlocked("other", "10.0.0.1"));
+        assertFalse(limiter.isBlocked("user0", "10.1.0.0"));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 실패해도 끝나면 크기는 maxKeys 이하, 차단도 유지")
+    void test3() throws Exception {
+        LoginAttemptLimiter limiter = new LoginAttemptLimiter(100);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        fail(limiter, "user" + i, "10." + thread + "." + (i / 256) + "." + (i % 256));
+                        fail(limiter, "attacker", "10.0.0.1");
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(limiter.size() <= 100);
+        assertTrue(limiter.isBlocked("attacker", "10.0.0.1"));
+    }
+
+    private void fail(LoginAttemptLimiter limiter, String username, String ip) {
+        UsernamePasswordAuthenticationToken authentication =
+                UsernamePasswordAuthenticationToken.unauthenticated(username, "wrong");
+        authentication.setDetails(new WebAuthenticationDetails(ip, null));
+        limiter.onFailure(new AuthenticationFailureBadCredentialsEvent(authentication, new BadCredentialsException("wrong")));
+    }
+}
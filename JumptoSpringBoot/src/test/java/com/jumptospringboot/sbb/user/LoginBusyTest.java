@@ -0,0 +1,59 @@
+package com.jumptospringboot.sbb.user;
+
+import com.jumptospringboot.sbb.PasswordHashBusyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 비밀번호 해시 스레드 풀이 가득 찬 상황을 PasswordEncoder 목으로 만들어서 로그인 응답 확인
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class LoginBusyTest {
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private LoginAttemptLimiter loginAttemptLimiter;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    @DisplayName("해시 대기열이 가득 차면 로그인은 500 이 아니라 503 + Retry-After, 실패 횟수에는 포함 X")
+    void test1() throws Exception {
+        given(this.passwordEncoder.encode(any())).willReturn("encoded");
+        this.userService.create("loginbusy", "loginbusy@test.com", "1234");
+        given(this.passwordEncoder.matches(any(), anyString())).willThrow(new PasswordHashBusyException());
+
+        for (int i = 0; i < 5; i++) {
+            this.mvc.perform(post("/user/login")
+                            .param("username", "loginbusy")
+                            .param("password", "1234")
+                            .with(csrf()))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, String.valueOf(PasswordHashBusyException.RETRY_AFTER_SECONDS)));
+        }
+
+        assertFalse(this.loginAttemptLimiter.isBlocked("loginbusy", "127.0.0.1"));
+    }
+}
@@ -0,0 +1,106 @@
+package com.jumptospringboot.sbb.user;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class UserLoginTest {
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSecurityService userSecurityService;
+
+    @Test
+    @DisplayName("사용자 정보 캐시 - 비밀번호 변경 시 삭제")
+    void test1() {
+        SiteUser user = this.userService.create("logincache", "logincache@test.com", "1234");
+        String password = this.userSecurityService.loadUserByUsername("logincache").getPassword();
+
+        // 서비스를 거치지 않고 바꾸면 캐시된 값이 그대로 사용됨
+        user.setPassword("changed");
+        this.userRepository.save(user);
+        assertEquals(password, this.userSecurityService.loadUserByUsername("logincache").getPassword());
+
+        this.userService.modifyPassword(user, "5678");
+        UserDetails userDetails = this.userSecurityService.loadUserByUsername("logincache");
+        assertEquals(user.getPassword(), userDetails.getPassword());
+        // 권한 객체는 UserRole 에 만들어 둔 것을 공유
+        assertSame(UserRole.USER.getAuthorities().get(0), userDetails.getAuthorities().iterator().next());
+    }
+
+    @Test
+    @DisplayName("같은 사용자명으로 5번 실패하면 맞는 비밀번호도 차단")
+    void test2() throws Exception {
+        this.userService.create("loginlimit", "loginlimit@test.com", "1234");
+
+        for (int i = 0; i < 5; i++) {
+            login("loginlimit", "wrong").andExpect(redirectedUrl("/user/login?error"));
+        }
+
+        login("loginlimit", "1234").andExpect(redirectedUrl("/user/login?blocked"));
+    }
+
+    @Test
+    @DisplayName("로그인에 성공하면 실패 기록 삭제")
+    void test3() throws Exception {
+        this.userService.create("loginreset", "loginreset@test.com", "1234");
+
+        for (int i = 0; i < 4; i++) {
+            login("loginreset", "wrong").andExpect(redirectedUrl("/user/login?error"));
+        }
+        login("loginreset", "1234").andExpect(redirectedUrl("/"));
+
+        login("loginreset", "wrong").andExpect(redirectedUrl("/user/login?error"));
+        login("loginreset", "1234").andExpect(redirectedUrl("/"));
+    }
+
+    @Test
+    @DisplayName("다른 IP 에서 같은 사용자명으로 5번 실패해도 원래 사용자는 로그인 가능")
+    void test4() throws Exception {
+        this.userService.create("loginother", "loginother@test.com", "1234");
+
+        for (int i = 0; i < 5; i++) {
+            login("loginother", "wrong", "10.0.0.9").andExpect(redirectedUrl("/user/login?error"));
+        }
+        login("loginother", "1234", "10.0.0.9").andExpect(redirectedUrl("/user/login?blocked"));
+
+        login("loginother", "1234").andExpect(redirectedUrl("/"));
+    }
+
+    private ResultActions login(String username, String password) throws Exception {
+        return login(username, password, "127.0.0.1");
+    }
+
+    private ResultActions login(String username, String password, String remoteAddr) throws Exception {
+        return this.mvc.perform(post("/user/login")
+                .param("username", username)
+                .param("password", password)
+                .with(request -> {
+                    request.setRemoteAddr(remoteAddr);
+                    return request;
+                })
+                .with(csrf()));
+    }
+}
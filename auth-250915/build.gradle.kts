@@ -41,6 +41,9 @@ dependencies {
     implementation("io.jsonwebtoken:jjwt-api:0.12.6")
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.12.6")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.12.6")
+    implementation("org.apache.lucene:lucene-core:9.12.1")
+    implementation("org.apache.lucene:lucene-analysis-nori:9.12.1")
+    implementation("org.apache.lucene:lucene-queryparser:9.12.1")
 }
 
 tasks.withType<Test> {
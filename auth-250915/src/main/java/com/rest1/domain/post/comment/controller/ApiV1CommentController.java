@@ -29,15 +29,29 @@ public class ApiV1CommentController {
     private final MemberService memberService;
     private final Rq rq;
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     @GetMapping(value = "/{postId}/comments")
-    @Operation(summary = "다건 조회")
+    @Transactional(readOnly = true)
+    @Operation(summary = "다건 조회", description = "lastId 가 있으면 그 이전 댓글부터 키셋 페이징")
     public List<CommentDto> getItems(
-            @PathVariable Long postId
+            @PathVariable Long postId,
+            @RequestParam(defaultValue = "30") int pageSize,
+            @RequestParam(required = false) Long lastId
     ) {
         Post post = postService.findById(postId).get();
-        return post.getComments().reversed().stream()
-                .map(CommentDto::new)
-                .toList();
+
+        if (rq.checkNotModified(postService.getCommentsFingerprint(post))) {
+            return null;
+        }
+
+        pageSize = Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
+
+        if (lastId != null) {
+            return postService.findCommentPageAfter(post, lastId, pageSize);
+        }
+
+        return postService.findCommentPage(post, pageSize);
     }
 
     @GetMapping(value = "/{postId}/comments/{commentId}")
@@ -47,8 +61,12 @@ public class ApiV1CommentController {
             @PathVariable Long postId,
             @PathVariable Long commentId
     ) {
-        Post post = postService.findById(postId).get();
-        Comment comment = post.findCommentById(commentId).get();
+        Comment comment = postService.findCommentById(postId, commentId).get();
+
+        if (rq.checkNotModified(postService.getFingerprint(comment))) {
+            return null;
+        }
+
         return new CommentDto(comment);
     }
 
@@ -60,10 +78,9 @@ public class ApiV1CommentController {
             @PathVariable Long commentId
     ) {
         Member actor = rq.getActor();
-        Post post = postService.findById(postId).get();
-        Comment comment = post.findCommentById(commentId).get();
+        Comment comment = postService.findCommentById(postId, commentId).get();
         comment.checkActorDelete(actor);
-        postService.deleteComment(post, commentId);
+        postService.deleteComment(comment);
 
         return new RsData<>(
                 "200-1",
@@ -121,10 +138,9 @@ public class ApiV1CommentController {
             @RequestBody @Valid CommentWriteReqBody reqBody
     ) {
         Member actor = rq.getActor();
-        Post post = postService.findById(postId).get();
-        Comment comment = post.findCommentById(commentId).get();
+        Comment comment = postService.findCommentById(postId, commentId).get();
         comment.checkActorModify(actor);
-        postService.modifyComment(post, commentId, reqBody.content);
+        postService.modifyComment(comment, reqBody.content);
 
         return new RsData<>(
                 "200-1",
@@ -7,12 +7,16 @@ import com.rest1.domain.post.post.entity.Post;
 import com.rest1.global.jpa.entity.BaseEntity;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+// 글별 댓글 목록 조건부 GET 의 max(modifyDate) 집계용
+@Table(indexes = @Index(columnList = "post_id, modifyDate"))
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
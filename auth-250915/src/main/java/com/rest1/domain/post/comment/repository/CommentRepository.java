@@ -0,0 +1,82 @@
+package com.rest1.domain.post.comment.repository;
+
+import com.rest1.domain.post.comment.dto.CommentDto;
+import com.rest1.domain.post.comment.entity.Comment;
+import com.rest1.global.jpa.dto.Fingerprint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    // 글 번호까지 조건에 넣어서 다른 글의 댓글은 조회되지 않도록 한다.
+    // 권한 체크와 CommentDto 변환에 작성자가 필요하므로 함께 가져온다.
+    @EntityGraph(attributePaths = "author")
+    Optional<Comment> findByPostIdAndId(long postId, long id);
+
+    @Query("""
+            select new com.rest1.domain.post.comment.dto.CommentDto(
+                c.id, c.createDate, c.modifyDate, c.content, a.id, a.nickname, c.post.id
+            )
+            from Comment c
+            join c.author a
+            where c.post.id = :postId
+            order by c.id desc
+            """)
+    List<CommentDto> findDtosByPostIdOrderByIdDesc(long postId, Limit limit);
+
+    // 키셋 페이징 : lastId 보다 작은 댓글을 id 역순으로 limit 개
+    @Query("""
+            select new com.rest1.domain.post.comment.dto.CommentDto(
+                c.id, c.createDate, c.modifyDate, c.content, a.id, a.nickname, c.post.id
+            )
+            from Comment c
+            join c.author a
+            where c.post.id = :postId
+            and c.id < :lastId
+            order by c.id desc
+            """)
+    List<CommentDto> findDtosByPostIdAndIdLessThanOrderByIdDesc(long postId, long lastId, Limit limit);
+
+    // 전체 댓글 키셋 순회 (검색 색인 재생성용)
+    @Query("""
+            select new com.rest1.domain.post.comment.dto.CommentDto(
+                c.id, c.createDate, c.modifyDate, c.content, a.id, a.nickname, c.post.id
+            )
+            from Comment c
+            join c.author a
+            where c.id < :lastId
+            order by c.id desc
+            """)
+    List<CommentDto> findDtosByIdLessThanOrderByIdDesc(long lastId, Limit limit);
+
+    // 검색 색인용 : 커밋 이후에 댓글 1개를 다시 읽는다.
+    @Query("""
+            select new com.rest1.domain.post.comment.dto.CommentDto(
+                c.id, c.createDate, c.modifyDate, c.content, a.id, a.nickname, c.post.id
+            )
+            from Comment c
+            join c.author a
+            where c.id = :id
+            """)
+    Optional<CommentDto> findDtoById(long id);
+
+    // 댓글 목록 조건부 GET 용
+    @Query("""
+            select new com.rest1.global.jpa.dto.Fingerprint(
+                count(c), coalesce(max(c.id), 0), max(c.modifyDate), 0L
+            )
+            from Comment c
+            where c.post.id = :postId
+            """)
+    Fingerprint findFingerprintByPostId(long postId);
+
+    // 검색 색인이 DB 의 수정을 모두 반영했는지 확인용
+    @Query("select max(c.modifyDate) from Comment c")
+    LocalDateTime findMaxModifyDate();
+}
@@ -4,12 +4,14 @@ import com.rest1.domain.member.member.entity.Member;
 import com.rest1.domain.post.post.service.PostService;
 import com.rest1.global.exception.ServiceException;
 import com.rest1.global.rq.Rq;
+import com.rest1.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -41,4 +43,27 @@ public class ApiV1AdmPostController {
         return new CountResBody(postService.count());
     }
 
+    record RebuildSearchIndexResBody(
+            long indexedCount
+    ) {
+    }
+
+    @PostMapping("/search/rebuild")
+    @Operation(summary = "검색 색인 재생성", description = "DB 의 글, 댓글로 검색 색인을 처음부터 다시 만든다.")
+    public RsData<RebuildSearchIndexResBody> rebuildSearchIndex() {
+
+        Member actor = rq.getActor();
+
+        if(!actor.isAdmin()) {
+            throw new ServiceException("403-1", "권한이 없습니다");
+        }
+
+        long indexedCount = postService.rebuildSearchIndex();
+
+        return new RsData<>(
+                "200-1",
+                "검색 색인을 다시 만들었습니다.",
+                new RebuildSearchIndexResBody(indexedCount)
+        );
+    }
 }
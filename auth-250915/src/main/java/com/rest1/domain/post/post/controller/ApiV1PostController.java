@@ -5,6 +5,7 @@ import com.rest1.domain.member.member.service.MemberService;
 import com.rest1.domain.post.post.dto.PostDto;
 import com.rest1.domain.post.post.entity.Post;
 import com.rest1.domain.post.post.service.PostService;
+import com.rest1.domain.post.search.dto.PostSearchResultDto;
 import com.rest1.global.rq.Rq;
 import com.rest1.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.Operation;
@@ -30,13 +31,42 @@ public class ApiV1PostController {
     private final MemberService memberService;
     private final Rq rq;
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     @GetMapping
     @Transactional(readOnly = true)
-    @Operation(summary = "글 다건 조회")
-    public List<PostDto> getItems() {
-        return postService.findAll().reversed().stream()
-                .map(PostDto::new)
-                .toList();
+    @Operation(summary = "글 다건 조회", description = "lastId 가 있으면 키셋 페이징, 없으면 page 번호로 페이징")
+    public List<PostDto> getItems(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "30") int pageSize,
+            @RequestParam(required = false) Long lastId
+    ) {
+        if (rq.checkNotModified(postService.getFingerprint())) {
+            return null;
+        }
+
+        if (page < 1) page = 1;
+        pageSize = Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
+
+        if (lastId != null) {
+            return postService.findPageAfter(lastId, pageSize);
+        }
+
+        return postService.findPage(page, pageSize);
+    }
+
+
+    @GetMapping("/search")
+    @Operation(summary = "글, 댓글 검색", description = "제목, 내용, 댓글 내용에서 검색하고 관련도 순으로 정렬")
+    public PostSearchResultDto search(
+            @RequestParam String kw,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int pageSize
+    ) {
+        if (page < 1) page = 1;
+        pageSize = Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
+
+        return postService.search(kw, page, pageSize);
     }
 
 
@@ -46,7 +76,12 @@ public class ApiV1PostController {
     public PostDto getItem(
             @PathVariable Long id
     ) {
-        Post post = postService.findById(id).get();
+        Post post = postService.findWithAuthorById(id).get();
+
+        if (rq.checkNotModified(postService.getFingerprint(post))) {
+            return null;
+        }
+
         return new PostDto(post);
 
     }
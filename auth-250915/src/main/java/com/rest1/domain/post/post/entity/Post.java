@@ -7,14 +7,17 @@ import com.rest1.global.jpa.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 @NoArgsConstructor
 @Getter
 @Entity
+// 목록 조건부 GET 의 max(modifyDate) 집계용
+@Table(indexes = @Index(columnList = "modifyDate"))
 public class Post extends BaseEntity {
     private String title;
     private String content;
@@ -24,6 +27,11 @@ public class Post extends BaseEntity {
     @OneToMany(mappedBy = "post", cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, orphanRemoval=true, fetch = FetchType.LAZY)
     private List<Comment> comments = new ArrayList<>();
 
+    // 댓글 수는 PostRepository 의 원자적 update 쿼리로만 변경한다.
+    @ColumnDefault("0")
+    @Column(updatable = false)
+    private int commentCount;
+
     public Post(Member author, String title, String content) {
         this.author = author;
         this.title = title;
@@ -35,28 +43,17 @@ public class Post extends BaseEntity {
         this.content = content;
     }
 
-    public Comment addComment(Member author, String content) {
-        Comment comment = new Comment(author, content, this);
-        this.comments.add(comment);
-
-        return comment;
-    }
-
-    public void deleteComment(Long commentId) {
-        Comment comment = findCommentById(commentId).get();
-        this.comments.remove(comment);
-    }
-
-    public Comment updateComment(Long commentId, String content) {
-        Comment comment = findCommentById(commentId).get();
-        comment.update(content);
-        return comment;
+    // 댓글 컬렉션이 이미 로딩된 경우에만 반영한다. (댓글 전체를 불러오지 않기 위함)
+    public void onCommentAdded(Comment comment) {
+        if (Hibernate.isInitialized(comments)) {
+            comments.add(comment);
+        }
     }
 
-    public Optional<Comment> findCommentById(Long commentId) {
-        return comments.stream()
-                .filter(c -> c.getId().equals(commentId))
-                .findFirst();
+    public void onCommentDeleted(Comment comment) {
+        if (Hibernate.isInitialized(comments)) {
+            comments.remove(comment);
+        }
     }
 
     public void checkActorModify(Member actor) {
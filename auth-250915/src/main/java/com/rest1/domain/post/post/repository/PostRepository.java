@@ -1,7 +1,77 @@
 package com.rest1.domain.post.post.repository;
 
+import com.rest1.domain.post.post.dto.PostDto;
 import com.rest1.domain.post.post.entity.Post;
+import com.rest1.global.jpa.dto.Fingerprint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
+
+    // PostDto 로 변환할 때 작성자가 필요하므로 함께 가져온다.
+    @EntityGraph(attributePaths = "author")
+    Optional<Post> findWithAuthorById(long id);
+
+    @Override
+    @EntityGraph(attributePaths = "author")
+    List<Post> findAll();
+
+    // 작성자 이름까지 한 번의 쿼리로 가져온다. (엔티티를 거치지 않으므로 N+1 없음)
+    @Query("""
+            select new com.rest1.domain.post.post.dto.PostDto(
+                p.id, p.createDate, p.modifyDate, p.title, p.content, a.id, a.nickname, p.commentCount
+            )
+            from Post p
+            join p.author a
+            order by p.id desc
+            """)
+    List<PostDto> findDtosOrderByIdDesc(Pageable pageable);
+
+    // 키셋 페이징 : lastId 보다 작은 글을 id 역순으로 limit 개
+    @Query("""
+            select new com.rest1.domain.post.post.dto.PostDto(
+                p.id, p.createDate, p.modifyDate, p.title, p.content, a.id, a.nickname, p.commentCount
+            )
+            from Post p
+            join p.author a
+            where p.id < :lastId
+            order by p.id desc
+            """)
+    List<PostDto> findDtosByIdLessThanOrderByIdDesc(long lastId, Limit limit);
+
+    // 검색 색인용 : 커밋 이후에 글 1개를 다시 읽는다.
+    @Query("""
+            select new com.rest1.domain.post.post.dto.PostDto(
+                p.id, p.createDate, p.modifyDate, p.title, p.content, a.id, a.nickname, p.commentCount
+            )
+            from Post p
+            join p.author a
+            where p.id = :id
+            """)
+    Optional<PostDto> findDtoById(long id);
+
+    // 목록 조건부 GET 용 : 글이 추가/삭제/수정되거나 댓글 수가 바뀌면 값이 달라진다.
+    @Query("""
+            select new com.rest1.global.jpa.dto.Fingerprint(
+                count(p), coalesce(max(p.id), 0), max(p.modifyDate), coalesce(sum(p.commentCount), 0)
+            )
+            from Post p
+            """)
+    Fingerprint findFingerprint();
+
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + :delta where p.id = :id")
+    void increaseCommentCount(long id, int delta);
+
+    // 검색 색인이 DB 의 수정을 모두 반영했는지 확인용
+    @Query("select max(p.modifyDate) from Post p")
+    LocalDateTime findMaxModifyDate();
 }
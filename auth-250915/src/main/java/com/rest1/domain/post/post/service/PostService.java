@@ -1,10 +1,19 @@
 package com.rest1.domain.post.post.service;
 
 import com.rest1.domain.member.member.entity.Member;
+import com.rest1.domain.post.comment.dto.CommentDto;
 import com.rest1.domain.post.comment.entity.Comment;
+import com.rest1.domain.post.comment.repository.CommentRepository;
+import com.rest1.domain.post.post.dto.PostDto;
 import com.rest1.domain.post.post.entity.Post;
 import com.rest1.domain.post.post.repository.PostRepository;
+import com.rest1.domain.post.search.dto.PostSearchResultDto;
+import com.rest1.domain.post.search.service.PostSearchService;
+import com.rest1.global.jpa.dto.Fingerprint;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -15,11 +24,14 @@ import java.util.Optional;
 public class PostService {
 
     private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostSearchService postSearchService;
 
     public Post write(Member author, String title, String content) {
-        Post post = new Post(author, title, content);
+        Post post = postRepository.save(new Post(author, title, content));
+        postSearchService.index(post);
 
-        return postRepository.save(post);
+        return post;
     }
 
     public long count() {
@@ -30,28 +42,99 @@ public class PostService {
         return postRepository.findById(id);
     }
 
+    public Optional<Post> findWithAuthorById(Long id) {
+        return postRepository.findWithAuthorById(id);
+    }
+
     public List<Post> findAll() {
         return postRepository.findAll();
     }
 
+    // page 는 1부터 시작
+    public List<PostDto> findPage(int page, int pageSize) {
+        return postRepository.findDtosOrderByIdDesc(PageRequest.of(page - 1, pageSize));
+    }
+
+    public List<PostDto> findPageAfter(long lastId, int pageSize) {
+        return postRepository.findDtosByIdLessThanOrderByIdDesc(lastId, Limit.of(pageSize));
+    }
+
     public void modify(Post post, String title, String content) {
         post.update(title, content);
+        postSearchService.index(post);
+    }
+
+    public Fingerprint getFingerprint() {
+        return postRepository.findFingerprint();
+    }
+
+    public Fingerprint getFingerprint(Post post) {
+        return Fingerprint.of(post, post.getCommentCount());
+    }
+
+    public Fingerprint getCommentsFingerprint(Post post) {
+        return commentRepository.findFingerprintByPostId(post.getId());
+    }
+
+    public Fingerprint getFingerprint(Comment comment) {
+        return Fingerprint.of(comment, 0);
     }
 
     public Comment writeComment(Member author, Post post, String content) {
-        return post.addComment(author, content);
+        Comment comment = commentRepository.save(new Comment(author, content, post));
+        post.onCommentAdded(comment);
+        postRepository.increaseCommentCount(post.getId(), 1);
+        postSearchService.index(comment);
+
+        return comment;
+    }
+
+    public Optional<Comment> findCommentById(long postId, long commentId) {
+        return commentRepository.findByPostIdAndId(postId, commentId);
+    }
+
+    public List<CommentDto> findCommentPage(Post post, int pageSize) {
+        return commentRepository.findDtosByPostIdOrderByIdDesc(post.getId(), Limit.of(pageSize));
+    }
+
+    public List<CommentDto> findCommentPageAfter(Post post, long lastId, int pageSize) {
+        return commentRepository.findDtosByPostIdAndIdLessThanOrderByIdDesc(post.getId(), lastId, Limit.of(pageSize));
     }
 
-    public void deleteComment(Post post, Long commentId) {
-        post.deleteComment(commentId);
+    public void deleteComment(Comment comment) {
+        Post post = comment.getPost();
+
+        // 글이 아직 프록시 상태라면 댓글 컬렉션도 로딩되지 않은 것이므로 건드리지 않는다.
+        if (Hibernate.isInitialized(post)) {
+            post.onCommentDeleted(comment);
+        }
+        commentRepository.delete(comment);
+        // 같은 트랜잭션에서 나중에 댓글 컬렉션을 로딩해도 삭제된 댓글이 섞이지 않도록 바로 반영
+        commentRepository.flush();
+        postRepository.increaseCommentCount(post.getId(), -1);
+        postSearchService.delete(comment);
     }
 
-    public void modifyComment(Post post, Long commentId, String content) {
-        post.updateComment(commentId, content);
+    public void modifyComment(Comment comment, String content) {
+        comment.update(content);
+        postSearchService.index(comment);
     }
 
     public void delete(Post post) {
         postRepository.delete(post);
+        postSearchService.delete(post);
+    }
+
+    public PostSearchResultDto search(String kw, int page, int pageSize) {
+        return postSearchService.search(kw, page, pageSize);
+    }
+
+    public long rebuildSearchIndex() {
+        return postSearchService.rebuild();
+    }
+
+    public boolean rebuildSearchIndexIfOutOfSync() {
+        return postSearchService.rebuildIfOutOfSync();
     }
 
     public void flush() {
@@ -0,0 +1,13 @@
+package com.rest1.domain.post.search.dto;
+
+// type 은 "post" 또는 "comment", 글이 검색된 경우 commentId 는 null
+public record PostSearchHitDto(
+        String type,
+        Long postId,
+        Long commentId,
+        String title,
+        String content,
+        String authorName,
+        float score
+) {
+}
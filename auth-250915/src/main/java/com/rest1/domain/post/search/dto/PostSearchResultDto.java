@@ -0,0 +1,11 @@
+package com.rest1.domain.post.search.dto;
+
+import java.util.List;
+
+public record PostSearchResultDto(
+        long totalCount,
+        int page,
+        int pageSize,
+        List<PostSearchHitDto> items
+) {
+}
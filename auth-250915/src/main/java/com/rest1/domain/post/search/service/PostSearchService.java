@@ -0,0 +1,406 @@
+package com.rest1.domain.post.search.service;
+
+import com.rest1.domain.post.comment.dto.CommentDto;
+import com.rest1.domain.post.comment.entity.Comment;
+import com.rest1.domain.post.comment.repository.CommentRepository;
+import com.rest1.domain.post.post.dto.PostDto;
+import com.rest1.domain.post.post.entity.Post;
+import com.rest1.domain.post.post.repository.PostRepository;
+import com.rest1.domain.post.search.dto.PostSearchHitDto;
+import com.rest1.domain.post.search.dto.PostSearchResultDto;
+import com.rest1.global.exception.ServiceException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 글 제목/내용, 댓글 내용에 대한 내장 Lucene 색인
+// 글 1개, 댓글 1개가 각각 문서 1개이고, 모든 문서는 postId 를 가진다.
+// 트랜잭션이 커밋될 때마다 색인도 커밋하고, 색인한 문서의 가장 늦은 수정일을 커밋 데이터에 남긴다.
+// 색인 변경(커밋 이후 반영, rebuild)은 이 객체의 모니터 안에서 한 번에 하나씩만 실행한다.
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final String[] SEARCH_FIELDS = {"title", "content"};
+    private static final Map<String, Float> SEARCH_FIELD_BOOSTS = Map.of("title", 2f, "content", 1f);
+    private static final String MAX_MODIFY_DATE_KEY = "maxModifyDate";
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+
+    @Value("${custom.search.indexDir}")
+    private String indexDir;
+
+    private Analyzer analyzer;
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+    // 색인에 반영한 글, 댓글 중 가장 늦은 수정일 (DB 와 비교해서 유실된 수정을 찾는다.)
+    private LocalDateTime maxModifyDate;
+    // 트랜잭션마다 커밋 이후에 반영할 작업 목록을 묶어 두는 키
+    private final Object pendingTasksKey = new Object();
+
+    @PostConstruct
+    public void init() throws IOException {
+        Directory directory = indexDir.isBlank()
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Path.of(indexDir));
+
+        analyzer = new KoreanAnalyzer();
+        indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        searcherManager = new SearcherManager(indexWriter, null);
+
+        Iterable<Map.Entry<String, String>> commitData = indexWriter.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                if (entry.getKey().equals(MAX_MODIFY_DATE_KEY)) {
+                    maxModifyDate = LocalDateTime.parse(entry.getValue());
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close(); // 종료 시 커밋된다.
+    }
+
+    // 커밋된 뒤에 DB 에서 다시 읽어서 문서를 교체한다.
+    // (호출 시점에 문서를 만들어 두면 같은 글을 고친 두 트랜잭션의 반영 순서가 뒤바뀔 때 이전 내용이 남는다.)
+    public void index(Post post) {
+        long postId = post.getId();
+
+        afterCommit(() -> reindexPost(postId));
+    }
+
+    public void index(Comment comment) {
+        long commentId = comment.getId();
+
+        afterCommit(() -> reindexComment(commentId));
+    }
+
+    // DB 에 없으면 지운다. 글이 없으면 달린 댓글 문서도 함께 지운다.
+    public void delete(Post post) {
+        index(post);
+    }
+
+    public void delete(Comment comment) {
+        index(comment);
+    }
+
+    // page 는 1부터 시작, 점수(BM25)가 높은 순
+    public PostSearchResultDto search(String kw, int page, int pageSize) {
+        if (page < 1 || pageSize < 1) {
+            throw new ServiceException("400-2", "페이지 번호와 페이지 크기는 1 이상이어야 합니다.");
+        }
+
+        if (kw == null || kw.isBlank()) {
+            return new PostSearchResultDto(0, page, pageSize, List.of());
+        }
+
+        Query query = parseQuery(kw);
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+
+            try {
+                // page * pageSize 가 int 범위를 넘지 않도록 long 으로 계산하고,
+                // 색인된 문서 수보다 뒤의 페이지는 검색하지 않는다.
+                long start = (long) (page - 1) * pageSize;
+                int numDocs = searcher.getIndexReader().numDocs();
+
+                if (start >= numDocs) {
+                    return new PostSearchResultDto(searcher.count(query), page, pageSize, List.of());
+                }
+
+                TopDocs topDocs = searcher.search(query, (int) Math.min(start + pageSize, numDocs));
+                StoredFields storedFields = searcher.storedFields();
+                List<PostSearchHitDto> items = new ArrayList<>();
+
+                for (int i = (int) start; i < topDocs.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+                    items.add(toHit(storedFields.document(scoreDoc.doc), scoreDoc.score));
+                }
+
+                return new PostSearchResultDto(searcher.count(query), page, pageSize, items);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // DB 의 글, 댓글로 색인을 처음부터 다시 만든다. 색인된 문서 수를 반환한다.
+    public synchronized long rebuild() {
+        try {
+            indexWriter.deleteAll();
+
+            long count = 0;
+            long lastId = Long.MAX_VALUE;
+            LocalDateTime rebuiltModifyDate = null;
+
+            while (true) {
+                List<PostDto> posts = postRepository.findDtosByIdLessThanOrderByIdDesc(lastId, Limit.of(REBUILD_BATCH_SIZE));
+                if (posts.isEmpty()) break;
+
+                for (PostDto post : posts) {
+                    indexWriter.updateDocument(
+                            new Term("key", postKey(post.id())),
+                            postDocument(post.id(), post.title(), post.content(), post.authorName())
+                    );
+                    rebuiltModifyDate = latest(rebuiltModifyDate, post.modifyDate());
+                }
+
+                count += posts.size();
+                lastId = posts.getLast().id();
+            }
+
+            lastId = Long.MAX_VALUE;
+
+            while (true) {
+                List<CommentDto> comments = commentRepository.findDtosByIdLessThanOrderByIdDesc(lastId, Limit.of(REBUILD_BATCH_SIZE));
+                if (comments.isEmpty()) break;
+
+                for (CommentDto comment : comments) {
+                    indexWriter.updateDocument(
+                            new Term("key", commentKey(comment.id())),
+                            commentDocument(comment.postId(), comment.id(), comment.content(), comment.authorName())
+                    );
+                    rebuiltModifyDate = latest(rebuiltModifyDate, comment.modifyDate());
+                }
+
+                count += comments.size();
+                lastId = comments.getLast().id();
+            }
+
+            maxModifyDate = null;
+            recordModifyDate(rebuiltModifyDate);
+            indexWriter.commit();
+            searcherManager.maybeRefreshBlocking();
+
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 비정상 종료 등으로 색인이 DB 와 다르면 다시 만든다.
+    // 추가, 삭제는 문서 수로, 개수가 그대로인 수정은 가장 늦은 수정일로 확인한다.
+    public boolean rebuildIfOutOfSync() {
+        long dbCount = postRepository.count() + commentRepository.count();
+        LocalDateTime dbModifyDate = latest(postRepository.findMaxModifyDate(), commentRepository.findMaxModifyDate());
+
+        if (indexWriter.getDocStats().numDocs == dbCount && !isAfter(dbModifyDate, getMaxModifyDate())) {
+            return false;
+        }
+
+        rebuild();
+
+        return true;
+    }
+
+    private Query parseQuery(String kw) {
+        // 쿼리 파서는 스레드 안전하지 않으므로 매번 만든다.
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(SEARCH_FIELDS, analyzer, SEARCH_FIELD_BOOSTS);
+
+        try {
+            return parser.parse(QueryParser.escape(kw));
+        } catch (ParseException e) {
+            throw new ServiceException("400-1", "검색어가 올바르지 않습니다.");
+        }
+    }
+
+    // 롤백된 변경이 색인에 남지 않도록 커밋 이후에 반영한다.
+    // 한 트랜잭션의 변경은 모아서 반영하고 색인 커밋도 한 번만 한다.
+    @SuppressWarnings("unchecked")
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyAndCommit(List.of(task));
+            return;
+        }
+
+        List<Runnable> tasks = (List<Runnable>) TransactionSynchronizationManager.getResource(pendingTasksKey);
+
+        if (tasks == null) {
+            List<Runnable> pendingTasks = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(pendingTasksKey, pendingTasks);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyAndCommit(pendingTasks);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(pendingTasksKey);
+                }
+            });
+            tasks = pendingTasks;
+        }
+
+        tasks.add(task);
+    }
+
+    // 커밋해야 비정상 종료 후에도 남는다. (커밋하지 않으면 다음 rebuild 전까지 유실)
+    // rebuild 와 같은 모니터에서 실행하므로 rebuild 도중(deleteAll 이후)의 색인을 커밋하지 않는다.
+    // DB 읽기와 문서 교체도 한 번에 하나씩이므로 나중에 반영하는 쪽이 항상 더 최신 내용을 읽는다.
+    private synchronized void applyAndCommit(List<Runnable> tasks) {
+        tasks.forEach(Runnable::run);
+
+        try {
+            indexWriter.commit();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void reindexPost(long postId) {
+        try {
+            Optional<PostDto> post = postRepository.findDtoById(postId);
+
+            if (post.isEmpty()) {
+                indexWriter.deleteDocuments(new Term("postId", String.valueOf(postId)));
+                return;
+            }
+
+            indexWriter.updateDocument(
+                    new Term("key", postKey(postId)),
+                    postDocument(postId, post.get().title(), post.get().content(), post.get().authorName())
+            );
+            recordModifyDate(post.get().modifyDate());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void reindexComment(long commentId) {
+        try {
+            Optional<CommentDto> comment = commentRepository.findDtoById(commentId);
+
+            if (comment.isEmpty()) {
+                indexWriter.deleteDocuments(new Term("key", commentKey(commentId)));
+                return;
+            }
+
+            indexWriter.updateDocument(
+                    new Term("key", commentKey(commentId)),
+                    commentDocument(comment.get().postId(), commentId, comment.get().content(), comment.get().authorName())
+            );
+            recordModifyDate(comment.get().modifyDate());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 다음 색인 커밋에 가장 늦은 수정일이 함께 저장된다.
+    private synchronized void recordModifyDate(LocalDateTime modifyDate) {
+        if (!isAfter(modifyDate, maxModifyDate)) {
+            return;
+        }
+
+        maxModifyDate = modifyDate;
+        indexWriter.setLiveCommitData(Map.of(MAX_MODIFY_DATE_KEY, modifyDate.toString()).entrySet());
+    }
+
+    private synchronized LocalDateTime getMaxModifyDate() {
+        return maxModifyDate;
+    }
+
+    // DB 는 마이크로초까지만 저장하므로 그 단위로 비교한다.
+    private static boolean isAfter(LocalDateTime a, LocalDateTime b) {
+        if (a == null) return false;
+        if (b == null) return true;
+
+        return a.truncatedTo(ChronoUnit.MICROS).isAfter(b.truncatedTo(ChronoUnit.MICROS));
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return isAfter(b, a) ? b : a;
+    }
+
+    private String postKey(long postId) {
+        return "post-" + postId;
+    }
+
+    private String commentKey(long commentId) {
+        return "comment-" + commentId;
+    }
+
+    private Document postDocument(long postId, String title, String content, String authorName) {
+        Document document = new Document();
+        document.add(new StringField("key", postKey(postId), Field.Store.NO));
+        document.add(new StringField("type", "post", Field.Store.YES));
+        document.add(new StringField("postId", String.valueOf(postId), Field.Store.YES));
+        document.add(new TextField("title", title, Field.Store.YES));
+        document.add(new TextField("content", content, Field.Store.YES));
+        document.add(new StoredField("authorName", authorName));
+
+        return document;
+    }
+
+    private Document commentDocument(long postId, long commentId, String content, String authorName) {
+        Document document = new Document();
+        document.add(new StringField("key", commentKey(commentId), Field.Store.NO));
+        document.add(new StringField("type", "comment", Field.Store.YES));
+        document.add(new StringField("postId", String.valueOf(postId), Field.Store.YES));
+        document.add(new StoredField("commentId", commentId));
+        document.add(new TextField("content", content, Field.Store.YES));
+        document.add(new StoredField("authorName", authorName));
+
+        return document;
+    }
+
+    private PostSearchHitDto toHit(Document document, float score) {
+        String commentId = document.get("commentId");
+
+        return new PostSearchHitDto(
+                document.get("type"),
+                Long.parseLong(document.get("postId")),
+                commentId == null ? null : Long.parseLong(commentId),
+                document.get("title"),
+                document.get("content"),
+                document.get("authorName"),
+                score
+        );
+    }
+}
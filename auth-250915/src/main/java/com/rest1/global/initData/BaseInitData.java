@@ -28,6 +28,7 @@ public class BaseInitData {
 
             self.work1();
             self.work2();
+            work3();
 
         };
 
@@ -65,10 +66,15 @@ public class BaseInitData {
         Post post2 = postService.write(member1, "제목2", "내용2");
         Post post3 = postService.write(member2, "제목3", "내용3");
 
-        post1.addComment(member1, "댓글 1-1");
-        post1.addComment(member1, "댓글 1-2");
-        post1.addComment(member1, "댓글 1-3");
-        post2.addComment(member2, "댓글 2-1");
-        post2.addComment(member2, "댓글 2-2");
+        postService.writeComment(member1, post1, "댓글 1-1");
+        postService.writeComment(member1, post1, "댓글 1-2");
+        postService.writeComment(member1, post1, "댓글 1-3");
+        postService.writeComment(member2, post2, "댓글 2-1");
+        postService.writeComment(member2, post2, "댓글 2-2");
     }
-}
\ No newline at end of file
+
+    // 검색 색인이 DB 와 어긋나 있으면(메모리 색인, 비정상 종료 등) 다시 만든다.
+    public void work3() {
+        postService.rebuildSearchIndexIfOutOfSync();
+    }
+}
@@ -0,0 +1,35 @@
+package com.rest1.global.jpa.dto;
+
+import com.rest1.global.jpa.entity.BaseEntity;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+// 조건부 GET(ETag, Last-Modified)에 쓰는 데이터 버전 정보
+// 목록은 count, max(id), max(modifyDate) 를 집계 쿼리 한 번으로 구한다.
+// extra 에는 modifyDate 를 바꾸지 않고 변하는 값(예: 댓글 수)을 담는다.
+public record Fingerprint(
+        long count,
+        long maxId,
+        LocalDateTime lastModified,
+        long extra
+) {
+    public static Fingerprint of(BaseEntity entity, long extra) {
+        return new Fingerprint(1, entity.getId(), entity.getModifyDate(), extra);
+    }
+
+    public String toETag() {
+        long lastModifiedMicros = lastModified == null
+                ? 0
+                : ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), lastModified);
+
+        return "\"%d-%d-%d-%d\"".formatted(count, maxId, lastModifiedMicros, extra);
+    }
+
+    public long toLastModifiedMillis() {
+        if (lastModified == null) return -1;
+
+        return lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -3,11 +3,13 @@ package com.rest1.global.rq;
 import com.rest1.domain.member.member.entity.Member;
 import com.rest1.domain.member.member.service.MemberService;
 import com.rest1.global.exception.ServiceException;
+import com.rest1.global.jpa.dto.Fingerprint;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.Arrays;
 import java.util.Map;
@@ -75,6 +77,16 @@ public class Rq {
         return member;
     }
 
+    // ETag, Last-Modified 헤더를 응답에 담고, 클라이언트가 가진 버전과 같으면 true 를 반환한다.
+    // true 이면 응답 상태는 304 로 설정되므로 컨트롤러는 본문 없이(null) 반환하면 된다.
+    public boolean checkNotModified(Fingerprint fingerprint) {
+        // 캐시는 하되 매번 재검증하도록
+        setHeader("Cache-Control", "no-cache");
+
+        return new ServletWebRequest(request, response)
+                .checkNotModified(fingerprint.toETag(), fingerprint.toLastModifiedMillis());
+    }
+
     private void setHeader(String name, String value) {
         response.setHeader(name, value);
     }
@@ -4,7 +4,7 @@ package com.rest1.domain.post.comment.controller;
 import com.rest1.domain.member.member.entity.Member;
 import com.rest1.domain.member.member.repository.MemberRepository;
 import com.rest1.domain.post.comment.entity.Comment;
-import com.rest1.domain.post.post.entity.Post;
+import com.rest1.domain.post.comment.repository.CommentRepository;
 import com.rest1.domain.post.post.repository.PostRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,6 +38,9 @@ public class ApiV1CommentControllerTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private CommentRepository commentRepository;
+
     @Test
     @DisplayName("댓글 다건 조회 - 1번 글에 대한 댓글")
     void t1() throws Exception {
@@ -158,8 +161,7 @@ public class ApiV1CommentControllerTest {
                 .andExpect(jsonPath("$.resultCode").value("200-1"))
                 .andExpect(jsonPath("$.msg").value("%d번 댓글이 수정되었습니다.".formatted(targetCommentId)));
 
-        Post post = postRepository.findById(targetPostId).get();
-        Comment comment = post.findCommentById(targetCommentId).get();
+        Comment comment = commentRepository.findByPostIdAndId(targetPostId, targetCommentId).get();
 
         assertThat(comment.getContent()).isEqualTo(content);
     }
@@ -218,8 +220,7 @@ public class ApiV1CommentControllerTest {
                 .andExpect(jsonPath("$.msg").value("%d번 댓글이 삭제되었습니다.".formatted(targetCommentId)));
 
         // 선택적 검증
-        Post post = postRepository.findById(targetPostId).orElse(null);
-        Comment comment = post.findCommentById(targetCommentId).orElse(null);
+        Comment comment = commentRepository.findByPostIdAndId(targetPostId, targetCommentId).orElse(null);
         assertThat(comment).isNull();
     }
 
@@ -246,4 +247,212 @@ public class ApiV1CommentControllerTest {
                 .andExpect(jsonPath("$.resultCode").value("403-2"))
                 .andExpect(jsonPath("$.msg").value("댓글 삭제 권한이 없습니다."));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("댓글 다건 조회 - 키셋 페이징")
+    void t8() throws Exception {
+        long targetPostId = 1;
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments".formatted(targetPostId))
+                                .param("lastId", "3")
+                                .param("pageSize", "1")
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1CommentController.class))
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[0].content").value("댓글 1-2"))
+                .andExpect(jsonPath("$[0].postId").value(1));
+    }
+
+    @Test
+    @DisplayName("댓글 단건 조회 - 다른 글의 댓글 번호")
+    void t9() throws Exception {
+        long targetPostId = 2;
+        long targetCommentId = 1;
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments/%d".formatted(targetPostId, targetCommentId))
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1CommentController.class))
+                .andExpect(handler().methodName("getItem"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("댓글 생성, 삭제 - 글의 댓글 수 반영")
+    void t10() throws Exception {
+        long targetPostId = 1;
+        Member author = memberRepository.findByUsername("user1").get();
+
+        mvc
+                .perform(
+                        get("/api/v1/posts").param("lastId", "2")
+                )
+                .andExpect(jsonPath("$[0].id").value(targetPostId))
+                .andExpect(jsonPath("$[0].commentCount").value(3));
+
+        mvc
+                .perform(
+                        post("/api/v1/posts/%d/comments".formatted(targetPostId))
+                                .header("Authorization", "Bearer %s".formatted(author.getApiKey()))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "content": "새로운 댓글"
+                                        }
+                                        """)
+                )
+                .andExpect(status().isCreated());
+
+        mvc
+                .perform(
+                        get("/api/v1/posts").param("lastId", "2")
+                )
+                .andExpect(jsonPath("$[0].id").value(targetPostId))
+                .andExpect(jsonPath("$[0].commentCount").value(4));
+
+        mvc
+                .perform(
+                        delete("/api/v1/posts/%d/comments/%d".formatted(targetPostId, 1))
+                                .header("Authorization", "Bearer %s".formatted(author.getApiKey()))
+                )
+                .andExpect(status().isOk());
+
+        mvc
+                .perform(
+                        delete("/api/v1/posts/%d/comments/%d".formatted(targetPostId, 2))
+                                .header("Authorization", "Bearer %s".formatted(author.getApiKey()))
+                )
+                .andExpect(status().isOk());
+
+        mvc
+                .perform(
+                        get("/api/v1/posts").param("lastId", "2")
+                )
+                .andDo(print())
+                .andExpect(jsonPath("$[0].id").value(targetPostId))
+                .andExpect(jsonPath("$[0].commentCount").value(2));
+    }
+
+    @Test
+    @DisplayName("댓글 다건 조회 - 변경이 없으면 304, 댓글이 수정되면 200")
+    void t11() throws Exception {
+        long targetPostId = 1;
+        Member author = memberRepository.findByUsername("user1").get();
+
+        String eTag = mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments".formatted(targetPostId))
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments".formatted(targetPostId))
+                                .header("If-None-Match", eTag)
+                )
+                .andDo(print())
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(status().isNotModified());
+
+        mvc
+                .perform(
+                        put("/api/v1/posts/%d/comments/%d".formatted(targetPostId, 1))
+                                .header("Authorization", "Bearer %s".formatted(author.getApiKey()))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "content": "댓글 내용 수정"
+                                        }
+                                        """)
+                )
+                .andExpect(status().isOk());
+
+        mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments".formatted(targetPostId))
+                                .header("If-None-Match", eTag)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[2].content").value("댓글 내용 수정"));
+    }
+
+    @Test
+    @DisplayName("댓글 생성, 삭제 - 글 다건 조회가 304 가 아닌 200")
+    void t12() throws Exception {
+        long targetPostId = 1;
+        Member author = memberRepository.findByUsername("user1").get();
+
+        String eTag = mvc
+                .perform(
+                        get("/api/v1/posts").param("lastId", "2")
+                )
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mvc
+                .perform(
+                        get("/api/v1/posts").param("lastId", "2")
+                                .header("If-None-Match", eTag)
+                )
+                .andExpect(status().isNotModified());
+
+        // 댓글 수는 글의 수정일을 바꾸지 않아도 ETag 에 반영되어야 한다.
+        mvc
+                .perform(
+                        post("/api/v1/posts/%d/comments".formatted(targetPostId))
+                                .header("Authorization", "Bearer %s".formatted(author.getApiKey()))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "content": "새로운 댓글"
+                                        }
+                                        """)
+                )
+                .andExpect(status().isCreated());
+
+        String createdETag = mvc
+                .perform(
+                        get("/api/v1/posts").param("lastId", "2")
+                                .header("If-None-Match", eTag)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].commentCount").value(4))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mvc
+                .perform(
+                        delete("/api/v1/posts/%d/comments/%d".formatted(targetPostId, 1))
+                                .header("Authorization", "Bearer %s".formatted(author.getApiKey()))
+                )
+                .andExpect(status().isOk());
+
+        mvc
+                .perform(
+                        get("/api/v1/posts").param("lastId", "2")
+                                .header("If-None-Match", createdETag)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].commentCount").value(3));
+    }
+}
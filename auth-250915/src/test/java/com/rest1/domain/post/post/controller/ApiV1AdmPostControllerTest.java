@@ -15,6 +15,7 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -76,4 +77,47 @@ public class ApiV1AdmPostControllerTest {
                 .andExpect(jsonPath("$.msg").value("권한이 없습니다"));
 
     }
+
+    @Test
+    @DisplayName("검색 색인 재생성")
+    void t3() throws Exception {
+
+        Member actor = memberRepository.findByUsername("admin").get();
+
+        ResultActions resultActions = mvc
+                .perform(
+                        post("/api/v1/adm/posts/search/rebuild")
+                                .cookie(new Cookie("apiKey", actor.getApiKey()))
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1AdmPostController.class))
+                .andExpect(handler().methodName("rebuildSearchIndex"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200-1"))
+                .andExpect(jsonPath("$.msg").value("검색 색인을 다시 만들었습니다."))
+                .andExpect(jsonPath("$.data.indexedCount").value(8));
+    }
+
+    @Test
+    @DisplayName("검색 색인 재생성, 권한이 없는 경우")
+    void t4() throws Exception {
+
+        Member actor = memberRepository.findByUsername("user1").get();
+
+        ResultActions resultActions = mvc
+                .perform(
+                        post("/api/v1/adm/posts/search/rebuild")
+                                .cookie(new Cookie("apiKey", actor.getApiKey()))
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1AdmPostController.class))
+                .andExpect(handler().methodName("rebuildSearchIndex"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.resultCode").value("403-1"))
+                .andExpect(jsonPath("$.msg").value("권한이 없습니다"));
+    }
 }
@@ -5,6 +5,8 @@ import com.rest1.domain.member.member.repository.MemberRepository;
 import com.rest1.domain.post.post.entity.Post;
 import com.rest1.domain.post.post.repository.PostRepository;
 import com.rest1.standard.ut.Ut;
+import com.rest1.global.jpa.QueryCounter;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,6 +43,9 @@ public class ApiV1PostControllerTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Value("${custom.jwt.secretPattern}")
     private String secretPattern;
 
@@ -513,4 +518,193 @@ public class ApiV1PostControllerTest {
                 .andExpect(jsonPath("$.msg").value("삭제 권한이 없습니다."));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("글 다건 조회, 페이징")
+    void t16() throws Exception {
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/posts")
+                                .param("page", "2")
+                                .param("pageSize", "2")
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].authorName").value("유저1"));
+    }
+
+    @Test
+    @DisplayName("글 다건 조회, 키셋 페이징")
+    void t17() throws Exception {
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/posts")
+                                .param("lastId", "3")
+                                .param("pageSize", "1")
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[0].authorId").value(3))
+                .andExpect(jsonPath("$[0].authorName").value("유저1"));
+    }
+
+    @Test
+    @DisplayName("글 다건 조회, 한 페이지당 쿼리 1개")
+    void t18() throws Exception {
+        QueryCounter queryCounter = new QueryCounter(entityManagerFactory);
+
+        for (String lastId : new String[]{"", "3"}) {
+            long queryCount = queryCounter.count(() ->
+                    mvc
+                            .perform(
+                                    get("/api/v1/posts")
+                                            .param("pageSize", "2")
+                                            .param("lastId", lastId)
+                            )
+                            .andExpect(status().isOk())
+                            .andExpect(jsonPath("$.length()").value(2))
+            );
+
+            // 조건부 GET 용 집계 쿼리 1개 + 목록 쿼리 1개
+            assertThat(queryCount).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("글 다건 조회, 변경이 없으면 304")
+    void t19() throws Exception {
+        String eTag = mvc
+                .perform(
+                        get("/api/v1/posts")
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mvc
+                .perform(
+                        get("/api/v1/posts")
+                                .header("If-None-Match", eTag)
+                )
+                .andDo(print())
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        Member author = memberRepository.findByUsername("user1").get();
+
+        mvc
+                .perform(
+                        put("/api/v1/posts/%d".formatted(1))
+                                .header("Authorization", "Bearer %s".formatted(author.getApiKey()))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "title": "제목 수정",
+                                            "content": "내용 수정"
+                                        }
+                                        """)
+                )
+                .andExpect(status().isOk());
+
+        mvc
+                .perform(
+                        get("/api/v1/posts")
+                                .header("If-None-Match", eTag)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[2].title").value("제목 수정"));
+    }
+
+    @Test
+    @DisplayName("글 단건 조회, 변경이 없으면 304")
+    void t20() throws Exception {
+        long targetId = 1;
+
+        String eTag = mvc
+                .perform(
+                        get("/api/v1/posts/%d".formatted(targetId))
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mvc
+                .perform(
+                        get("/api/v1/posts/%d".formatted(targetId))
+                                .header("If-None-Match", eTag)
+                )
+                .andDo(print())
+                .andExpect(handler().methodName("getItem"))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mvc
+                .perform(
+                        get("/api/v1/posts/%d".formatted(targetId + 1))
+                                .header("If-None-Match", eTag)
+                )
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("글 검색")
+    void t21() throws Exception {
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/posts/search")
+                                .param("kw", "제목")
+                                .param("pageSize", "2")
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("search"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(3))
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].type").value("post"))
+                .andExpect(jsonPath("$.items[0].score").isNumber());
+    }
+
+    @Test
+    @DisplayName("글 검색, 댓글 내용")
+    void t22() throws Exception {
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/posts/search")
+                                .param("kw", "댓글")
+                                .param("page", "2")
+                                .param("pageSize", "3")
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("search"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(5))
+                .andExpect(jsonPath("$.page").value(2))
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].type").value("comment"))
+                .andExpect(jsonPath("$.items[0].commentId").isNumber());
+    }
+}
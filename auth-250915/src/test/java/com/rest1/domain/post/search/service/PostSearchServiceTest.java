@@ -0,0 +1,209 @@
+package com.rest1.domain.post.search.service;
+
+import com.rest1.domain.member.member.entity.Member;
+import com.rest1.domain.member.member.repository.MemberRepository;
+import com.rest1.domain.post.comment.entity.Comment;
+import com.rest1.domain.post.comment.repository.CommentRepository;
+import com.rest1.domain.post.post.entity.Post;
+import com.rest1.domain.post.post.repository.PostRepository;
+import com.rest1.domain.post.post.service.PostService;
+import com.rest1.domain.post.search.dto.PostSearchResultDto;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.store.FSDirectory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 색인은 커밋 이후에 반영되므로 실제로 커밋하는 테스트이다.
+// id 값에 의존하는 다른 테스트에 영향이 없도록 별도 DB 를 쓴다.
+// 색인 커밋을 새 DirectoryReader 로 확인하도록 임시 디렉토리에 색인한다. (임시 디렉토리를 지우기 전에 컨텍스트를 닫는다.)
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:db_post_search;MODE=MySQL")
+@DirtiesContext
+public class PostSearchServiceTest {
+
+    @TempDir
+    static Path indexDir;
+
+    @DynamicPropertySource
+    static void indexDirProperty(DynamicPropertyRegistry registry) {
+        registry.add("custom.search.indexDir", () -> indexDir.toString());
+    }
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostSearchService postSearchService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("글 작성, 수정, 삭제가 색인에 반영된다.")
+    void t1() {
+        Member author = memberRepository.findByUsername("user1").get();
+
+        Post post = transactionTemplate.execute(status ->
+                postService.write(author, "루씬 검색", "형태소 분석기로 색인합니다.")
+        );
+
+        PostSearchResultDto result = postSearchService.search("루씬", 1, 10);
+        assertThat(result.totalCount()).isEqualTo(1);
+        assertThat(result.items().getFirst().postId()).isEqualTo(post.getId());
+        assertThat(result.items().getFirst().title()).isEqualTo("루씬 검색");
+
+        transactionTemplate.executeWithoutResult(status ->
+                postService.modify(postService.findById(post.getId()).get(), "전문 검색", "역색인을 씁니다.")
+        );
+
+        assertThat(postSearchService.search("루씬", 1, 10).totalCount()).isZero();
+        assertThat(postSearchService.search("역색인", 1, 10).items().getFirst().title()).isEqualTo("전문 검색");
+
+        transactionTemplate.executeWithoutResult(status ->
+                postService.delete(postService.findById(post.getId()).get())
+        );
+
+        assertThat(postSearchService.search("전문", 1, 10).totalCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("댓글 작성, 수정, 삭제가 색인에 반영된다.")
+    void t2() {
+        Member author = memberRepository.findByUsername("user2").get();
+
+        Comment comment = transactionTemplate.execute(status ->
+                postService.writeComment(author, postService.findById(1L).get(), "자바스크립트 질문입니다.")
+        );
+
+        PostSearchResultDto result = postSearchService.search("자바스크립트", 1, 10);
+        assertThat(result.totalCount()).isEqualTo(1);
+        assertThat(result.items().getFirst().type()).isEqualTo("comment");
+        assertThat(result.items().getFirst().commentId()).isEqualTo(comment.getId());
+        assertThat(result.items().getFirst().authorName()).isEqualTo("유저2");
+
+        transactionTemplate.executeWithoutResult(status ->
+                postService.modifyComment(postService.findCommentById(1L, comment.getId()).get(), "코틀린 질문입니다.")
+        );
+
+        assertThat(postSearchService.search("자바스크립트", 1, 10).totalCount()).isZero();
+        assertThat(postSearchService.search("코틀린", 1, 10).totalCount()).isEqualTo(1);
+
+        transactionTemplate.executeWithoutResult(status ->
+                postService.deleteComment(postService.findCommentById(1L, comment.getId()).get())
+        );
+
+        assertThat(postSearchService.search("코틀린", 1, 10).totalCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("롤백된 글은 색인되지 않는다.")
+    void t3() {
+        Member author = memberRepository.findByUsername("user1").get();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            postService.write(author, "롤백 제목", "롤백될 내용");
+            status.setRollbackOnly();
+        });
+
+        assertThat(postSearchService.search("롤백", 1, 10).totalCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("제목에 일치하면 내용에만 일치하는 것보다 앞선다.")
+    void t4() {
+        Member author = memberRepository.findByUsername("user1").get();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            postService.write(author, "일반 글", "스프링 부트 이야기");
+            postService.write(author, "스프링 정리", "오늘 공부한 내용");
+        });
+
+        PostSearchResultDto result = postSearchService.search("스프링", 1, 10);
+        assertThat(result.totalCount()).isEqualTo(2);
+        assertThat(result.items().getFirst().title()).isEqualTo("스프링 정리");
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 커밋되면 색인도 커밋된다.")
+    void t5() throws IOException {
+        Member author = memberRepository.findByUsername("user1").get();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Post post = postService.write(author, "커밋 제목", "커밋 내용");
+            postService.writeComment(author, post, "커밋 댓글");
+        });
+
+        assertThat(postSearchService.search("커밋", 1, 10).totalCount()).isEqualTo(2);
+
+        // 새로 연 reader 는 커밋된 색인만 본다.
+        try (FSDirectory directory = FSDirectory.open(indexDir);
+             DirectoryReader reader = DirectoryReader.open(directory)) {
+            assertThat(reader.numDocs()).isEqualTo(postRepository.count() + commentRepository.count());
+        }
+    }
+
+    @Test
+    @DisplayName("아주 큰 페이지 번호도 빈 결과를 반환한다.")
+    void t6() {
+        PostSearchResultDto result = postSearchService.search("제목", Integer.MAX_VALUE, 100);
+
+        assertThat(result.items()).isEmpty();
+        assertThat(result.page()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("색인에 반영되지 않은 수정은 문서 수가 같아도 찾아서 다시 만든다.")
+    void t7() {
+        assertThat(postSearchService.rebuildIfOutOfSync()).isFalse();
+
+        // 색인을 거치지 않고 DB 만 수정 (색인 반영 전에 비정상 종료된 경우)
+        transactionTemplate.executeWithoutResult(status ->
+                postRepository.findById(1L).get().update("유실된 수정", "색인에 없는 내용")
+        );
+
+        assertThat(postSearchService.search("유실된", 1, 10).totalCount()).isZero();
+        assertThat(postSearchService.rebuildIfOutOfSync()).isTrue();
+        assertThat(postSearchService.search("유실된", 1, 10).totalCount()).isEqualTo(1);
+        assertThat(postSearchService.rebuildIfOutOfSync()).isFalse();
+    }
+
+    @Test
+    @DisplayName("색인은 커밋 이후의 DB 내용으로 만든다.")
+    void t8() {
+        Member author = memberRepository.findByUsername("user1").get();
+
+        Post post = transactionTemplate.execute(status -> {
+            Post written = postService.write(author, "처음 제목", "처음 내용");
+            // 색인 요청 뒤에 같은 트랜잭션에서 바뀐 내용도 반영된다.
+            written.update("나중 제목", "나중 내용");
+            return written;
+        });
+
+        assertThat(postSearchService.search("처음", 1, 10).totalCount()).isZero();
+        assertThat(postSearchService.search("나중", 1, 10).items().getFirst().postId()).isEqualTo(post.getId());
+    }
+}
@@ -0,0 +1,97 @@
+package com.rest1.global.jpa;
+
+import com.rest1.domain.member.member.entity.Member;
+import com.rest1.domain.member.member.repository.MemberRepository;
+import com.rest1.domain.post.post.entity.Post;
+import com.rest1.domain.post.post.repository.PostRepository;
+import com.rest1.domain.post.post.service.PostService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 조회 API 가 허용된 쿼리 개수를 넘으면(N+1 등) 빌드가 실패하도록 한다.
+// 목록 API 는 조건부 GET 용 집계 쿼리(Fingerprint) 1개가 더 포함된다.
+// 데이터를 많이 넣으므로 id 값에 의존하는 다른 테스트에 영향이 없도록 별도 DB 를 쓴다.
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:db_query_budget;MODE=MySQL")
+@AutoConfigureMockMvc
+@Transactional
+public class QueryBudgetTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @BeforeEach
+    void setUp() {
+        Post post1 = postRepository.findById(1L).get();
+
+        // 작성자가 모두 다른 글과 댓글을 충분히 만들어서 N+1 이 있으면 드러나도록 한다.
+        for (int i = 1; i <= 30; i++) {
+            Member member = memberRepository.save(new Member("budget%d".formatted(i), "1234", "예산%d".formatted(i)));
+            postRepository.save(new Post(member, "제목%d".formatted(i), "내용%d".formatted(i)));
+            postService.writeComment(member, post1, "댓글%d".formatted(i));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @ParameterizedTest(name = "{0} : 쿼리 {1}개 이하")
+    @DisplayName("조회 API 쿼리 개수 제한")
+    @CsvSource({
+            "/api/v1/posts, 2",
+            "/api/v1/posts?pageSize=100, 2",
+            "/api/v1/posts?lastId=1000000, 2",
+            "/api/v1/posts/1, 1",
+            "/api/v1/posts/1/comments, 3",
+            "/api/v1/posts/1/comments?pageSize=100, 3",
+            "/api/v1/posts/1/comments/1, 1",
+            "/api/v1/adm/members, 2"
+    })
+    void t1(String url, long budget) throws Exception {
+        QueryCounter queryCounter = new QueryCounter(entityManagerFactory);
+
+        long queryCount = queryCounter.count(() ->
+                mvc
+                        .perform(
+                                get(url)
+                                        .header("Authorization", "Bearer admin")
+                        )
+                        .andExpect(status().isOk())
+        );
+
+        assertThat(queryCount)
+                .as("%s 실행 쿼리 수", url)
+                .isLessThanOrEqualTo(budget);
+    }
+}
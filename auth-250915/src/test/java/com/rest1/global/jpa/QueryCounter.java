@@ -0,0 +1,27 @@
+package com.rest1.global.jpa;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+// 테스트 프로필의 hibernate.generate_statistics 를 이용해서 실행된 SQL 개수를 센다.
+public class QueryCounter {
+
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public long count(Action action) throws Exception {
+        statistics.clear();
+        action.run();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+}
@@ -4,32 +4,32 @@ import org.example.WiseSaying;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.TreeMap;
 
 public class WiseSayingRepository {
-    private List<WiseSaying> wiseSayings = new ArrayList<>();
+    // id => 명언, id 순으로 정렬되어 있어서 조회/삭제는 목록을 훑지 않고 바로 찾음
+    private TreeMap<Integer, WiseSaying> wiseSayings = new TreeMap<>();
     private int lastId = 0;
 
     public WiseSaying findByIdOrNull(int id) {
-        return wiseSayings.stream()
-                .filter(w -> w.getId() == id)
-                .findFirst()
-                .orElse(null);
+        return wiseSayings.get(id);
     }
 
     public boolean delete(int id) {
-        return wiseSayings.removeIf(w -> w.getId() == id);
+        return wiseSayings.remove(id) != null;
     }
 
     public WiseSaying save(WiseSaying wiseSaying) {
         if(wiseSaying.isNew()){ // wiseSaying이 새로운 객체인 경우
             lastId++;
             wiseSaying.setId(lastId);
-            wiseSayings.add(wiseSaying);
+            wiseSayings.put(lastId, wiseSaying);
         }
         return wiseSaying;
     }
 
+    // 최신순 (id 내림차순)
     public List<WiseSaying> findListDesc() {
-        return wiseSayings.reversed();
+        return new ArrayList<>(wiseSayings.descendingMap().values());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,110 @@
+package com.back.global.security
+
+import com.back.global.exception.ServiceException
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import org.springframework.beans.factory.DisposableBean
+import org.springframework.security.crypto.password.PasswordEncoder
+import java.time.Duration
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import java.util.concurrent.atomic.AtomicInteger
+
+// BCrypt 해시를 전용 스레드 풀에서 실행한다.
+// 스레드 수와 대기열 크기를 제한하고, 대기열이 가득 차면 기다리지 않고 바로 503 으로 거절한다.
+// 가입/로그인이 몰려도 해시 작업은 정해진 만큼의 CPU 만 쓰고, 나머지 요청은 계속 처리된다.
+class PooledPasswordEncoder(
+    private val delegate: PasswordEncoder,
+    threads: Int,
+    queueCapacity: Int,
+    private val timeout: Duration,
+    meterRegistry: MeterRegistry
+) : PasswordEncoder, DisposableBean {
+
+    private val threadNumber = AtomicInteger()
+
+    private val executor = ThreadPoolExecutor(
+        threads, threads,
+        0L, TimeUnit.MILLISECONDS,
+        ArrayBlockingQueue(queueCapacity),
+        { runnable ->
+            Thread(runnable, "password-hash-${threadNumber.incrementAndGet()}").apply { isDaemon = true }
+        },
+        ThreadPoolExecutor.AbortPolicy()
+    )
+
+    // 대기열에서 기다린 시간(스레드 부족)과 해시 계산 시간(CPU 부족)을 따로 기록한다.
+    private val encodeQueueTimer = timer(meterRegistry, "password.queue", "encode")
+    private val encodeHashTimer = timer(meterRegistry, "password.hash", "encode")
+    private val matchesQueueTimer = timer(meterRegistry, "password.queue", "matches")
+    private val matchesHashTimer = timer(meterRegistry, "password.hash", "matches")
+    private val rejectedCounter = Counter.builder("password.rejected").register(meterRegistry)
+
+    init {
+        Gauge.builder("password.queue.size", executor) { it.queue.size.toDouble() }.register(meterRegistry)
+        Gauge.builder("password.active", executor) { it.activeCount.toDouble() }.register(meterRegistry)
+    }
+
+    override fun encode(rawPassword: CharSequence): String =
+        execute(encodeQueueTimer, encodeHashTimer) { delegate.encode(rawPassword) }
+
+    override fun matches(rawPassword: CharSequence, encodedPassword: String?): Boolean =
+        execute(matchesQueueTimer, matchesHashTimer) { delegate.matches(rawPassword, encodedPassword) }
+
+    override fun upgradeEncoding(encodedPassword: String?): Boolean =
+        delegate.upgradeEncoding(encodedPassword)
+
+    override fun destroy() {
+        executor.shutdownNow()
+    }
+
+    private fun <T> execute(queueTimer: Timer, hashTimer: Timer, task: () -> T): T {
+        val submittedAt = System.nanoTime()
+
+        val future = try {
+            executor.submit<T> {
+                val startedAt = System.nanoTime()
+                queueTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS)
+
+                try {
+                    task()
+                } finally {
+                    hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS)
+                }
+            }
+        } catch (e: RejectedExecutionException) {
+            rejectedCounter.increment()
+            throw busy()
+        }
+
+        return try {
+            future.get(timeout.toMillis(), TimeUnit.MILLISECONDS)
+        } catch (e: TimeoutException) {
+            // 아직 대기열에 있다면 실행되지 않도록 취소한다.
+            future.cancel(true)
+            rejectedCounter.increment()
+            throw busy()
+        } catch (e: InterruptedException) {
+            future.cancel(true)
+            Thread.currentThread().interrupt()
+            throw busy()
+        } catch (e: ExecutionException) {
+            throw e.cause ?: e
+        }
+    }
+
+    private fun busy() = ServiceException("503-1", "요청이 많습니다. 잠시 후 다시 시도해주세요.")
+
+    companion object {
+        private fun timer(meterRegistry: MeterRegistry, name: String, operation: String): Timer =
+            Timer.builder(name)
+                .tag("operation", operation)
+                .register(meterRegistry)
+    }
+}
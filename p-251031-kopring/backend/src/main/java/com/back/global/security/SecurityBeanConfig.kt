@@ -1,14 +1,20 @@
 package com.back.global.security
 
+import io.micrometer.core.instrument.MeterRegistry
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder
 import org.springframework.security.crypto.password.PasswordEncoder
+import java.time.Duration
 
 @Configuration
 class SecurityBeanConfig {
+    // 가입(encode), 로그인(matches) 모두 전용 스레드 풀에서 해시한다.
+    // 스레드 수: CPU 코어의 절반, 대기열: 스레드당 16개, 5초 안에 끝나지 않으면 503
     @Bean
-    fun passwordEncoder(): PasswordEncoder {
-        return BCryptPasswordEncoder()
+    fun passwordEncoder(meterRegistry: MeterRegistry): PasswordEncoder {
+        val threads = maxOf(1, Runtime.getRuntime().availableProcessors() / 2)
+
+        return PooledPasswordEncoder(BCryptPasswordEncoder(), threads, threads * 16, Duration.ofSeconds(5), meterRegistry)
     }
 }
@@ -0,0 +1,91 @@
+package com.back.global.security;
+
+import com.back.global.exception.ServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 스프링 컨텍스트 없이 테스트한다.
+public class PooledPasswordEncoderTest {
+
+    @Test
+    @DisplayName("encode, matches 결과는 BCrypt 와 같고 대기 시간과 해시 시간이 따로 기록된다.")
+    void t1() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PooledPasswordEncoder passwordEncoder = new PooledPasswordEncoder(
+                new BCryptPasswordEncoder(4), 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        String encoded = passwordEncoder.encode("1234");
+
+        assertThat(passwordEncoder.matches("1234", encoded)).isTrue();
+        assertThat(passwordEncoder.matches("12345", encoded)).isFalse();
+        assertThat(meterRegistry.get("password.queue").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차 있으면 기다리지 않고 503-1 로 거절한다.")
+    void t2() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PooledPasswordEncoder passwordEncoder = new PooledPasswordEncoder(
+                slowEncoder(started, release), 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        // 첫 번째는 실행 중, 두 번째는 대기열에서 대기
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("b"));
+        while (meterRegistry.get("password.queue.size").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        long startedAt = System.nanoTime();
+
+        assertThatThrownBy(() -> passwordEncoder.encode("c"))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageStartingWith("503-1");
+        assertThat(System.nanoTime() - startedAt).isLessThan(TimeUnit.SECONDS.toNanos(1));
+        assertThat(meterRegistry.get("password.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("b");
+
+        passwordEncoder.destroy();
+    }
+
+    // release 될 때까지 해시를 끝내지 않는 인코더
+    private PasswordEncoder slowEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+}
@@ -1,33 +1,24 @@
 package com.back
 
+import java.net.URLDecoder
+
+// 명령 1줄 => 액션 이름 + 파라미터 (ex. 삭제?id=1)
+// 만들 때 한 번만 잘라서(정규식 없이) 바꿀 수 없는 Map 에 담아 둠
+// 키, 값은 URL 디코딩 (%EA%BF%88 => 꿈, + => 공백), = 가 없거나 키나 값이 비어 있는 파라미터는 무시
 class Rq(
     cmd: String
 ) {
 
-    val action: String
-    private val paramMap: Map<String, String>
-
-    init {
-
-        val cmdBits = cmd.split("?")
-        action = cmdBits[0]
+    val action: String = cmd.substringBefore('?')
+    private val paramMap: Map<String, String> =
+        if ('?' in cmd) parseQuery(cmd.substringAfter('?')) else emptyMap()
 
-        paramMap = if (cmdBits.size == 2) {
-
-            cmdBits[1]
-                .split("&")
-                .map {  // aaa=bbb
-                    val paramBits = it.split("=")
-                    paramBits[0] to paramBits[1]
-                }
-                .toMap()
-        } else {
-            emptyMap()
-        }
+    fun getParamValue(key: String): String? {
+        return paramMap[key]
     }
 
-    private fun getParamValue(key: String): String? {
-        return paramMap[key]
+    fun getParamValue(key: String, defaultValue: String): String {
+        return paramMap[key] ?: defaultValue
     }
 
     fun getParamValueAsInt(key: String, defaultValue: Int): Int {
@@ -36,4 +27,36 @@ class Rq(
             ?: defaultValue
     }
 
-}
\ No newline at end of file
+    fun getParamValueAsLong(key: String, defaultValue: Long): Long {
+        return getParamValue(key)
+            ?.toLongOrNull()
+            ?: defaultValue
+    }
+
+    companion object {
+        private fun parseQuery(query: String): Map<String, String> {
+            return query
+                .splitToSequence('&')
+                .mapNotNull {  // aaa=bbb
+                    val key = it.substringBefore('=', "")
+                    val value = it.substringAfter('=', "")
+
+                    if (key.isEmpty() || value.isEmpty()) null else decode(key) to decode(value)
+                }
+                .toMap()
+        }
+
+        // 인코딩된 글자가 없으면 그대로, 잘못 인코딩된 값(%zz 등)도 그대로
+        private fun decode(text: String): String {
+            if ('%' !in text && '+' !in text) {
+                return text
+            }
+
+            return try {
+                URLDecoder.decode(text, Charsets.UTF_8)
+            } catch (e: IllegalArgumentException) {
+                text
+            }
+        }
+    }
+}
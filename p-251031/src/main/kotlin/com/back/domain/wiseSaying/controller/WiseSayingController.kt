@@ -22,7 +22,7 @@ class WiseSayingController(
         println("번호 / 작가 / 명언")
         println("----------------------")
 
-        wiseSayingService.findAll().reversed().forEach {
+        wiseSayingService.findAllDesc().forEach {
             println("${it.id} / ${it.author} / ${it.content}")
         }
     }
@@ -1,26 +1,31 @@
 package com.back.domain.wiseSaying.repository
 
 import com.back.domain.wiseSaying.entity.WiseSaying
+import java.util.TreeMap
 
 class WiseSayingRepository {
 
     var lastId = 0
-    val wiseSayings = mutableListOf<WiseSaying>()
+
+    // id => 명언, id 순으로 정렬되어 있어서 조회/삭제는 목록을 훑지 않고 바로 찾음
+    private val wiseSayings = TreeMap<Int, WiseSaying>()
 
     fun save(wiseSaying: WiseSaying): WiseSaying {
+        if (wiseSaying.isNew()) {
+            wiseSaying.id = ++lastId
+            wiseSayings[wiseSaying.id] = wiseSaying
+        }
 
         return wiseSaying
-            .takeIf { it.isNew() }
-            .also {
-                wiseSaying.id = ++lastId
-                wiseSayings.add(wiseSaying)
-            } ?: wiseSaying
     }
 
-    fun findAll() = wiseSayings.toList()
+    fun findAll() = wiseSayings.values.toList()
+
+    // 최신순 (id 내림차순)
+    fun findAllDesc() = wiseSayings.descendingMap().values.toList()
 
-    fun findById(id: Int): WiseSaying? = wiseSayings.firstOrNull { it.id == id }
+    fun findById(id: Int): WiseSaying? = wiseSayings[id]
 
-    fun delete(wiseSaying: WiseSaying) = wiseSayings.remove(wiseSaying)
+    fun delete(wiseSaying: WiseSaying) = wiseSayings.remove(wiseSaying.id) != null
 
-}
\ No newline at end of file
+}
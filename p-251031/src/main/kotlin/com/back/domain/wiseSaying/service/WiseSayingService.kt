@@ -14,6 +14,8 @@ class WiseSayingService(
 
     fun findAll() = wiseSayingRepository.findAll()
 
+    fun findAllDesc() = wiseSayingRepository.findAllDesc()
+
     fun findById(id: Int): WiseSaying? =
         wiseSayingRepository.findById(id)
 
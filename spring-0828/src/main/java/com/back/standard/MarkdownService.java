@@ -1,22 +1,61 @@
 package com.back.standard;
 
-import org.commonmark.node.Node;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.html.HtmlRenderer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Service
 public class MarkdownService {
 
-    public String toHtml(String content) {
+    private static final int MAX_CACHE_SIZE = 1000;
+
+    // Parser, HtmlRenderer 는 스레드 안전
+    private static final Parser PARSER = Parser.builder().build();
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().build();
 
-        Parser parser = Parser.builder().build();
-        HtmlRenderer renderer = HtmlRenderer.builder().build();
+    // 원문 해시 -> HTML, 가장 오래 안 쓰인 것부터 밀려난다.
+    // 수정된 원문은 해시가 달라서 새로 변환되므로 따로 지울 필요가 없다.
+    private final Map<String, String> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > MAX_CACHE_SIZE;
+                }
+            }
+    );
+
+    public String toHtml(String content) {
+        String key = hash(content);
+        String html = cache.get(key);
 
-        Node document = parser.parse(content);
-        String html = renderer.render(document);
+        if (html == null) {
+            html = RENDERER.render(PARSER.parse(content));
+            cache.put(key, html);
+        }
 
         return html;
     }
 
-}
\ No newline at end of file
+    public int cacheSize() {
+        return cache.size();
+    }
+
+    private String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.back.standard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 스프링 컨텍스트 없이 MarkdownService 만 테스트
+class MarkdownServiceTest {
+
+    @Test
+    @DisplayName("같은 원문은 캐시된 HTML 을 그대로 반환")
+    void t1() {
+        MarkdownService markdownService = new MarkdownService();
+
+        String html1 = markdownService.toHtml("**명언** 입니다.");
+        String html2 = markdownService.toHtml("**명언** 입니다.");
+
+        assertThat(html1).isEqualTo("<p><strong>명언</strong> 입니다.</p>\n");
+        assertThat(html2).isSameAs(html1);
+        assertThat(markdownService.cacheSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("수정된 원문은 새로 변환")
+    void t2() {
+        MarkdownService markdownService = new MarkdownService();
+        markdownService.toHtml("수정 전");
+
+        assertThat(markdownService.toHtml("**수정 후**")).isEqualTo("<p><strong>수정 후</strong></p>\n");
+        assertThat(markdownService.cacheSize()).isEqualTo(2);
+    }
+}
@@ -10,6 +10,9 @@ repositories {
 }
 
 dependencies {
+    // jdbc 저장소 (내장 H2)
+    implementation("com.h2database:h2:2.3.232")
+
     testImplementation(platform("org.junit:junit-bom:5.10.0"))
     testImplementation("org.junit.jupiter:junit-jupiter")
     testImplementation("org.assertj:assertj-core:3.26.3")
@@ -23,4 +26,14 @@ dependencies {
 
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+// main 으로 실행하는 벤치마크 (src/test/java/com/back/bench)
+// gradle benchmark -Pbench=JsonBenchmark -Pbench.time=2
+tasks.register<JavaExec>("benchmark") {
+    group = "verification"
+    description = "Runs a benchmark main class from com.back.bench"
+    classpath = sourceSets.test.get().runtimeClasspath
+    mainClass.set(providers.gradleProperty("bench").map { "com.back.bench.$it" })
+    systemProperties(project.properties.filterKeys { it.startsWith("bench.") }.mapValues { it.value.toString() })
+    jvmArgs("-Xmx2g")
+}
@@ -32,6 +32,8 @@ public class App {
                 case "삭제" -> wiseSayingController.actionDelete(rq);
                 case "수정" -> wiseSayingController.actionModify(rq);
                 case "빌드" -> wiseSayingController.actionBuild(rq);
+                case "가져오기" -> wiseSayingController.actionImport(rq);
+                case "내보내기" -> wiseSayingController.actionExport(rq);
                 case "종료" -> {
                     systemController.actionExit();
                     return;
@@ -2,6 +2,8 @@ package com.back;
 
 public class AppConfig {
     public static String mode = "dev";
+    // 사용할 저장소 이름 (WiseSayingRepositories 참고), -DwiseSaying.storage=jdbc 처럼 바꿀 수 있음
+    public static String storage = System.getProperty("wiseSaying.storage", "file");
 
     public static void setTestMode() {
         mode = "test";
@@ -14,4 +16,12 @@ public class AppConfig {
     public static String getMode() {
         return mode;
     }
+
+    public static void setStorage(String storage) {
+        AppConfig.storage = storage;
+    }
+
+    public static String getStorage() {
+        return storage;
+    }
 }
@@ -1,8 +1,12 @@
 package com.back;
 
 import com.back.domain.wiseSaying.controller.WiseSayingController;
+import com.back.domain.wiseSaying.repository.WiseSayingConcurrentRepository;
 import com.back.domain.wiseSaying.repository.WiseSayingFileRepository;
+import com.back.domain.wiseSaying.repository.WiseSayingJdbcRepository;
+import com.back.domain.wiseSaying.repository.WiseSayingLogRepository;
 import com.back.domain.wiseSaying.repository.WiseSayingMemoryRepository;
+import com.back.domain.wiseSaying.repository.WiseSayingRepositories;
 import com.back.domain.wiseSaying.repository.WiseSayingRepository;
 import com.back.domain.wiseSaying.service.WiseSayingService;
 import com.back.system.SystemController;
@@ -17,18 +21,34 @@ public class AppContext {
     public static WiseSayingRepository wiseSayingRepository;
     public static WiseSayingFileRepository wiseSayingFileRepository;
     public static WiseSayingMemoryRepository wiseSayingMemoryRepository;
+    public static WiseSayingLogRepository wiseSayingLogRepository;
+    public static WiseSayingConcurrentRepository wiseSayingConcurrentRepository;
+    public static WiseSayingJdbcRepository wiseSayingJdbcRepository;
 
-    public static void init(Scanner _sc, boolean isFileMode) {
+    // storage: 저장소 이름 (memory, file, log, concurrent, jdbc)
+    public static void init(Scanner _sc, String storage) {
         AppContext.sc = _sc;
-        AppContext.wiseSayingMemoryRepository = new WiseSayingMemoryRepository();
-        AppContext.wiseSayingFileRepository = new WiseSayingFileRepository();
-        AppContext.wiseSayingRepository = isFileMode ? new WiseSayingFileRepository() : new WiseSayingMemoryRepository();
+        // 선택한 저장소 1개만 만듦
+        // 파일/로그/jdbc 저장소는 자기 디렉토리의 wal.log, segment.log, DB 연결을 혼자 쓴다고 가정하므로
+        // 같은 디렉토리에 객체가 2개 있으면 한쪽의 checkpoint, compaction 이 다른 쪽의 기록을 지움
+        // => 타입별 필드에는 선택한 저장소만 넣고 나머지는 null
+        WiseSayingRepository repository = WiseSayingRepositories.create(storage);
+        AppContext.wiseSayingRepository = repository;
+        AppContext.wiseSayingMemoryRepository = repository instanceof WiseSayingMemoryRepository r ? r : null;
+        AppContext.wiseSayingFileRepository = repository instanceof WiseSayingFileRepository r ? r : null;
+        AppContext.wiseSayingLogRepository = repository instanceof WiseSayingLogRepository r ? r : null;
+        AppContext.wiseSayingConcurrentRepository = repository instanceof WiseSayingConcurrentRepository r ? r : null;
+        AppContext.wiseSayingJdbcRepository = repository instanceof WiseSayingJdbcRepository r ? r : null;
         AppContext.wiseSayingService = new WiseSayingService();
         AppContext.wiseSayingController = new WiseSayingController();
         AppContext.systemController = new SystemController();
     }
 
+    public static void init(Scanner _sc, boolean isFileMode) {
+        init(_sc, isFileMode ? "file" : "memory");
+    }
+
     public static void init() {
-        init(new Scanner(System.in), true);
+        init(new Scanner(System.in), AppConfig.getStorage());
     }
 }
@@ -1,52 +1,86 @@
 package com.back;
 
-import java.util.Arrays;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
+// 명령 1줄 => 액션 이름 + 파라미터
+// ex) 목록?keywordType=content&keyword=꿈&page=2
+// - 만들 때 한 번만 잘라서(정규식 없이 indexOf 로) 바꿀 수 없는 Map 에 담아 둠, getParam 은 Map 조회만 함
+// - 키, 값은 URL 디코딩 (%EA%BF%88 => 꿈, + => 공백), 값에 & = 를 넣고 싶으면 %26 %3D
+// - 키나 값이 비어 있는 파라미터는 없는 것으로 봄, 같은 키가 여러 번 나오면 마지막 값
 public class Rq {
-    private String cmd;
+    private final String actionName;
+    private final Map<String, String> params;
 
     public Rq(String cmd) {
-        this.cmd = cmd;
+        int queryStart = cmd.indexOf('?');
+
+        if (queryStart < 0) {
+            this.actionName = cmd;
+            this.params = Map.of();
+        } else {
+            this.actionName = cmd.substring(0, queryStart);
+            this.params = parseQuery(cmd, queryStart + 1);
+        }
     }
 
-    public String getActionName() {
-        return cmd.split("\\?")[0];
-    }
+    private static Map<String, String> parseQuery(String cmd, int from) {
+        Map<String, String> params = new HashMap<>();
+        int start = from;
 
-    public String getParam(String inputKey, String defaultValue) {
+        while (start < cmd.length()) {
+            int end = cmd.indexOf('&', start);
 
-        Map<String, String> paramMap = new HashMap<>();
+            if (end < 0) {
+                end = cmd.length();
+            }
 
-        String[] cmdBits = cmd.split("\\?");
+            int eq = cmd.indexOf('=', start);
 
-        if(cmdBits.length < 2) {
-            return defaultValue;
+            if (eq > start && eq < end - 1) {
+                params.put(decode(cmd, start, eq), decode(cmd, eq + 1, end));
+            }
+
+            start = end + 1;
         }
 
-        String queryString = cmdBits[1];
-        String[] queryBits = queryString.split("&");
+        return Collections.unmodifiableMap(params);
+    }
+
+    // 인코딩된 글자가 없으면 잘라내기만 함, 잘못 인코딩된 값(%zz 등)은 그대로 둠
+    private static String decode(String cmd, int start, int end) {
+        String value = cmd.substring(start, end);
 
-        paramMap = Arrays.stream(queryBits)
-                .map(param -> param.split("="))
-                .filter(bits -> bits.length == 2 && bits[0] != null && bits[1] != null)
-                .collect(
-                        Collectors.toMap(
-                                bits -> bits[0],
-                                bits -> bits[1]
-                        )
-                );
+        if (value.indexOf('%') < 0 && value.indexOf('+') < 0) {
+            return value;
+        }
 
-        return paramMap.getOrDefault(inputKey, defaultValue);
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return value;
+        }
     }
 
-    public int getParamAsInt(String key, int defaultValue) {
+    public String getActionName() {
+        return actionName;
+    }
 
-        String value = getParam(key, "");
+    public Map<String, String> getParams() {
+        return params;
+    }
+
+    public String getParam(String key, String defaultValue) {
+        return params.getOrDefault(key, defaultValue);
+    }
 
-        if(value.isBlank()) {
+    public int getParamAsInt(String key, int defaultValue) {
+        String value = params.get(key);
+
+        if (value == null) {
             return defaultValue;
         }
 
@@ -55,6 +89,29 @@ public class Rq {
         } catch (NumberFormatException e) {
             return defaultValue;
         }
+    }
+
+    public long getParamAsLong(String key, long defaultValue) {
+        String value = params.get(key);
+
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    public boolean getParamAsBoolean(String key, boolean defaultValue) {
+        String value = params.get(key);
+
+        if (value == null) {
+            return defaultValue;
+        }
 
+        return value.equalsIgnoreCase("true") || value.equals("1");
     }
-}
\ No newline at end of file
+}
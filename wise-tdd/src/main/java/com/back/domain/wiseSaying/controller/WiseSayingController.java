@@ -5,13 +5,18 @@ import com.back.PageDto;
 import com.back.Rq;
 import com.back.domain.wiseSaying.entity.WiseSaying;
 import com.back.domain.wiseSaying.service.WiseSayingService;
+import com.back.standard.util.Util;
 
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.Scanner;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 public class WiseSayingController {
+    // 가져오기 묶음 크기 상한
+    private static final int MAX_IMPORT_CHUNK_SIZE = 10_000;
+
     private WiseSayingService wiseSayingService;
     private Scanner sc;
 
@@ -97,4 +102,58 @@ public class WiseSayingController {
 
         System.out.println("data.json 파일의 내용이 갱신되었습니다.");
     }
-}
\ No newline at end of file
+
+    // 가져오기?file=data.json&chunkSize=1000
+    // 명언, 작가를 하나씩 입력받지 않고 파일에서 한 번에 가져옴
+    public void actionImport(Rq rq) {
+        String file = rq.getParam("file", "");
+        int chunkSize = rq.getParamAsInt("chunkSize", 1000);
+
+        if (file.isBlank() || !Util.file.exists(file)) {
+            System.out.println("%s 파일이 존재하지 않습니다.".formatted(file));
+            return;
+        }
+
+        if (chunkSize < 1) {
+            chunkSize = 1000;
+        }
+
+        // 묶음 크기만큼 List 를 미리 잡으므로 너무 크면 메모리가 모자람
+        chunkSize = Math.min(chunkSize, MAX_IMPORT_CHUNK_SIZE);
+
+        long startedAt = System.nanoTime();
+        long count;
+
+        // 비었거나 모양이 깨진 파일이면 읽다가 예외 => 앱은 계속 돌아야 함
+        // 예외 전까지 다 찬 묶음은 이미 저장되어 있음
+        try {
+            count = wiseSayingService.importFrom(Path.of(file), chunkSize);
+        } catch (RuntimeException e) {
+            System.out.println("%s 파일을 가져오지 못했습니다. (%s)".formatted(file, e.getMessage()));
+            return;
+        }
+
+        System.out.println("%d개의 명언을 가져왔습니다. %s".formatted(count, rate(count, startedAt)));
+    }
+
+    // 내보내기?file=export.json
+    public void actionExport(Rq rq) {
+        String file = rq.getParam("file", "");
+
+        if (file.isBlank()) {
+            System.out.println("file 을 입력해주세요.");
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        long count = wiseSayingService.exportTo(Path.of(file));
+
+        System.out.println("%d개의 명언을 %s 파일로 내보냈습니다. %s".formatted(count, file, rate(count, startedAt)));
+    }
+
+    // (걸린 시간, 초당 처리 개수)
+    private static String rate(long count, long startedAt) {
+        double seconds = Math.max(System.nanoTime() - startedAt, 1) / 1e9;
+        return "(%.3f초, 초당 %,.0f개)".formatted(seconds, count / seconds);
+    }
+}
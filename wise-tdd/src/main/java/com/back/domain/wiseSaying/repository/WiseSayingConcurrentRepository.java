@@ -0,0 +1,129 @@
+package com.back.domain.wiseSaying.repository;
+
+import com.back.PageDto;
+import com.back.domain.wiseSaying.entity.WiseSaying;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+// 여러 클라이언트(소켓, HTTP 등)가 동시에 사용하는 메모리 저장소
+// - id 발급: AtomicInteger, 동시에 등록해도 id 가 겹치거나 빠지지 않음
+// - 읽기: 락 없음 (ConcurrentHashMap 조회, ConcurrentSkipListSet 순회)
+// - 쓰기: ConcurrentHashMap.compute 는 그 id 의 칸만 잠그므로 같은 명언의 수정/삭제끼리만 순서대로 처리됨
+// - 저장된 명언은 바꾸지 않고 저장할 때마다 복사본으로 교체
+//   (조회한 명언을 고쳐도 save 하기 전까지 다른 스레드에는 보이지 않고, 반쯤 고쳐진 명언을 읽는 일도 없음)
+public class WiseSayingConcurrentRepository implements WiseSayingRepository {
+    private final AtomicInteger lastId = new AtomicInteger();
+    private final ConcurrentHashMap<Integer, WiseSaying> wiseSayings = new ConcurrentHashMap<>();
+    // 목록용 id 내림차순
+    private final ConcurrentSkipListSet<Integer> ids = new ConcurrentSkipListSet<>(Comparator.reverseOrder());
+
+    public WiseSaying save(WiseSaying wiseSaying) {
+        if (wiseSaying.isNew()) {
+            wiseSaying.setId(lastId.incrementAndGet());
+            WiseSaying copied = copy(wiseSaying);
+
+            // 목록용 id 도 같은 칸을 잠근 상태에서 넣어야 삭제와 엇갈리지 않음
+            wiseSayings.compute(wiseSaying.getId(), (id, old) -> {
+                ids.add(id);
+                return copied;
+            });
+
+            return wiseSaying;
+        }
+
+        // 아직 있을 때만 교체 (다른 스레드가 먼저 삭제했으면 되살리지 않음)
+        WiseSaying copied = copy(wiseSaying);
+        wiseSayings.computeIfPresent(wiseSaying.getId(), (id, old) -> copied);
+
+        return wiseSaying;
+    }
+
+    public boolean delete(WiseSaying wiseSaying) {
+        boolean[] removed = new boolean[1];
+
+        wiseSayings.computeIfPresent(wiseSaying.getId(), (id, old) -> {
+            ids.remove(id);
+            removed[0] = true;
+            return null;
+        });
+
+        return removed[0];
+    }
+
+    public Optional<WiseSaying> findById(int id) {
+        WiseSaying wiseSaying = wiseSayings.get(id);
+        return wiseSaying == null ? Optional.empty() : Optional.of(copy(wiseSaying));
+    }
+
+    public PageDto findByContentContainingDesc(String kw, int pageSize, int pageNo) {
+        return findDesc(w -> w.getSaying().contains(kw), kw, pageSize, pageNo);
+    }
+
+    public PageDto findByAuthorContainingDesc(String kw, int pageSize, int pageNo) {
+        return findDesc(w -> w.getAuthor().contains(kw), kw, pageSize, pageNo);
+    }
+
+    public PageDto findByContentContainingOrAuthorContainingDesc(String kw, int pageSize, int pageNo) {
+        return findDesc(w -> w.getSaying().contains(kw) || w.getAuthor().contains(kw), kw, pageSize, pageNo);
+    }
+
+    // id 내림차순으로 훑으면서 요청한 페이지만 모음
+    // 순회 도중의 등록/삭제는 보일 수도, 안 보일 수도 있음 (락을 잡지 않으므로)
+    private PageDto findDesc(Predicate<WiseSaying> filter, String kw, int pageSize, int pageNo) {
+        long from = (long) (pageNo - 1) * pageSize;
+        List<WiseSaying> content = new ArrayList<>(pageSize);
+        int matched = 0;
+
+        for (int id : ids) {
+            WiseSaying wiseSaying = wiseSayings.get(id);
+
+            if (wiseSaying == null || (!kw.isEmpty() && !filter.test(wiseSaying))) {
+                continue;
+            }
+
+            if (matched >= from && content.size() < pageSize) {
+                content.add(copy(wiseSaying));
+            }
+
+            matched++;
+
+            // 검색어가 없으면 전체 개수는 따로 알 수 있으므로 페이지만 채우고 멈춤
+            if (kw.isEmpty() && content.size() == pageSize) {
+                break;
+            }
+        }
+
+        int totalItems = kw.isEmpty() ? count() : matched;
+        return new PageDto(pageNo, pageSize, totalItems, content);
+    }
+
+    public List<WiseSaying> findAll() {
+        return streamAll().toList();
+    }
+
+    public Stream<WiseSaying> streamAll() {
+        return ids.descendingSet().stream()
+                .map(wiseSayings::get)
+                .filter(Objects::nonNull)
+                .map(WiseSayingConcurrentRepository::copy);
+    }
+
+    public int count() {
+        return wiseSayings.size();
+    }
+
+    private static WiseSaying copy(WiseSaying wiseSaying) {
+        WiseSaying copied = new WiseSaying(wiseSaying.getSaying(), wiseSaying.getAuthor());
+        copied.setId(wiseSaying.getId());
+        return copied;
+    }
+}
@@ -5,18 +5,51 @@ import com.back.PageDto;
 import com.back.domain.wiseSaying.entity.WiseSaying;
 import com.back.standard.util.Util;
 
-import java.util.Comparator;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+// 명언 1개 = 파일 1개({id}.json)
+// 명언 파일을 바꾸기 전에 WAL(wal.log) 에 먼저 적음 => 명언 파일은 매번 fsync 하지 않아도 됨
+// - WAL 도 명령마다 fsync 하지 않고 묶어서 내림 (WiseSayingWal.commitGrouped), 갑자기 꺼지면 마지막 묶음은 잃을 수 있음
+// - 명언 파일, lastId.txt 는 임시 파일에 쓰고 이름을 바꾸므로 반쯤 쓴 파일이 남지 않음
+// - WAL 이 checkpointBytes 만큼 쌓이면 그동안 바꾼 명언 파일을 디스크에 내리고 WAL 을 비움 (checkpoint)
+// - 처음 사용할 때 WAL 에 남아 있는 내용을 명언 파일에 다시 반영 (recovery)
+// - 종료할 때 close() 를 부르면 checkpoint 로 모두 디스크에 내림
 public class WiseSayingFileRepository implements WiseSayingRepository {
-    private static String dbPath = AppConfig.getMode() + "/db/wiseSaying";
+    // 저장소마다 자기 디렉토리를 씀 => clear() 가 다른 저장소의 파일을 지우지 않음
+    private static String dbPath = AppConfig.getMode() + "/db/wiseSaying/file";
+    private static final long DEFAULT_CHECKPOINT_BYTES = 1024 * 1024;
+
+    private final long checkpointBytes;
+    private WiseSayingSearchIndex searchIndex;
+    // 처음 사용할 때 열고 recovery
+    private WiseSayingWal wal;
+    // 마지막 checkpoint 이후에 쓰거나 지운 파일, checkpoint 가 WAL 잠금 안에서 새 Set 으로 바꿔 끼움
+    private volatile Set<String> dirtyPaths = ConcurrentHashMap.newKeySet();
+
+    public WiseSayingFileRepository() {
+        this(DEFAULT_CHECKPOINT_BYTES);
+    }
+
+    public WiseSayingFileRepository(long checkpointBytes) {
+        this.checkpointBytes = checkpointBytes;
+    }
 
     public static void clear() {
         Util.file.delete(dbPath);
     }
 
+    static String getDbPath() {
+        return dbPath;
+    }
+
     private String getFilePath(int id) {
         return dbPath + "/%d.json".formatted(id);
     }
@@ -27,16 +60,75 @@ public class WiseSayingFileRepository implements WiseSayingRepository {
 
     public WiseSaying save(WiseSaying wiseSaying) {
         if(wiseSaying.isNew()) {
-            incrementLastId();
-            int lastId = getLastId();
-            wiseSaying.setId(lastId);
+            wiseSaying.setId(nextId());
         }
 
-        String jsonStr = Util.json.toString(wiseSaying.toMap());
-        Util.file.set(getFilePath(wiseSaying.getId()), jsonStr);
+        WiseSaying old = readIndexed(wiseSaying.getId());
+        WiseSayingWal wal = getWal();
+        wal.commitGrouped(wal.appendPut(wiseSaying.getId(), wiseSaying.getSaying(), wiseSaying.getAuthor(),
+                () -> writeFile(wiseSaying.getId(), wiseSaying.getSaying(), wiseSaying.getAuthor())));
+        updateSearchIndex(wiseSaying.getId(), old, wiseSaying);
+
+        checkpointIfNeeded();
         return wiseSaying;
     }
 
+    // 여러 건을 한 번에 저장
+    // - lastId.txt 는 묶음당 한 번만 씀
+    // - WAL 은 모두 추가한 다음 commit 확인 한 번
+    // - 검색 색인, checkpoint 확인도 묶음 끝에 한 번
+    public List<WiseSaying> saveAll(List<WiseSaying> wiseSayings) {
+        assignIds(wiseSayings);
+
+        List<WiseSaying> olds = wiseSayings.stream()
+                .map(wiseSaying -> readIndexed(wiseSaying.getId()))
+                .toList();
+        WiseSayingWal wal = getWal();
+        long seq = 0;
+
+        for (WiseSaying wiseSaying : wiseSayings) {
+            seq = wal.appendPut(wiseSaying.getId(), wiseSaying.getSaying(), wiseSaying.getAuthor(),
+                    () -> writeFile(wiseSaying.getId(), wiseSaying.getSaying(), wiseSaying.getAuthor()));
+        }
+
+        wal.commitGrouped(seq);
+
+        for (int i = 0; i < wiseSayings.size(); i++) {
+            updateSearchIndex(wiseSayings.get(i).getId(), olds.get(i), wiseSayings.get(i));
+        }
+
+        checkpointIfNeeded();
+        return wiseSayings;
+    }
+
+    private void writeFile(int id, String saying, String author) {
+        WiseSaying wiseSaying = new WiseSaying(saying, author);
+        wiseSaying.setId(id);
+
+        String filePath = getFilePath(id);
+        Util.file.set(filePath, Util.json.toString(wiseSaying.toMap()));
+        dirtyPaths.add(filePath);
+    }
+
+    // lastId.txt 를 읽고 +1 해서 쓰는 동안 다른 스레드가 끼어들면 같은 id 가 두 번 나가므로 한 번에 하나씩
+    private synchronized int nextId() {
+        incrementLastId();
+        return getLastId();
+    }
+
+    // 새 명언 개수만큼 id 를 한 번에 받아 감
+    private synchronized void assignIds(List<WiseSaying> wiseSayings) {
+        int lastId = getLastId();
+
+        for (WiseSaying wiseSaying : wiseSayings) {
+            if (wiseSaying.isNew()) {
+                wiseSaying.setId(++lastId);
+            }
+        }
+
+        Util.file.set(getLastIdPath(), String.valueOf(lastId));
+    }
+
     private void incrementLastId() {
         Util.file.set(getLastIdPath(), String.valueOf(getLastId() + 1));
     }
@@ -46,6 +138,7 @@ public class WiseSayingFileRepository implements WiseSayingRepository {
     }
 
     public Optional<WiseSaying> findById(int id) {
+        getWal();
         String jsonStr = Util.file.get(getFilePath(id), "");
 
         if(jsonStr.isEmpty()) {
@@ -59,51 +152,199 @@ public class WiseSayingFileRepository implements WiseSayingRepository {
     }
 
     public boolean delete(WiseSaying wiseSaying){
-        return Util.file.delete(getFilePath(wiseSaying.getId()));
+        WiseSaying old = readIndexed(wiseSaying.getId());
+
+        if (!Util.file.exists(getFilePath(wiseSaying.getId()))) {
+            updateSearchIndex(wiseSaying.getId(), null, null);
+            return false;
+        }
+
+        WiseSayingWal wal = getWal();
+        boolean[] deleted = new boolean[1];
+        wal.commitGrouped(wal.appendDelete(wiseSaying.getId(), () -> deleted[0] = deleteFile(wiseSaying.getId())));
+
+        if (deleted[0]) {
+            updateSearchIndex(wiseSaying.getId(), old, null);
+        }
+
+        checkpointIfNeeded();
+        return deleted[0];
+    }
+
+    private boolean deleteFile(int id) {
+        boolean deleted = Util.file.delete(getFilePath(id));
+        // 삭제는 디렉토리를 내려야 남음
+        dirtyPaths.add(dbPath);
+        return deleted;
+    }
+
+    private synchronized WiseSayingWal getWal() {
+        if (wal == null) {
+            wal = new WiseSayingWal(Path.of(dbPath, "wal.log"));
+            recover();
+        }
+
+        return wal;
+    }
+
+    // 지난번에 종료되기 전에 WAL 에 적었지만 명언 파일에는 다 반영되지 못했을 수 있는 내용을 다시 반영
+    // 같은 내용을 여러 번 반영해도 결과는 같으므로 WAL 전체를 처음부터 다시 반영하면 됨
+    private void recover() {
+        // 쓰다 만 임시 파일은 버림 (원래 파일은 이전 내용 그대로 남아 있음)
+        try (Stream<Path> tempFiles = Util.file.walkRegularFiles(dbPath, ".*\\.tmp$")) {
+            tempFiles.forEach(path -> Util.file.delete(path.toString()));
+        }
+
+        int replayed = wal.replay(entry -> {
+            if (entry.type() == WiseSayingWal.TYPE_PUT) {
+                writeFile(entry.id(), entry.saying(), entry.author());
+
+                // lastId.txt 가 명언 파일보다 뒤처져 있으면 맞춤
+                if (getLastId() < entry.id()) {
+                    Util.file.set(getLastIdPath(), String.valueOf(entry.id()));
+                }
+            } else {
+                deleteFile(entry.id());
+            }
+        });
+
+        if (replayed > 0) {
+            checkpoint();
+        }
+    }
+
+    // 그동안 바꾼 명언 파일과 lastId.txt 를 디스크에 내린 다음 WAL 을 비움
+    // WAL 잠금 안에서 하므로 그 사이에 저장/삭제가 끼어들지 못함
+    public void checkpoint() {
+        getWal().checkpoint(() -> {
+            Set<String> paths = dirtyPaths;
+            dirtyPaths = ConcurrentHashMap.newKeySet();
+
+            try {
+                for (String path : paths) {
+                    Util.file.sync(path);
+                }
+
+                Util.file.sync(getLastIdPath());
+                // 이름 바꾸기(임시 파일 => 명언 파일)도 디렉토리를 내려야 남음
+                Util.file.sync(dbPath);
+            } catch (RuntimeException e) {
+                // WAL 은 그대로 남으므로 다음 checkpoint 에서 다시 내림
+                dirtyPaths.addAll(paths);
+                throw e;
+            }
+        });
+    }
+
+    private void checkpointIfNeeded() {
+        if (getWal().size() >= checkpointBytes) {
+            checkpoint();
+        }
+    }
+
+    // 종료 전에 호출하면 WAL 을 비우고 닫음
+    public synchronized void close() {
+        if (wal == null) {
+            return;
+        }
+
+        checkpoint();
+        wal.close();
     }
 
     public List<WiseSaying> findAll() {
+        try (Stream<WiseSaying> wiseSayings = streamAll()) {
+            return wiseSayings.toList();
+        }
+    }
+
+    // 파일을 하나씩 읽음, 다 쓴 뒤에는 close 해야 함
+    public Stream<WiseSaying> streamAll() {
+        getWal();
         return Util.file.walkRegularFiles(dbPath, "\\d+\\.json$")
                 .map(path -> Util.file.get(path.toString(), ""))
                 .map(Util.json::toMap)
-                .map(WiseSaying::new)
-                .toList();
+                .map(WiseSaying::new);
     }
 
-    private PageDto pageOf(List<WiseSaying> filteredContent, int pageNo, int pageSize) {
-        List<WiseSaying> content = filteredContent.stream()
-                .skip((pageNo-1) * pageSize)
-                .limit(pageSize)
-                .toList();
+    // 처음 검색할 때 파일을 한 번 훑어서 만들고, 이후에는 저장/삭제할 때마다 갱신
+    // 색인은 명언 내용을 들고 있지 않고, 후보를 확인할 때 명언 파일을 읽음
+    private WiseSayingSearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            WiseSayingSearchIndex index = new WiseSayingSearchIndex(id -> findById(id).orElse(null));
+
+            try (Stream<WiseSaying> wiseSayings = streamAll()) {
+                wiseSayings.forEach(index::add);
+            }
 
-        int totalItems = filteredContent.size();
-        return new PageDto(pageNo, pageSize, totalItems, content);
+            searchIndex = index;
+        }
+
+        return searchIndex;
     }
 
-    public PageDto findByContentContainingDesc(String kw, int pageSize, int pageNo) {
-        List<WiseSaying> filteredWiseSayings = findAll().stream()
-                .filter(wiseSaying -> wiseSaying.getSaying().contains(kw))
-                .sorted(Comparator.comparing(WiseSaying::getId).reversed())
-                .toList();
+    // 색인에서 빼려면 색인할 때의 내용이 필요하므로 파일을 바꾸기 전에 읽어 둠 (색인을 아직 만들지 않았으면 읽지 않음)
+    private WiseSaying readIndexed(int id) {
+        if (searchIndex == null || id == 0) {
+            return null;
+        }
 
-        return pageOf(filteredWiseSayings, pageNo, pageSize);
+        return findById(id).orElse(null);
     }
 
-    public PageDto findByAuthorContainingDesc(String kw, int pageSize, int pageNo) {
-        List<WiseSaying> filteredWiseSayings = findAll().stream()
-                .filter(wiseSaying -> wiseSaying.getAuthor().contains(kw))
-                .sorted(Comparator.comparing(WiseSaying::getId).reversed())
-                .toList();
+    // 이전 내용(old)을 빼고 새 내용(current)을 넣음
+    // 색인에는 있는데 파일이 없으면 clear() 등으로 밖에서 지워진 것 => 색인을 버리고 다음 검색 때 다시 만듦
+    private void updateSearchIndex(int id, WiseSaying old, WiseSaying current) {
+        if (searchIndex == null) {
+            return;
+        }
 
-        return pageOf(filteredWiseSayings, pageNo, pageSize);
+        if (old == null && searchIndex.contains(id)) {
+            searchIndex = null;
+            return;
+        }
+
+        if (old != null) {
+            searchIndex.remove(old);
+        }
+
+        if (current != null) {
+            searchIndex.add(current);
+        }
     }
 
-    public PageDto findByContentContainingOrAuthorContainingDesc(String kw, int pageSize, int pageNo) {
-        List<WiseSaying> filteredWiseSayings = findAll().stream()
-                .filter(wiseSaying -> wiseSaying.getAuthor().contains(kw) || wiseSaying.getSaying().contains(kw))
-                .sorted(Comparator.comparing(WiseSaying::getId).reversed())
+    // 요청한 페이지의 명언 파일만 읽음
+    // 색인에 있는 명언 파일이 없으면(밖에서 지워졌으면) 색인을 다시 만들고 한 번 더 검색
+    private PageDto search(Function<WiseSayingSearchIndex, WiseSayingSearchIndex.Hits> query, int pageSize, int pageNo) {
+        WiseSayingSearchIndex.Hits hits = query.apply(getSearchIndex());
+        List<WiseSaying> content = readAll(hits.ids());
+
+        if (content.size() < hits.ids().length) {
+            searchIndex = null;
+            hits = query.apply(getSearchIndex());
+            content = readAll(hits.ids());
+        }
+
+        return new PageDto(pageNo, pageSize, hits.totalItems(), content);
+    }
+
+    // 없는 파일은 건너뜀
+    private List<WiseSaying> readAll(int[] ids) {
+        return Arrays.stream(ids)
+                .mapToObj(this::findById)
+                .flatMap(Optional::stream)
                 .toList();
+    }
 
-        return pageOf(filteredWiseSayings, pageNo, pageSize);
+    public PageDto findByContentContainingDesc(String kw, int pageSize, int pageNo) {
+        return search(index -> index.searchSaying(kw, pageNo, pageSize), pageSize, pageNo);
+    }
+
+    public PageDto findByAuthorContainingDesc(String kw, int pageSize, int pageNo) {
+        return search(index -> index.searchAuthor(kw, pageNo, pageSize), pageSize, pageNo);
+    }
+
+    public PageDto findByContentContainingOrAuthorContainingDesc(String kw, int pageSize, int pageNo) {
+        return search(index -> index.searchSayingOrAuthor(kw, pageNo, pageSize), pageSize, pageNo);
     }
 }
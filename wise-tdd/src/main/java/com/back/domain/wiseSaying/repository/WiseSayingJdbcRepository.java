@@ -0,0 +1,262 @@
+package com.back.domain.wiseSaying.repository;
+
+import com.back.AppConfig;
+import com.back.PageDto;
+import com.back.domain.wiseSaying.entity.WiseSaying;
+import com.back.standard.util.Util;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+// 내장 H2 데이터베이스(파일 모드)에 JDBC 로 저장하는 저장소
+// 파일: {mode}/db/wiseSaying/jdbc/h2.mv.db
+// - 검색은 LIKE '%검색어%', 페이지는 ORDER BY id DESC LIMIT/OFFSET
+// - 여러 건 저장은 트랜잭션 1개 + JDBC batch
+public class WiseSayingJdbcRepository implements WiseSayingRepository {
+    // 연결은 처음 사용할 때 엶 (테스트에서 clear() 후에 열리도록)
+    private Connection connection;
+
+    private static String getDbPath() {
+        return AppConfig.getMode() + "/db/wiseSaying/jdbc";
+    }
+
+    public static void clear() {
+        Util.file.delete(getDbPath());
+    }
+
+    public WiseSaying save(WiseSaying wiseSaying) {
+        open();
+
+        if (wiseSaying.isNew()) {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO wise_saying (saying, author) VALUES (?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+                statement.setString(1, wiseSaying.getSaying());
+                statement.setString(2, wiseSaying.getAuthor());
+                statement.executeUpdate();
+
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    keys.next();
+                    wiseSaying.setId(keys.getInt(1));
+                }
+            } catch (SQLException e) {
+                throw new RuntimeException("명언 저장 실패", e);
+            }
+
+            return wiseSaying;
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "UPDATE wise_saying SET saying = ?, author = ? WHERE id = ?")) {
+            statement.setString(1, wiseSaying.getSaying());
+            statement.setString(2, wiseSaying.getAuthor());
+            statement.setInt(3, wiseSaying.getId());
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException("명언 저장 실패", e);
+        }
+
+        return wiseSaying;
+    }
+
+    // 트랜잭션 1개 안에서 batch 로 넣음 (commit 1번)
+    public List<WiseSaying> saveAll(List<WiseSaying> wiseSayings) {
+        open();
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO wise_saying (saying, author) VALUES (?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            connection.setAutoCommit(false);
+            List<WiseSaying> inserted = new ArrayList<>();
+
+            for (WiseSaying wiseSaying : wiseSayings) {
+                if (!wiseSaying.isNew()) {
+                    save(wiseSaying);
+                    continue;
+                }
+
+                statement.setString(1, wiseSaying.getSaying());
+                statement.setString(2, wiseSaying.getAuthor());
+                statement.addBatch();
+                inserted.add(wiseSaying);
+            }
+
+            statement.executeBatch();
+
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                for (WiseSaying wiseSaying : inserted) {
+                    keys.next();
+                    wiseSaying.setId(keys.getInt(1));
+                }
+            }
+
+            connection.commit();
+        } catch (SQLException e) {
+            rollback();
+            throw new RuntimeException("명언 저장 실패", e);
+        } finally {
+            setAutoCommit();
+        }
+
+        return wiseSayings;
+    }
+
+    public boolean delete(WiseSaying wiseSaying) {
+        open();
+
+        try (PreparedStatement statement = connection.prepareStatement("DELETE FROM wise_saying WHERE id = ?")) {
+            statement.setInt(1, wiseSaying.getId());
+            return statement.executeUpdate() > 0;
+        } catch (SQLException e) {
+            throw new RuntimeException("명언 삭제 실패", e);
+        }
+    }
+
+    public Optional<WiseSaying> findById(int id) {
+        List<WiseSaying> found = query("SELECT id, saying, author FROM wise_saying WHERE id = ?", id);
+        return found.stream().findFirst();
+    }
+
+    public List<WiseSaying> findAll() {
+        return query("SELECT id, saying, author FROM wise_saying ORDER BY id");
+    }
+
+    public PageDto findByContentContainingDesc(String kw, int pageSize, int pageNo) {
+        return pageOf("saying LIKE ? ESCAPE '\\'", kw, 1, pageSize, pageNo);
+    }
+
+    public PageDto findByAuthorContainingDesc(String kw, int pageSize, int pageNo) {
+        return pageOf("author LIKE ? ESCAPE '\\'", kw, 1, pageSize, pageNo);
+    }
+
+    public PageDto findByContentContainingOrAuthorContainingDesc(String kw, int pageSize, int pageNo) {
+        return pageOf("(saying LIKE ? ESCAPE '\\' OR author LIKE ? ESCAPE '\\')", kw, 2, pageSize, pageNo);
+    }
+
+    // 검색어가 없으면 조건 없이, 있으면 where 조건 (같은 검색어를 patternCount 번 넣음)
+    private PageDto pageOf(String where, String kw, int patternCount, int pageSize, int pageNo) {
+        String condition = kw.isEmpty() ? "" : " WHERE " + where;
+        Object[] patterns = new Object[kw.isEmpty() ? 0 : patternCount];
+        Arrays.fill(patterns, "%" + escapeLike(kw) + "%");
+
+        int totalItems = count("SELECT COUNT(*) FROM wise_saying" + condition, patterns);
+
+        Object[] pageParams = Arrays.copyOf(patterns, patterns.length + 2);
+        pageParams[patterns.length] = pageSize;
+        pageParams[patterns.length + 1] = (long) Math.max(0, pageNo - 1) * pageSize;
+
+        List<WiseSaying> content = query(
+                "SELECT id, saying, author FROM wise_saying" + condition + " ORDER BY id DESC LIMIT ? OFFSET ?",
+                pageParams);
+
+        return new PageDto(pageNo, pageSize, totalItems, content);
+    }
+
+    // LIKE 에서 특별한 뜻이 있는 글자(% _ \)를 글자 그대로 찾도록
+    private static String escapeLike(String kw) {
+        return kw.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private List<WiseSaying> query(String sql, Object... params) {
+        open();
+
+        try (PreparedStatement statement = prepare(sql, params);
+             ResultSet rs = statement.executeQuery()) {
+            List<WiseSaying> wiseSayings = new ArrayList<>();
+
+            while (rs.next()) {
+                WiseSaying wiseSaying = new WiseSaying(rs.getString("saying"), rs.getString("author"));
+                wiseSaying.setId(rs.getInt("id"));
+                wiseSayings.add(wiseSaying);
+            }
+
+            return wiseSayings;
+        } catch (SQLException e) {
+            throw new RuntimeException("명언 조회 실패", e);
+        }
+    }
+
+    private int count(String sql, Object... params) {
+        open();
+
+        try (PreparedStatement statement = prepare(sql, params);
+             ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            return rs.getInt(1);
+        } catch (SQLException e) {
+            throw new RuntimeException("명언 조회 실패", e);
+        }
+    }
+
+    private PreparedStatement prepare(String sql, Object... params) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+
+        for (int i = 0; i < params.length; i++) {
+            statement.setObject(i + 1, params[i]);
+        }
+
+        return statement;
+    }
+
+    public void close() {
+        if (connection == null) {
+            return;
+        }
+
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new RuntimeException("DB 연결 닫기 실패", e);
+        }
+
+        connection = null;
+    }
+
+    private void open() {
+        try {
+            if (connection != null && !connection.isClosed() && Util.file.exists(getDbPath())) {
+                return;
+            }
+
+            // clear() 로 파일이 지워졌으면 새로 만듦
+            close();
+            Util.file.mkdir(getDbPath());
+            connection = DriverManager.getConnection(
+                    "jdbc:h2:file:./" + getDbPath() + "/h2;DB_CLOSE_ON_EXIT=FALSE", "sa", "");
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("""
+                        CREATE TABLE IF NOT EXISTS wise_saying (
+                            id INT AUTO_INCREMENT PRIMARY KEY,
+                            saying VARCHAR NOT NULL,
+                            author VARCHAR NOT NULL
+                        )
+                        """);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("DB 연결 실패: " + getDbPath(), e);
+        }
+    }
+
+    private void rollback() {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            // 원래 예외를 그대로 던지도록 무시
+        }
+    }
+
+    private void setAutoCommit() {
+        try {
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            throw new RuntimeException("DB 설정 실패", e);
+        }
+    }
+}
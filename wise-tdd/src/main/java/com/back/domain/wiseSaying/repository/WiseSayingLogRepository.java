@@ -0,0 +1,318 @@
+package com.back.domain.wiseSaying.repository;
+
+import com.back.AppConfig;
+import com.back.PageDto;
+import com.back.domain.wiseSaying.entity.WiseSaying;
+import com.back.standard.util.Util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+// 명언 전체를 파일 1개(segment.log)에 이어 쓰는 저장소
+// - 등록/수정: 레코드를 파일 끝에 추가 (이미 쓴 내용은 건드리지 않음)
+// - 삭제: 삭제 표시 레코드를 파일 끝에 추가
+// - 메모리에 id => 마지막 레코드의 위치(offset, 크기)를 들고 있다가 조회할 때 그 위치만 한 번 읽음
+// - 시작할 때 파일을 처음부터 읽어서 위치 목록을 다시 만듦
+// - 덮어쓰거나 삭제해서 못 쓰게 된 레코드가 많아지면 살아 있는 레코드만 새 파일로 옮겨 씀 (compaction)
+// - 레코드 모양은 WiseSayingRecordCodec (wal.log 와 같음)
+public class WiseSayingLogRepository implements WiseSayingRepository {
+    // 못 쓰는 레코드가 이 크기 이상이고, 살아 있는 레코드보다 많아지면 compaction
+    private static final long DEFAULT_COMPACTION_MIN_BYTES = 1024 * 1024;
+
+    // 레코드 위치
+    private record Location(long offset, int size) {
+    }
+
+    private final Path segmentPath;
+    private final Path compactingPath;
+    private final long compactionMinBytes;
+
+    // 파일은 처음 사용할 때 연다 (테스트에서 clear() 후에 열리도록)
+    private FileChannel channel;
+    private TreeMap<Integer, Location> index;
+    // 검색용 역색인, 시작할 때 파일을 읽으면서 같이 만듦 (명언 내용은 들고 있지 않고 후보를 확인할 때 레코드를 읽음)
+    private WiseSayingSearchIndex searchIndex;
+    private long writePosition;
+    private long deadBytes;
+    private int lastId;
+
+    public WiseSayingLogRepository() {
+        this(DEFAULT_COMPACTION_MIN_BYTES);
+    }
+
+    public WiseSayingLogRepository(long compactionMinBytes) {
+        String dbPath = getDbPath();
+        this.segmentPath = Path.of(dbPath, "segment.log");
+        this.compactingPath = Path.of(dbPath, "segment.log.compacting");
+        this.compactionMinBytes = compactionMinBytes;
+    }
+
+    private static String getDbPath() {
+        return AppConfig.getMode() + "/db/wiseSaying/log";
+    }
+
+    public static void clear() {
+        Util.file.delete(getDbPath());
+    }
+
+    public WiseSaying save(WiseSaying wiseSaying) {
+        open();
+
+        if (wiseSaying.isNew()) {
+            wiseSaying.setId(++lastId);
+        }
+
+        Location location = append(WiseSayingRecordCodec.encode(
+                WiseSayingRecordCodec.TYPE_PUT, wiseSaying.getId(), wiseSaying.getSaying(), wiseSaying.getAuthor()));
+        Location old = index.put(wiseSaying.getId(), location);
+
+        // 색인에서 빼려면 이전 내용이 필요 => 이전 레코드를 읽음 (수정할 때만)
+        if (old != null) {
+            searchIndex.remove(read(old));
+            deadBytes += old.size();
+        }
+
+        searchIndex.add(wiseSaying);
+
+        compactIfNeeded();
+        return wiseSaying;
+    }
+
+    public boolean delete(WiseSaying wiseSaying) {
+        open();
+
+        Location old = index.remove(wiseSaying.getId());
+
+        if (old == null) {
+            return false;
+        }
+
+        searchIndex.remove(read(old));
+        Location tombstone = append(WiseSayingRecordCodec.encode(
+                WiseSayingRecordCodec.TYPE_DELETE, wiseSaying.getId(), null, null));
+        deadBytes += old.size() + tombstone.size();
+
+        compactIfNeeded();
+        return true;
+    }
+
+    public Optional<WiseSaying> findById(int id) {
+        open();
+
+        Location location = index.get(id);
+
+        if (location == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(read(location));
+    }
+
+    // id 오름차순
+    public List<WiseSaying> findAll() {
+        open();
+
+        List<WiseSaying> wiseSayings = new ArrayList<>(index.size());
+
+        for (Location location : index.values()) {
+            wiseSayings.add(read(location));
+        }
+
+        return wiseSayings;
+    }
+
+    // 레코드를 꺼낼 때마다 읽음 (build 처럼 전체를 한 번 훑는 용도)
+    public Stream<WiseSaying> streamAll() {
+        open();
+        return index.values().stream().map(this::read);
+    }
+
+    public PageDto findByContentContainingDesc(String kw, int pageSize, int pageNo) {
+        open();
+        return pageOf(searchIndex.searchSaying(kw, pageNo, pageSize), pageNo, pageSize);
+    }
+
+    public PageDto findByAuthorContainingDesc(String kw, int pageSize, int pageNo) {
+        open();
+        return pageOf(searchIndex.searchAuthor(kw, pageNo, pageSize), pageNo, pageSize);
+    }
+
+    public PageDto findByContentContainingOrAuthorContainingDesc(String kw, int pageSize, int pageNo) {
+        open();
+        return pageOf(searchIndex.searchSayingOrAuthor(kw, pageNo, pageSize), pageNo, pageSize);
+    }
+
+    // 요청한 페이지의 레코드만 읽음
+    private PageDto pageOf(WiseSayingSearchIndex.Hits hits, int pageNo, int pageSize) {
+        List<WiseSaying> content = new ArrayList<>(hits.ids().length);
+
+        for (int id : hits.ids()) {
+            content.add(read(index.get(id)));
+        }
+
+        return new PageDto(pageNo, pageSize, hits.totalItems(), content);
+    }
+
+    // 파일 크기 (테스트, compaction 확인용)
+    public long getFileSize() {
+        open();
+        return writePosition;
+    }
+
+    public void compact() {
+        open();
+
+        try (FileChannel out = FileChannel.open(compactingPath,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            TreeMap<Integer, Location> newIndex = new TreeMap<>();
+            long position = writeFully(out, WiseSayingRecordCodec.encode(
+                    WiseSayingRecordCodec.TYPE_LAST_ID, lastId, null, null), 0);
+            long lastIdRecordSize = position;
+            // transferTo 는 out 의 현재 위치에 이어서 씀
+            out.position(position);
+
+            // 레코드는 그대로 복사하고 새 위치만 기록
+            for (Map.Entry<Integer, Location> entry : index.entrySet()) {
+                Location location = entry.getValue();
+                long copied = 0;
+
+                while (copied < location.size()) {
+                    copied += channel.transferTo(location.offset() + copied, location.size() - copied, out);
+                }
+
+                newIndex.put(entry.getKey(), new Location(position, location.size()));
+                position += location.size();
+            }
+
+            out.force(true);
+
+            // 새 파일이 다 써진 다음에 한 번에 바꿔치기 => 중간에 죽어도 기존 파일은 그대로
+            channel.close();
+            Files.move(compactingPath, segmentPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(segmentPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+            index = newIndex;
+            writePosition = position;
+            deadBytes = lastIdRecordSize;
+        } catch (IOException e) {
+            throw new RuntimeException("파일 정리 실패: " + segmentPath, e);
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (deadBytes >= compactionMinBytes && deadBytes > writePosition - deadBytes) {
+            compact();
+        }
+    }
+
+    public void close() {
+        if (channel == null) {
+            return;
+        }
+
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new RuntimeException("파일 닫기 실패: " + segmentPath, e);
+        }
+
+        channel = null;
+    }
+
+    private void open() {
+        if (channel != null && channel.isOpen()) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(segmentPath.getParent());
+            // compaction 도중에 종료되었으면 만들다 만 파일은 버림
+            Files.deleteIfExists(compactingPath);
+            channel = FileChannel.open(segmentPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            load();
+        } catch (IOException e) {
+            throw new RuntimeException("파일 열기 실패: " + segmentPath, e);
+        }
+    }
+
+    // 파일을 처음부터 끝까지 읽어서 위치 목록, lastId 를 다시 만듦
+    // 마지막 레코드가 덜 써진 채로 끝났으면 그 앞까지만 살리고 뒷부분은 잘라냄 (WiseSayingRecordCodec.readAll)
+    private void load() throws IOException {
+        index = new TreeMap<>();
+        searchIndex = new WiseSayingSearchIndex(id -> findById(id).orElse(null));
+        lastId = 0;
+        deadBytes = 0;
+
+        writePosition = WiseSayingRecordCodec.readAll(channel, record -> {
+            int id = record.id();
+            lastId = Math.max(lastId, id);
+
+            if (record.type() == WiseSayingRecordCodec.TYPE_PUT) {
+                Location old = index.put(id, new Location(record.offset(), record.size()));
+                if (old != null) {
+                    deadBytes += old.size();
+                    searchIndex.remove(read(old));
+                }
+                searchIndex.add(id, record.saying(), record.author());
+            } else if (record.type() == WiseSayingRecordCodec.TYPE_DELETE) {
+                Location old = index.remove(id);
+                if (old != null) searchIndex.remove(read(old));
+                deadBytes += record.size() + (old == null ? 0 : old.size());
+            } else {
+                deadBytes += record.size();
+            }
+        });
+    }
+
+    private Location append(ByteBuffer record) {
+        try {
+            int size = record.remaining();
+            long offset = writePosition;
+
+            writePosition = writeFully(channel, record, offset);
+
+            return new Location(offset, size);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 쓰기 실패: " + segmentPath, e);
+        }
+    }
+
+    private static long writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+
+        return position;
+    }
+
+    private WiseSaying read(Location location) {
+        ByteBuffer buffer = ByteBuffer.allocate(location.size());
+
+        try {
+            long position = location.offset();
+
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) throw new EOFException();
+                position += read;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("파일 읽기 실패: " + segmentPath, e);
+        }
+
+        return WiseSayingRecordCodec.decode(buffer);
+    }
+}
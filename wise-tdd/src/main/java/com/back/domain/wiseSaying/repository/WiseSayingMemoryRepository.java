@@ -3,65 +3,97 @@ package com.back.domain.wiseSaying.repository;
 import com.back.PageDto;
 import com.back.domain.wiseSaying.entity.WiseSaying;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public class WiseSayingMemoryRepository implements WiseSayingRepository {
-    private List<WiseSaying> wiseSayings = new ArrayList<>();
+    // id => 명언, 목록 페이지도 여기서 바로 꺼냄
+    private final WiseSayingTable wiseSayings = new WiseSayingTable();
     private int lastId = 0;
+    // 검색 색인에 넣을 때의 내용 (id => 복사본)
+    // 수정은 표에 있는 객체를 바로 바꾼 다음 save 하므로, 색인에서 이전 글자를 빼려면 이전 내용을 따로 들고 있어야 함
+    // 문자열은 명언 객체와 같은 것을 가리키므로 늘어나는 메모리는 객체 하나 분량
+    private final WiseSayingTable indexed = new WiseSayingTable();
+    // 검색은 역색인으로, 수정된 내용도 반영하도록 저장할 때마다 갱신
+    private final WiseSayingSearchIndex searchIndex = new WiseSayingSearchIndex(indexed::get);
 
     public WiseSaying save(WiseSaying wiseSaying) {
         if (wiseSaying.isNew()) {
             wiseSaying.setId(++lastId);
-            wiseSayings.add(wiseSaying);
+            wiseSayings.put(wiseSaying);
+        } else if (wiseSayings.get(wiseSaying.getId()) == null) {
+            // 표에 없는 id(삭제된 명언 등)는 되살리지 않음, 표와 색인 모두 그대로 (WiseSayingConcurrentRepository 와 같음)
+            return wiseSaying;
         }
 
+        WiseSaying old = indexed.get(wiseSaying.getId());
+
+        if (old != null) {
+            searchIndex.remove(old);
+        }
+
+        WiseSaying copy = new WiseSaying(wiseSaying.getSaying(), wiseSaying.getAuthor());
+        copy.setId(wiseSaying.getId());
+        indexed.put(copy);
+        searchIndex.add(copy);
+
         return wiseSaying;
     }
 
     public boolean delete(WiseSaying wiseSaying) {
-        return wiseSayings.removeIf(w -> w.getId() == wiseSaying.getId());
+        boolean removed = wiseSayings.remove(wiseSaying.getId());
+        WiseSaying old = indexed.get(wiseSaying.getId());
+
+        if (old != null) {
+            indexed.remove(old.getId());
+            searchIndex.remove(old);
+        }
+
+        return removed;
     }
 
     public Optional<WiseSaying> findById(int id) {
-        return wiseSayings.stream()
-                .filter(wiseSaying -> wiseSaying.getId() == id)
-                .findFirst();
+        return Optional.ofNullable(wiseSayings.get(id));
     }
 
     public PageDto findByContentContainingDesc(String kw, int pageSize, int pageNo) {
-        List<WiseSaying> filteredContent = wiseSayings.reversed().stream()
-                .filter(w -> w.getSaying().contains(kw))
-                .toList();
+        if (kw.isEmpty()) {
+            return findAllDesc(pageSize, pageNo);
+        }
 
-        return pageOf(filteredContent, pageNo, pageSize);
+        return pageOf(searchIndex.searchSaying(kw, pageNo, pageSize), pageNo, pageSize);
     }
 
     public PageDto findByAuthorContainingDesc(String kw, int pageSize, int pageNo) {
-        List<WiseSaying> filteredContent = wiseSayings.reversed().stream()
-                .filter(w -> w.getAuthor().contains(kw))
-                .toList();
+        if (kw.isEmpty()) {
+            return findAllDesc(pageSize, pageNo);
+        }
 
-        return pageOf(filteredContent, pageNo, pageSize);
+        return pageOf(searchIndex.searchAuthor(kw, pageNo, pageSize), pageNo, pageSize);
     }
 
     public PageDto findByContentContainingOrAuthorContainingDesc(String kw, int pageSize, int pageNo) {
-        List<WiseSaying> filteredContent = wiseSayings.reversed().stream()
-                .filter(w -> w.getAuthor().contains(kw) || w.getSaying().contains(kw))
-                .toList();
+        if (kw.isEmpty()) {
+            return findAllDesc(pageSize, pageNo);
+        }
 
-        return pageOf(filteredContent, pageNo, pageSize);
+        return pageOf(searchIndex.searchSayingOrAuthor(kw, pageNo, pageSize), pageNo, pageSize);
     }
 
-    private PageDto pageOf(List<WiseSaying> filteredContent, int pageNo, int pageSize) {
-        List<WiseSaying> content = filteredContent.stream()
-                .skip((pageNo-1) * pageSize)
-                .limit(pageSize)
+    // 검색어가 없으면 표에서 바로 페이지를 꺼냄
+    private PageDto findAllDesc(int pageSize, int pageNo) {
+        return new PageDto(pageNo, pageSize, wiseSayings.size(), wiseSayings.pageDesc(pageNo, pageSize));
+    }
+
+    // 요청한 페이지의 명언만 꺼냄
+    private PageDto pageOf(WiseSayingSearchIndex.Hits hits, int pageNo, int pageSize) {
+        List<WiseSaying> content = Arrays.stream(hits.ids())
+                .mapToObj(wiseSayings::get)
                 .toList();
 
-        int totalItems = filteredContent.size();
-        return new PageDto(pageNo, pageSize, totalItems, content);
+        return new PageDto(pageNo, pageSize, hits.totalItems(), content);
     }
 
     public String build() {
@@ -69,6 +101,10 @@ public class WiseSayingMemoryRepository implements WiseSayingRepository {
     }
 
     public List<WiseSaying> findAll() {
-        return null;
+        return wiseSayings.stream().toList();
+    }
+
+    public Stream<WiseSaying> streamAll() {
+        return wiseSayings.stream();
     }
-}
\ No newline at end of file
+}
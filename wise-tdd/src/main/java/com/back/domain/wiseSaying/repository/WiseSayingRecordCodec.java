@@ -0,0 +1,156 @@
+package com.back.domain.wiseSaying.repository;
+
+import com.back.domain.wiseSaying.entity.WiseSaying;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+// segment.log(WiseSayingLogRepository), wal.log(WiseSayingWal) 이 같이 쓰는 레코드 모양
+// 두 파일의 모양이 따로 바뀌지 않도록 쓰기(encode)와 읽기(readAll, decode)를 여기에만 둠
+//
+// 레코드: [본문 길이 int][본문 CRC32 int][본문]
+// 본문: [종류 byte][id int][명언 길이 int][명언 UTF-8][작가 길이 int][작가 UTF-8]
+// 명언, 작가는 TYPE_PUT 일 때만 있음, null 은 길이 -1 로 기록
+class WiseSayingRecordCodec {
+    static final byte TYPE_PUT = 1;
+    static final byte TYPE_DELETE = 2;
+    // segment.log compaction 후 첫 레코드, 삭제된 명언의 번호를 다시 쓰지 않도록 lastId 를 남김
+    static final byte TYPE_LAST_ID = 3;
+
+    static final int HEADER_SIZE = 8;
+
+    // 파일에서 읽은 레코드 1개, offset/size 는 헤더를 포함한 위치
+    record Record(long offset, int size, byte type, int id, String saying, String author) {
+    }
+
+    private WiseSayingRecordCodec() {
+    }
+
+    static ByteBuffer encode(byte type, int id, String saying, String author) {
+        byte[] sayingBytes = saying == null ? null : saying.getBytes(StandardCharsets.UTF_8);
+        byte[] authorBytes = author == null ? null : author.getBytes(StandardCharsets.UTF_8);
+        int length = 1 + 4;
+
+        if (type == TYPE_PUT) {
+            length += 4 + byteLength(sayingBytes) + 4 + byteLength(authorBytes);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + length);
+        buffer.position(HEADER_SIZE);
+        buffer.put(type);
+        buffer.putInt(id);
+
+        if (type == TYPE_PUT) {
+            writeString(buffer, sayingBytes);
+            writeString(buffer, authorBytes);
+        }
+
+        buffer.putInt(0, length);
+        buffer.putInt(4, crc(buffer.array(), HEADER_SIZE, length));
+        buffer.position(0);
+
+        return buffer;
+    }
+
+    // 헤더까지 포함한 TYPE_PUT 레코드 1개 => 명언
+    static WiseSaying decode(ByteBuffer record) {
+        record.position(HEADER_SIZE + 1);
+
+        int id = record.getInt();
+        WiseSaying wiseSaying = new WiseSaying(readString(record), readString(record));
+        wiseSaying.setId(id);
+
+        return wiseSaying;
+    }
+
+    // 처음부터 끝까지 읽으면서 레코드를 하나씩 넘김, 마지막으로 읽은 레코드의 끝 위치를 돌려줌
+    // 마지막 레코드가 덜 써진 채로 끝났으면 (길이 부족, CRC 불일치) 그 앞까지만 넘기고 뒷부분은 잘라냄
+    static long readAll(FileChannel channel, Consumer<Record> consumer) throws IOException {
+        long position = 0;
+        long fileSize = channel.size();
+        DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Channels.newInputStream(channel.position(0)), 64 * 1024));
+
+        while (position < fileSize) {
+            byte[] body;
+
+            try {
+                int length = in.readInt();
+                int crc = in.readInt();
+
+                if (length <= 0 || length > fileSize - position - HEADER_SIZE) {
+                    break;
+                }
+
+                body = new byte[length];
+                in.readFully(body);
+
+                if (crc(body, 0, length) != crc) {
+                    break;
+                }
+            } catch (EOFException e) {
+                break;
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(body);
+            byte type = buffer.get();
+            int id = buffer.getInt();
+            int size = HEADER_SIZE + body.length;
+
+            if (type == TYPE_PUT) {
+                consumer.accept(new Record(position, size, type, id, readString(buffer), readString(buffer)));
+            } else {
+                consumer.accept(new Record(position, size, type, id, null, null));
+            }
+
+            position += size;
+        }
+
+        if (position < fileSize) {
+            channel.truncate(position);
+        }
+
+        return position;
+    }
+
+    private static int byteLength(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private static void writeString(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+            return;
+        }
+
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+
+        if (length < 0) {
+            return null;
+        }
+
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+
+        return value;
+    }
+
+    private static int crc(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,57 @@
+package com.back.domain.wiseSaying.repository;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// 이름으로 저장소를 골라서 만듦
+// - memory     : 메모리 (id 로 인덱싱한 배열)
+// - file       : 명언 1개당 json 파일 1개 + WAL
+// - log        : 파일 1개(segment.log) 에 계속 덧붙임
+// - concurrent : 여러 스레드가 같이 쓰는 메모리 저장소
+// - jdbc       : 내장 H2 데이터베이스
+// ServiceLoader 로 찾은 저장소도 같이 등록 (이름이 같으면 기본 저장소를 덮어씀)
+public class WiseSayingRepositories {
+    private static final Map<String, WiseSayingRepositoryProvider> providers = new LinkedHashMap<>();
+
+    static {
+        register("memory", WiseSayingMemoryRepository::new);
+        register("file", WiseSayingFileRepository::new);
+        register("log", WiseSayingLogRepository::new);
+        register("concurrent", WiseSayingConcurrentRepository::new);
+        register("jdbc", WiseSayingJdbcRepository::new);
+
+        for (WiseSayingRepositoryProvider provider : ServiceLoader.load(WiseSayingRepositoryProvider.class)) {
+            providers.put(provider.getName(), provider);
+        }
+    }
+
+    private static void register(String name, Supplier<WiseSayingRepository> factory) {
+        providers.put(name, new WiseSayingRepositoryProvider() {
+            public String getName() {
+                return name;
+            }
+
+            public WiseSayingRepository create() {
+                return factory.get();
+            }
+        });
+    }
+
+    public static Set<String> getNames() {
+        return Collections.unmodifiableSet(providers.keySet());
+    }
+
+    public static WiseSayingRepository create(String name) {
+        WiseSayingRepositoryProvider provider = providers.get(name);
+
+        if (provider == null) {
+            throw new IllegalArgumentException("알 수 없는 저장소: " + name + " (사용 가능: " + String.join(", ", providers.keySet()) + ")");
+        }
+
+        return provider.create();
+    }
+}
@@ -2,11 +2,11 @@ package com.back.domain.wiseSaying.repository;
 
 import com.back.PageDto;
 import com.back.domain.wiseSaying.entity.WiseSaying;
-import com.back.standard.util.Util;
 
+import java.nio.file.Path;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface WiseSayingRepository {
     WiseSaying save(WiseSaying wiseSaying);
@@ -17,15 +17,29 @@ public interface WiseSayingRepository {
     PageDto findByContentContainingOrAuthorContainingDesc(String kw, int pageSize, int pageNo);
     List<WiseSaying> findAll();
 
-    default String build() {
-        List<WiseSaying> wiseSayings = findAll();
-        List<Map<String, Object>> mapList = wiseSayings.stream()
-                .map(WiseSaying::toMap).toList();
+    // 여러 건을 한 번에 저장 (가져오기), 한 건씩 저장할 때마다 드는 비용을 묶음 끝에 한 번만 내는 저장소는 재정의
+    default List<WiseSaying> saveAll(List<WiseSaying> wiseSayings) {
+        wiseSayings.forEach(this::save);
+        return wiseSayings;
+    }
+
+    // 전체를 List 로 모으지 않고 1개씩 꺼내 쓸 수 있는 저장소는 재정의
+    default Stream<WiseSaying> streamAll() {
+        return findAll().stream();
+    }
 
-        String jsonStr = Util.json.toString(mapList);
+    // 종료할 때 호출, 아직 디스크에 내리지 않은 내용이 있거나 열어 둔 파일/연결이 있는 저장소는 재정의
+    default void close() {
+    }
+
+    // 명언을 1개씩 data.json 에 바로 씀 (전체를 String 으로 만들지 않음)
+    default String build() {
         String filePath = "db/wiseSaying/data.json";
 
-        Util.file.set(filePath, jsonStr);
+        try (WiseSayingSnapshotWriter writer = new WiseSayingSnapshotWriter(Path.of(filePath));
+             Stream<WiseSaying> wiseSayings = streamAll()) {
+            wiseSayings.forEach(writer::write);
+        }
 
         return filePath;
     }
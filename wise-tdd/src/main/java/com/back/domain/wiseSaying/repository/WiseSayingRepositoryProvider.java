@@ -0,0 +1,12 @@
+package com.back.domain.wiseSaying.repository;
+
+// 저장소 종류 1개를 만드는 방법 (storage SPI)
+// 기본 저장소(memory, file, log, concurrent, jdbc)는 WiseSayingRepositories 에 들어 있음
+// 다른 저장소를 붙이고 싶으면 이 인터페이스를 구현하고
+// META-INF/services/com.back.domain.wiseSaying.repository.WiseSayingRepositoryProvider 에 클래스 이름을 적으면 됨
+public interface WiseSayingRepositoryProvider {
+    // 설정에서 고를 때 쓰는 이름 (ex. wiseSaying.storage=jdbc)
+    String getName();
+
+    WiseSayingRepository create();
+}
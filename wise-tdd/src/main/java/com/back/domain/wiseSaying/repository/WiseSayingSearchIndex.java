@@ -0,0 +1,401 @@
+package com.back.domain.wiseSaying.repository;
+
+import com.back.domain.wiseSaying.entity.WiseSaying;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+
+// 명언 검색용 n-gram 역색인 (명언, 작가 각각)
+// 글자 1개(unigram), 연속된 글자 2개(bigram) => 그 글자가 들어 있는 명언 id 목록(posting list)
+// 한글은 조사를 붙여 쓰므로 단어 단위 대신 글자 단위로 잘라야 "꿈" 으로 "꿈을", "꿈은" 을 찾을 수 있음
+// - 검색어가 1~2글자: posting list 자체가 답 => 요청한 페이지 위치만 바로 꺼냄
+// - 3글자 이상: 검색어의 bigram 목록들을 id 내림차순으로 같이 훑으면서(교집합) 후보를 하나씩 꺼내고
+//   후보는 저장소에서 명언을 꺼내서 실제로 포함하는지 확인 (bigram 은 모두 있지만 이어져 있지 않은 명언은 뺌)
+//   => 전체 개수를 맞게 세려면 요청한 페이지 뒤의 후보도 확인해야 함, 확인하는 후보는 교집합에 남은 것뿐
+// 명언 내용은 들고 있지 않음 => 수정/삭제할 때는 색인할 때의 내용을 넘겨 받아서 그 글자들에서만 id 를 뺌
+public class WiseSayingSearchIndex {
+    // 검색 결과: 전체 개수와 요청한 페이지의 id (id 내림차순)
+    public record Hits(int totalItems, int[] ids) {
+    }
+
+    // 후보를 확인할 때 명언을 꺼내는 곳 (저장소의 조회), 없으면 null
+    private final IntFunction<WiseSaying> source;
+    private final IdList all = new IdList();
+    private final Field saying = new Field();
+    private final Field author = new Field();
+
+    public WiseSayingSearchIndex(IntFunction<WiseSaying> source) {
+        this.source = source;
+    }
+
+    // 새로 추가, 이미 있던 명언을 바꿀 때는 먼저 이전 내용으로 remove
+    public void add(WiseSaying wiseSaying) {
+        add(wiseSaying.getId(), wiseSaying.getSaying(), wiseSaying.getAuthor());
+    }
+
+    public void add(int id, String sayingText, String authorText) {
+        all.add(id);
+        saying.add(id, nullToEmpty(sayingText));
+        author.add(id, nullToEmpty(authorText));
+    }
+
+    // 색인할 때의 내용(indexed)을 넘겨야 그 글자들의 목록에서 id 를 뺄 수 있음
+    public void remove(WiseSaying indexed) {
+        remove(indexed.getId(), indexed.getSaying(), indexed.getAuthor());
+    }
+
+    public void remove(int id, String sayingText, String authorText) {
+        all.remove(id);
+        saying.remove(id, nullToEmpty(sayingText));
+        author.remove(id, nullToEmpty(authorText));
+    }
+
+    public boolean contains(int id) {
+        return all.contains(id);
+    }
+
+    public int size() {
+        return all.size();
+    }
+
+    public Hits searchSaying(String kw, int pageNo, int pageSize) {
+        return page(find(saying, kw, WiseSaying::getSaying), pageNo, pageSize);
+    }
+
+    public Hits searchAuthor(String kw, int pageNo, int pageSize) {
+        return page(find(author, kw, WiseSaying::getAuthor), pageNo, pageSize);
+    }
+
+    public Hits searchSayingOrAuthor(String kw, int pageNo, int pageSize) {
+        if (kw.isEmpty()) {
+            return page(new ListCursor(all), pageNo, pageSize);
+        }
+
+        return page(new UnionCursor(find(saying, kw, WiseSaying::getSaying), find(author, kw, WiseSaying::getAuthor)), pageNo, pageSize);
+    }
+
+    private Cursor find(Field field, String kw, Function<WiseSaying, String> text) {
+        if (kw.isEmpty()) {
+            return new ListCursor(all);
+        }
+
+        if (kw.length() <= 2) {
+            IdList ids = kw.length() == 1 ? field.unigrams.get((int) kw.charAt(0)) : field.bigrams.get(bigram(kw, 0));
+            return new ListCursor(ids == null ? IdList.EMPTY : ids);
+        }
+
+        // 검색어의 bigram 이 모두 들어 있는 명언이 후보
+        List<IdList> lists = new ArrayList<>();
+
+        for (int i = 0; i + 1 < kw.length(); i++) {
+            IdList ids = field.bigrams.get(bigram(kw, i));
+
+            if (ids == null) {
+                return new ListCursor(IdList.EMPTY);
+            }
+
+            lists.add(ids);
+        }
+
+        lists.sort(Comparator.comparingInt(IdList::size));
+
+        return new IntersectCursor(lists, id -> {
+            WiseSaying wiseSaying = source.apply(id);
+            return wiseSaying != null && nullToEmpty(text.apply(wiseSaying)).contains(kw);
+        });
+    }
+
+    // 앞 페이지 수만큼 건너뛰고 pageSize 개를 꺼낸 뒤, 나머지는 확인하면서 개수만 셈
+    private static Hits page(Cursor cursor, int pageNo, int pageSize) {
+        long skip = Math.max(0, (long) (pageNo - 1) * pageSize);
+        int skipped = cursor.skip(skip);
+        int[] pageIds = new int[pageSize];
+        int count = 0;
+
+        if (skipped == skip) {
+            while (count < pageSize) {
+                int id = cursor.next();
+
+                if (id == Cursor.END) {
+                    break;
+                }
+
+                pageIds[count++] = id;
+            }
+        }
+
+        long totalItems = skipped + count + (count == pageSize ? cursor.countRest() : 0);
+
+        return new Hits((int) Math.min(totalItems, Integer.MAX_VALUE), Arrays.copyOf(pageIds, count));
+    }
+
+    private static int bigram(String text, int index) {
+        return (text.charAt(index) << 16) | text.charAt(index + 1);
+    }
+
+    private static String nullToEmpty(String text) {
+        return text == null ? "" : text;
+    }
+
+    // 검색 결과를 id 내림차순으로 하나씩 꺼냄
+    // nextCandidate: 색인만 보고 고른 후보, matches: 후보가 실제로 검색어를 포함하는지
+    private abstract static class Cursor {
+        static final int END = -1;
+
+        abstract int nextCandidate();
+
+        boolean matches(int id) {
+            return true;
+        }
+
+        int next() {
+            while (true) {
+                int id = nextCandidate();
+
+                if (id == END || matches(id)) {
+                    return id;
+                }
+            }
+        }
+
+        // 확인된 결과를 n 개 건너뜀, 실제로 건너뛴 개수를 돌려줌
+        int skip(long n) {
+            int skipped = 0;
+
+            while (skipped < n && next() != END) {
+                skipped++;
+            }
+
+            return skipped;
+        }
+
+        // 남은 결과 개수 (후보를 하나씩 확인)
+        long countRest() {
+            long count = 0;
+
+            while (next() != END) {
+                count++;
+            }
+
+            return count;
+        }
+    }
+
+    // posting list 를 뒤에서부터, 건너뛰기와 남은 개수는 위치 계산만
+    private static class ListCursor extends Cursor {
+        private final IdList ids;
+        private int index;
+
+        ListCursor(IdList ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        int nextCandidate() {
+            return index < ids.size() ? ids.getDesc(index++) : END;
+        }
+
+        @Override
+        int skip(long n) {
+            int skipped = (int) Math.min(n, ids.size() - index);
+            index += skipped;
+            return skipped;
+        }
+
+        @Override
+        long countRest() {
+            int rest = ids.size() - index;
+            index = ids.size();
+            return rest;
+        }
+    }
+
+    // 가장 짧은 목록을 뒤에서부터 훑으면서 나머지 목록에 모두 있는 id 만 후보로
+    private static class IntersectCursor extends Cursor {
+        private final List<IdList> lists;
+        private final IntPredicate filter;
+        private int index;
+
+        IntersectCursor(List<IdList> lists, IntPredicate filter) {
+            this.lists = lists;
+            this.filter = filter;
+        }
+
+        @Override
+        int nextCandidate() {
+            IdList smallest = lists.getFirst();
+
+            while (index < smallest.size()) {
+                int id = smallest.getDesc(index++);
+
+                if (containsAll(id)) {
+                    return id;
+                }
+            }
+
+            return END;
+        }
+
+        @Override
+        boolean matches(int id) {
+            return filter.test(id);
+        }
+
+        private boolean containsAll(int id) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).contains(id)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    // 두 결과의 합집합, 양쪽의 다음 후보 중 큰 id 부터 (같으면 한 번만)
+    private static class UnionCursor extends Cursor {
+        private final Cursor a;
+        private final Cursor b;
+        private int headA = Integer.MIN_VALUE;
+        private int headB = Integer.MIN_VALUE;
+        // 방금 꺼낸 후보가 어느 쪽에서 나왔는지
+        private boolean fromA;
+        private boolean fromB;
+
+        UnionCursor(Cursor a, Cursor b) {
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        int nextCandidate() {
+            if (headA == Integer.MIN_VALUE) headA = a.nextCandidate();
+            if (headB == Integer.MIN_VALUE) headB = b.nextCandidate();
+
+            int id = Math.max(headA, headB);
+
+            if (id == END) {
+                return END;
+            }
+
+            fromA = headA == id;
+            fromB = headB == id;
+
+            if (fromA) headA = Integer.MIN_VALUE;
+            if (fromB) headB = Integer.MIN_VALUE;
+
+            return id;
+        }
+
+        @Override
+        boolean matches(int id) {
+            return (fromA && a.matches(id)) || (fromB && b.matches(id));
+        }
+    }
+
+    // 필드 하나(명언 또는 작가)의 글자 => id 목록
+    private static class Field {
+        private final Map<Integer, IdList> unigrams = new HashMap<>();
+        private final Map<Integer, IdList> bigrams = new HashMap<>();
+
+        void add(int id, String text) {
+            for (int i = 0; i < text.length(); i++) {
+                unigrams.computeIfAbsent((int) text.charAt(i), k -> new IdList()).add(id);
+
+                if (i + 1 < text.length()) {
+                    bigrams.computeIfAbsent(bigram(text, i), k -> new IdList()).add(id);
+                }
+            }
+        }
+
+        void remove(int id, String text) {
+            for (int i = 0; i < text.length(); i++) {
+                remove(unigrams, text.charAt(i), id);
+
+                if (i + 1 < text.length()) {
+                    remove(bigrams, bigram(text, i), id);
+                }
+            }
+        }
+
+        private static void remove(Map<Integer, IdList> grams, int key, int id) {
+            IdList ids = grams.get(key);
+
+            if (ids == null) {
+                return;
+            }
+
+            ids.remove(id);
+
+            if (ids.size() == 0) {
+                grams.remove(key);
+            }
+        }
+    }
+
+    // id 오름차순 int 배열, 뒤에서부터 읽으면 id 내림차순
+    // 새 명언은 id 가 가장 크므로 대부분 끝에 붙이기만 하면 됨
+    static class IdList {
+        static final IdList EMPTY = new IdList();
+
+        private int[] ids = new int[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        int getDesc(int index) {
+            return ids[size - 1 - index];
+        }
+
+        boolean contains(int id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        // 이미 있으면 무시 (같은 글자가 한 명언에 여러 번 나와도 한 번만)
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+
+            if (size == 0 || ids[size - 1] < id) {
+                ids[size++] = id;
+                return;
+            }
+
+            int index = Arrays.binarySearch(ids, 0, size, id);
+
+            if (index >= 0) {
+                return;
+            }
+
+            int insertAt = -index - 1;
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        void remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+
+            if (index < 0) {
+                return;
+            }
+
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+        }
+    }
+}
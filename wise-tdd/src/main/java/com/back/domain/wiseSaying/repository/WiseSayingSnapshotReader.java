@@ -0,0 +1,341 @@
+package com.back.domain.wiseSaying.repository;
+
+import com.back.domain.wiseSaying.entity.WiseSaying;
+import com.back.standard.util.JsonReader;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// data.json 을 메모리 맵으로 열어서 명언을 1개씩 꺼내는 reader
+// 파일 전체를 String 으로 읽지 않고 일정 크기(기본 64MB)씩 매핑하면서 바이트 단위로 해석
+// => 파일이 아무리 커도 메모리는 명언 1개 분량만 사용 (매핑된 영역은 힙이 아님)
+//
+// try (WiseSayingSnapshotReader reader = WiseSayingSnapshotReader.open(path)) {
+//     while (reader.hasNext()) { WiseSaying wiseSaying = reader.next(); ... }
+// }
+public class WiseSayingSnapshotReader implements Iterator<WiseSaying>, AutoCloseable {
+    private static final long WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private final Path path;
+    private final long windowSize;
+    private final FileChannel channel;
+    private final long size;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+
+    // 문자열 값을 UTF-8 바이트 그대로 모으는 버퍼, 재사용
+    private byte[] text = new byte[256];
+    private int textLength;
+
+    private WiseSaying next;
+    private boolean finished;
+
+    private WiseSayingSnapshotReader(Path path, long windowSize) throws IOException {
+        this.path = path;
+        this.windowSize = windowSize;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+
+        skipWhitespace();
+        expect('[');
+        skipWhitespace();
+
+        if (peek() == ']') {
+            finished = true;
+        }
+    }
+
+    public static WiseSayingSnapshotReader open(Path path) {
+        return open(path, WINDOW_SIZE);
+    }
+
+    // 매핑 크기를 바꿔서 여러 구간에 걸친 파일을 테스트할 때 사용
+    static WiseSayingSnapshotReader open(Path path, long windowSize) {
+        try {
+            return new WiseSayingSnapshotReader(path, windowSize);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 읽기 실패: " + path, e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = readRecord();
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public WiseSaying next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        WiseSaying wiseSaying = next;
+        next = null;
+        return wiseSaying;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new RuntimeException("파일 닫기 실패: " + path, e);
+        }
+    }
+
+    // { "id": 1, "saying": "...", "author": "..." } 1개, 모르는 키는 무시
+    private WiseSaying readRecord() {
+        skipWhitespace();
+
+        if (peek() == ']') {
+            finished = true;
+            return null;
+        }
+
+        if (peek() == ',') {
+            position++;
+            skipWhitespace();
+        }
+
+        expect('{');
+
+        int id = 0;
+        String saying = null;
+        String author = null;
+
+        while (true) {
+            skipWhitespace();
+
+            if (peek() == '}') {
+                position++;
+                break;
+            }
+
+            if (peek() == ',') {
+                position++;
+                continue;
+            }
+
+            String key = readString();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+
+            switch (key) {
+                case "id" -> id = readInt();
+                case "saying" -> saying = readStringOrNull();
+                case "author" -> author = readStringOrNull();
+                default -> skipValue();
+            }
+        }
+
+        WiseSaying wiseSaying = new WiseSaying(saying, author);
+        wiseSaying.setId(id);
+        return wiseSaying;
+    }
+
+    private String readStringOrNull() {
+        if (peek() == 'n') {
+            skipValue();
+            return null;
+        }
+
+        return readString();
+    }
+
+    private String readString() {
+        expect('"');
+        textLength = 0;
+
+        while (true) {
+            int b = read();
+
+            if (b == '"') {
+                break;
+            }
+
+            if (b != '\\') {
+                appendByte(b);
+                continue;
+            }
+
+            int escaped = read();
+
+            if (escaped == 'u') {
+                appendCodePoint(readUnicodeEscape());
+                continue;
+            }
+
+            // 이스케이프 규칙은 JsonReader 와 같음, 모르는 이스케이프는 그대로 받아들이지 않고 오류
+            int unescaped = JsonReader.unescape(escaped);
+
+            if (unescaped < 0) {
+                throw error("알 수 없는 이스케이프: \\" + (char) escaped);
+            }
+
+            appendByte(unescaped);
+        }
+
+        return new String(text, 0, textLength, StandardCharsets.UTF_8);
+    }
+
+    // 유니코드 이스케이프(역슬래시 u + 16진수 4자리), 서로게이트 쌍이면 다음 이스케이프까지 읽어서 하나의 코드 포인트로
+    private int readUnicodeEscape() {
+        int c = readHex4();
+
+        if (Character.isHighSurrogate((char) c) && peek() == '\\') {
+            position++;
+            expect('u');
+            int low = readHex4();
+
+            if (Character.isLowSurrogate((char) low)) {
+                return Character.toCodePoint((char) c, (char) low);
+            }
+
+            appendCodePoint('?');
+            return Character.isSurrogate((char) low) ? '?' : low;
+        }
+
+        return Character.isSurrogate((char) c) ? '?' : c;
+    }
+
+    private int readHex4() {
+        int value = 0;
+
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(read(), 16);
+
+            if (digit < 0) {
+                throw error("\\u 다음에 16진수 4자리가 필요합니다.");
+            }
+
+            value = value * 16 + digit;
+        }
+
+        return value;
+    }
+
+    private int readInt() {
+        boolean negative = peek() == '-';
+        if (negative) position++;
+
+        int value = 0;
+        int digits = 0;
+
+        while (peek() >= '0' && peek() <= '9') {
+            value = value * 10 + (read() - '0');
+            digits++;
+        }
+
+        if (digits == 0) {
+            throw error("숫자가 필요합니다.");
+        }
+
+        return negative ? -value : value;
+    }
+
+    // 숫자, true, false, null 또는 문자열
+    private void skipValue() {
+        if (peek() == '"') {
+            readString();
+            return;
+        }
+
+        while (true) {
+            int b = peek();
+            if (b == -1 || b == ',' || b == '}' || b == ']' || isWhitespace(b)) return;
+            position++;
+        }
+    }
+
+    private void appendCodePoint(int codePoint) {
+        if (codePoint < 0x80) {
+            appendByte(codePoint);
+        } else if (codePoint < 0x800) {
+            appendByte(0xC0 | (codePoint >> 6));
+            appendByte(0x80 | (codePoint & 0x3F));
+        } else if (codePoint < 0x10000) {
+            appendByte(0xE0 | (codePoint >> 12));
+            appendByte(0x80 | ((codePoint >> 6) & 0x3F));
+            appendByte(0x80 | (codePoint & 0x3F));
+        } else {
+            appendByte(0xF0 | (codePoint >> 18));
+            appendByte(0x80 | ((codePoint >> 12) & 0x3F));
+            appendByte(0x80 | ((codePoint >> 6) & 0x3F));
+            appendByte(0x80 | (codePoint & 0x3F));
+        }
+    }
+
+    private void appendByte(int b) {
+        if (textLength == text.length) {
+            text = Arrays.copyOf(text, text.length * 2);
+        }
+
+        text[textLength++] = (byte) b;
+    }
+
+    private void skipWhitespace() {
+        while (isWhitespace(peek())) {
+            position++;
+        }
+    }
+
+    private static boolean isWhitespace(int b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private void expect(char c) {
+        if (read() != c) {
+            throw error("'" + c + "' 가 필요합니다.");
+        }
+    }
+
+    private int read() {
+        int b = peek();
+
+        if (b == -1) {
+            throw error("파일이 중간에 끝났습니다.");
+        }
+
+        position++;
+        return b;
+    }
+
+    // 파일 끝이면 -1
+    private int peek() {
+        if (position >= size) {
+            return -1;
+        }
+
+        if (window == null || position < windowStart || position >= windowStart + window.limit()) {
+            map(position);
+        }
+
+        return window.get((int) (position - windowStart)) & 0xFF;
+    }
+
+    private void map(long start) {
+        try {
+            window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(windowSize, size - start));
+            windowStart = start;
+        } catch (IOException e) {
+            throw new RuntimeException("파일 읽기 실패: " + path, e);
+        }
+    }
+
+    private RuntimeException error(String message) {
+        return new RuntimeException("data.json 형식 오류 (위치 %d): %s".formatted(position, message));
+    }
+}
@@ -0,0 +1,134 @@
+package com.back.domain.wiseSaying.repository;
+
+import com.back.domain.wiseSaying.entity.WiseSaying;
+import com.back.standard.util.JsonWriter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+// data.json 을 명언 1개씩 바로 파일에 쓰는 writer
+// 전체를 List, String 으로 모으지 않으므로 명언이 아무리 많아도 버퍼 크기만큼의 메모리만 사용
+// 임시 파일에 다 쓴 다음 이름을 바꾸므로 쓰는 도중에 종료되어도 기존 data.json 은 그대로 남음
+// 모양은 Util.json.toString(List) 과 같음
+public class WiseSayingSnapshotWriter implements AutoCloseable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path path;
+    private final Path tempPath;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    // 명언 1개 분량의 문자열, 재사용
+    private final StringBuilder record = new StringBuilder();
+    private final JsonWriter json = new JsonWriter(record);
+    private long count;
+    private boolean failed;
+
+    public WiseSayingSnapshotWriter(Path path) {
+        this.path = path;
+        this.tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+
+            channel = FileChannel.open(tempPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 쓰기 실패: " + path, e);
+        }
+
+        json.beginArray();
+    }
+
+    public void write(WiseSaying wiseSaying) {
+        json.beginObject()
+                .name("id").value(wiseSaying.getId())
+                .name("saying").value(wiseSaying.getSaying())
+                .name("author").value(wiseSaying.getAuthor())
+                .endObject();
+
+        flushRecord();
+        count++;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    // 닫을 때 배열을 마무리하고 임시 파일을 data.json 으로 바꿈, 쓰다가 실패했으면 임시 파일만 지움
+    @Override
+    public void close() {
+        try {
+            if (failed) {
+                channel.close();
+                Files.deleteIfExists(tempPath);
+                return;
+            }
+
+            json.endArray();
+            flushRecord();
+            flushBuffer();
+
+            channel.force(true);
+            channel.close();
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 쓰기 실패: " + path, e);
+        }
+    }
+
+    // 모아 둔 문자열을 UTF-8 로 버퍼에 옮기고, 버퍼가 차면 파일에 씀
+    private void flushRecord() {
+        CharBuffer in = CharBuffer.wrap(record);
+        encoder.reset();
+
+        try {
+            while (true) {
+                CoderResult result = encoder.encode(in, buffer, true);
+
+                if (result.isOverflow()) {
+                    flushBuffer();
+                } else if (result.isError()) {
+                    result.throwException();
+                } else {
+                    break;
+                }
+            }
+
+            while (encoder.flush(buffer).isOverflow()) {
+                flushBuffer();
+            }
+        } catch (IOException e) {
+            failed = true;
+            throw new RuntimeException("파일 쓰기 실패: " + path, e);
+        }
+
+        record.setLength(0);
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            failed = true;
+            throw e;
+        }
+
+        buffer.clear();
+    }
+}
@@ -0,0 +1,137 @@
+package com.back.domain.wiseSaying.repository;
+
+import com.back.domain.wiseSaying.entity.WiseSaying;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+// 메모리 저장소용 id => 명언 표
+// id 는 1부터 1씩 늘어나므로 배열의 칸 번호를 그대로 id 로 사용 (int 를 박싱하지 않는 가장 단순한 int 키 맵)
+// - 조회/등록/삭제: 배열 칸 하나만 보면 됨
+// - 페이지: "살아 있는 id 개수" 를 펜윅 트리(구간 합 트리)로 관리해서
+//   "뒤에서 n번째 id" 를 O(log N) 에 찾고, 거기서부터 pageSize 개만 꺼냄 (전체 목록을 뒤집거나 복사하지 않음)
+public class WiseSayingTable {
+    private WiseSaying[] slots = new WiseSaying[16];
+    // tree[i] => 펜윅 트리, (i - (i & -i), i] 구간에 살아 있는 명언 수
+    private int[] tree = new int[16];
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public WiseSaying get(int id) {
+        return 0 < id && id < slots.length ? slots[id] : null;
+    }
+
+    // 같은 id 가 이미 있으면 교체
+    public void put(WiseSaying wiseSaying) {
+        int id = wiseSaying.getId();
+
+        if (id <= 0) {
+            throw new IllegalArgumentException("id 가 없는 명언은 저장할 수 없습니다.");
+        }
+
+        if (id >= slots.length) {
+            grow(id);
+        }
+
+        if (slots[id] == null) {
+            size++;
+            add(id, 1);
+        }
+
+        slots[id] = wiseSaying;
+    }
+
+    public boolean remove(int id) {
+        if (get(id) == null) {
+            return false;
+        }
+
+        slots[id] = null;
+        size--;
+        add(id, -1);
+        return true;
+    }
+
+    // id 내림차순으로 (pageNo - 1) * pageSize 개를 건너뛴 다음 pageSize 개
+    public List<WiseSaying> pageDesc(int pageNo, int pageSize) {
+        long offset = (long) (pageNo - 1) * pageSize;
+
+        if (pageNo < 1 || pageSize < 1 || offset >= size) {
+            return List.of();
+        }
+
+        // 뒤에서 offset + 1 번째 == 앞에서 size - offset 번째
+        int id = select((int) (size - offset));
+        List<WiseSaying> content = new ArrayList<>(Math.min(pageSize, (int) (size - offset)));
+
+        for (; id > 0 && content.size() < pageSize; id--) {
+            if (slots[id] != null) {
+                content.add(slots[id]);
+            }
+        }
+
+        return content;
+    }
+
+    // id 오름차순
+    public Stream<WiseSaying> stream() {
+        WiseSaying[] snapshot = slots;
+
+        return IntStream.range(1, snapshot.length)
+                .mapToObj(id -> snapshot[id])
+                .filter(Objects::nonNull);
+    }
+
+    // 앞에서 rank 번째(1부터) 살아 있는 id, 트리를 위에서부터 내려가며 찾음
+    private int select(int rank) {
+        int id = 0;
+
+        for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+            int next = id + step;
+
+            if (next < tree.length && tree[next] < rank) {
+                id = next;
+                rank -= tree[next];
+            }
+        }
+
+        return id + 1;
+    }
+
+    private void add(int id, int delta) {
+        for (int i = id; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    // 배열을 2배씩 늘리고 트리는 새 크기로 다시 만듦 (O(N), 늘릴 때만)
+    private void grow(int id) {
+        int capacity = slots.length;
+
+        while (capacity <= id) {
+            capacity *= 2;
+        }
+
+        slots = Arrays.copyOf(slots, capacity);
+        tree = new int[capacity];
+
+        for (int i = 1; i < capacity; i++) {
+            if (slots[i] != null) {
+                tree[i]++;
+            }
+
+            int parent = i + (i & -i);
+
+            if (parent < capacity) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
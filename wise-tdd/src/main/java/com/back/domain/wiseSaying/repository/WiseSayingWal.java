@@ -0,0 +1,297 @@
+package com.back.domain.wiseSaying.repository;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+// 파일 저장소용 WAL (write-ahead log)
+// 명언 파일을 바꾸기 전에 "무엇을 바꿀지" 를 이 파일 끝에 먼저 적고 디스크에 내려 둠
+// 명언 파일을 쓰다가 죽어도 다음에 시작할 때 여기 적힌 대로 다시 쓰면 됨 (recovery)
+//
+// group commit
+// - append 는 파일 끝에 쓰기만 하고 fsync 는 하지 않음
+// - commit(seq) 은 seq 번째 레코드까지 디스크에 내려갈 때까지 기다림
+//   이미 다른 스레드가 fsync 중이면 그게 끝나기를 기다렸다가, 그 사이에 쌓인 레코드를 한 번의 fsync 로 같이 내림
+//   => 동시에 저장하는 스레드가 많을수록 fsync 1번이 여러 명령을 책임짐
+// - 여러 건을 한 번에 넣을 때는 append 를 여러 번 하고 commit 을 마지막에 한 번만
+// - commitGrouped(seq) 는 아직 안 내려간 레코드가 groupSize 개 쌓였거나 마지막 fsync 후 groupInterval 이 지났을 때만 commit
+//   => 스레드가 하나뿐인 CLI 도 명령마다 fsync 하지 않음, 대신 갑자기 꺼지면 마지막 묶음은 잃을 수 있음
+//   => checkpoint, 종료(close) 때는 남은 레코드를 모두 내림
+//
+// checkpoint 는 처음부터 끝까지 이 객체의 잠금을 쥐고 함 => 도중에 append 가 끼어들지 못함
+// 명언 파일 쓰기도 append 와 같은 잠금 안에서 함 (appendPut, appendDelete 의 apply)
+// => checkpoint 는 "WAL 에는 적었는데 명언 파일은 아직 안 쓴" 레코드를 보지 않음
+//
+// 레코드 모양은 segment.log 와 같음 (WiseSayingRecordCodec)
+public class WiseSayingWal implements AutoCloseable {
+    public static final byte TYPE_PUT = WiseSayingRecordCodec.TYPE_PUT;
+    public static final byte TYPE_DELETE = WiseSayingRecordCodec.TYPE_DELETE;
+
+    private static final int DEFAULT_GROUP_SIZE = 64;
+    private static final long DEFAULT_GROUP_INTERVAL_MILLIS = 1000;
+
+    public record Entry(byte type, int id, String saying, String author) {
+    }
+
+    private final Path path;
+    private final int groupSize;
+    private final long groupIntervalNanos;
+
+    // 파일은 처음 사용할 때 연다, 지워졌으면 (테스트에서 clear()) 다시 만듦
+    private FileChannel channel;
+    // 지금까지 추가한 레코드 수, 디스크에 내려간 레코드 수
+    private long appendedSeq;
+    private long durableSeq;
+    private boolean syncing;
+    private long syncCount;
+    private long lastSyncNanos = System.nanoTime();
+
+    public WiseSayingWal(Path path) {
+        this(path, DEFAULT_GROUP_SIZE, DEFAULT_GROUP_INTERVAL_MILLIS);
+    }
+
+    public WiseSayingWal(Path path, int groupSize, long groupIntervalMillis) {
+        this.path = path;
+        this.groupSize = groupSize;
+        this.groupIntervalNanos = groupIntervalMillis * 1_000_000;
+    }
+
+    public synchronized long appendPut(int id, String saying, String author) {
+        return append(WiseSayingRecordCodec.encode(TYPE_PUT, id, saying, author));
+    }
+
+    public synchronized long appendDelete(int id) {
+        return append(WiseSayingRecordCodec.encode(TYPE_DELETE, id, null, null));
+    }
+
+    // 레코드를 추가하고 같은 잠금 안에서 apply(명언 파일 쓰기) 까지 함
+    public synchronized long appendPut(int id, String saying, String author, Runnable apply) {
+        long seq = appendPut(id, saying, author);
+        apply.run();
+        return seq;
+    }
+
+    public synchronized long appendDelete(int id, Runnable apply) {
+        long seq = appendDelete(id);
+        apply.run();
+        return seq;
+    }
+
+    // 묶어서 commit, 묶음이 차지 않았고 groupInterval 도 안 지났으면 그냥 돌아감
+    public void commitGrouped(long seq) {
+        synchronized (this) {
+            if (seq - durableSeq < groupSize && System.nanoTime() - lastSyncNanos < groupIntervalNanos) {
+                return;
+            }
+        }
+
+        commit(seq);
+    }
+
+    // seq 번째 레코드까지 디스크에 내려갈 때까지 기다림
+    public void commit(long seq) {
+        FileChannel syncChannel;
+        long syncSeq;
+
+        synchronized (this) {
+            // 다른 스레드가 fsync 중이면 끝나기를 기다림, 그 fsync 에 내 레코드가 포함되었을 수도 있음
+            while (syncing && durableSeq < seq) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("파일 동기화 중단: " + path, e);
+                }
+            }
+
+            if (durableSeq >= seq) {
+                return;
+            }
+
+            // 닫힌 뒤에는 내릴 수 없음, 조용히 돌아가면 내려가지 않은 레코드를 내려갔다고 믿게 됨
+            if (channel == null) {
+                throw new IllegalStateException("닫힌 WAL 은 commit 할 수 없음: " + path);
+            }
+
+            // 내가 대표로 fsync, 지금까지 쌓인 레코드를 모두 내림
+            syncing = true;
+            syncChannel = channel;
+            syncSeq = appendedSeq;
+        }
+
+        boolean synced = false;
+
+        try {
+            syncChannel.force(false);
+            synced = true;
+        } catch (IOException e) {
+            throw new RuntimeException("파일 동기화 실패: " + path, e);
+        } finally {
+            synchronized (this) {
+                syncing = false;
+
+                if (synced) {
+                    durableSeq = Math.max(durableSeq, syncSeq);
+                    syncCount++;
+                    lastSyncNanos = System.nanoTime();
+                }
+
+                notifyAll();
+            }
+        }
+    }
+
+    // 지금까지 추가한 레코드를 모두 디스크에 내림
+    public void commit() {
+        long seq;
+
+        synchronized (this) {
+            seq = appendedSeq;
+        }
+
+        commit(seq);
+    }
+
+    // 처음부터 끝까지 읽으면서 레코드를 하나씩 넘김
+    // 마지막 레코드가 덜 써진 채로 끝났으면 (길이 부족, CRC 불일치) 그 앞까지만 넘기고 뒷부분은 잘라냄
+    public synchronized int replay(Consumer<Entry> consumer) {
+        open();
+
+        int[] count = new int[1];
+
+        try {
+            WiseSayingRecordCodec.readAll(channel, record -> {
+                consumer.accept(new Entry(record.type(), record.id(), record.saying(), record.author()));
+                count[0]++;
+            });
+
+            channel.position(channel.size());
+        } catch (IOException e) {
+            throw new RuntimeException("파일 읽기 실패: " + path, e);
+        }
+
+        return count[0];
+    }
+
+    // 명언 파일이 모두 디스크에 내려간 다음 (checkpoint) 에 호출, 로그를 비움
+    public synchronized void reset() {
+        open();
+
+        try {
+            channel.truncate(0);
+            channel.force(true);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 쓰기 실패: " + path, e);
+        }
+
+        durableSeq = appendedSeq;
+    }
+
+    // checkpoint: 지금 끝 위치(LSN) 를 기억하고, syncFiles(명언 파일을 디스크에 내림) 를 한 다음, LSN 까지만 지움
+    // 잠금을 쥐고 있으므로 보통 LSN 뒤에는 아무것도 없지만, 있더라도 LSN 뒤의 레코드는 남김
+    public synchronized void checkpoint(Runnable syncFiles) {
+        open();
+
+        try {
+            long lsn = channel.size();
+            long seq = appendedSeq;
+
+            syncFiles.run();
+            truncateHead(lsn);
+
+            // LSN 까지의 레코드는 명언 파일로 디스크에 내려갔음
+            durableSeq = Math.max(durableSeq, seq);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 쓰기 실패: " + path, e);
+        }
+    }
+
+    public synchronized long size() {
+        open();
+
+        try {
+            return channel.size();
+        } catch (IOException e) {
+            throw new RuntimeException("파일 읽기 실패: " + path, e);
+        }
+    }
+
+    // 지금까지 실제로 한 fsync 횟수 (group commit 확인용)
+    public synchronized long getSyncCount() {
+        return syncCount;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new RuntimeException("파일 닫기 실패: " + path, e);
+        }
+
+        channel = null;
+    }
+
+    private long append(ByteBuffer record) {
+        open();
+
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("파일 쓰기 실패: " + path, e);
+        }
+
+        return ++appendedSeq;
+    }
+
+    // 파일 앞에서 lsn 까지를 지우고 그 뒤의 레코드를 앞으로 당김
+    private void truncateHead(long lsn) throws IOException {
+        long size = channel.size();
+
+        if (lsn < size) {
+            ByteBuffer tail = ByteBuffer.allocate((int) (size - lsn));
+
+            while (tail.hasRemaining()) {
+                if (channel.read(tail, lsn + tail.position()) < 0) {
+                    break;
+                }
+            }
+
+            tail.flip();
+
+            while (tail.hasRemaining()) {
+                channel.write(tail, tail.position());
+            }
+        }
+
+        channel.truncate(size - Math.min(lsn, size));
+        channel.position(channel.size());
+        channel.force(true);
+    }
+
+    private void open() {
+        if (channel != null && channel.isOpen() && Files.exists(path)) {
+            return;
+        }
+
+        close();
+
+        try {
+            Files.createDirectories(path.getParent());
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+        } catch (IOException e) {
+            throw new RuntimeException("파일 열기 실패: " + path, e);
+        }
+    }
+}
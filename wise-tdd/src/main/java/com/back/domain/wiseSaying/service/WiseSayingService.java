@@ -4,8 +4,14 @@ import com.back.AppContext;
 import com.back.PageDto;
 import com.back.domain.wiseSaying.entity.WiseSaying;
 import com.back.domain.wiseSaying.repository.WiseSayingRepository;
+import com.back.domain.wiseSaying.repository.WiseSayingSnapshotReader;
+import com.back.domain.wiseSaying.repository.WiseSayingSnapshotWriter;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public class WiseSayingService {
     // 비즈니스에 관련된 것만
@@ -57,4 +63,38 @@ public class WiseSayingService {
     public void build() {
         wiseSayingRepository.build();
     }
+
+    // 파일(data.json 모양)의 명언을 chunkSize 개씩 묶어서 새 명언으로 저장, 저장한 개수를 돌려줌
+    // 파일 전체를 메모리에 올리지 않고 1개씩 읽음
+    public long importFrom(Path path, int chunkSize) {
+        long count = 0;
+        List<WiseSaying> chunk = new ArrayList<>(chunkSize);
+
+        try (WiseSayingSnapshotReader reader = WiseSayingSnapshotReader.open(path)) {
+            while (reader.hasNext()) {
+                WiseSaying read = reader.next();
+                chunk.add(new WiseSaying(read.getSaying(), read.getAuthor()));
+
+                if (chunk.size() == chunkSize) {
+                    count += wiseSayingRepository.saveAll(chunk).size();
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            count += wiseSayingRepository.saveAll(chunk).size();
+        }
+
+        return count;
+    }
+
+    // 모든 명언을 1개씩 꺼내서 파일(data.json 모양)에 씀, 쓴 개수를 돌려줌
+    public long exportTo(Path path) {
+        try (WiseSayingSnapshotWriter writer = new WiseSayingSnapshotWriter(path);
+             Stream<WiseSaying> wiseSayings = wiseSayingRepository.streamAll()) {
+            wiseSayings.forEach(writer::write);
+            return writer.getCount();
+        }
+    }
 }
@@ -0,0 +1,310 @@
+package com.back.standard.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// JSON 문자열을 앞에서부터 한 번만 훑으면서 값으로 바꾸는 reader
+// split, 정규식을 쓰지 않으므로 값 안에 쉼표, 따옴표, 줄바꿈이 있어도 되고 들여쓰기 모양과 상관없이 읽힘
+// - 객체 => LinkedHashMap (키 순서 유지), 배열 => ArrayList
+// - 정수 => Integer (int 범위를 넘으면 Long, long 범위도 넘으면 Double), 소수/지수 => Double
+//
+// 큰 배열은 하나씩 꺼낼 수 있음
+// reader.beginArray();
+// while (reader.hasNext()) { Map<String, Object> map = reader.readObject(); ... }
+// reader.endArray();
+public class JsonReader {
+    private final CharSequence in;
+    private int pos;
+
+    public JsonReader(CharSequence in) {
+        this.in = in;
+    }
+
+    // 값 1개를 읽고 뒤에 다른 내용이 없는지 확인
+    public static Object parse(CharSequence json) {
+        JsonReader reader = new JsonReader(json);
+        Object value = reader.readValue();
+        reader.end();
+        return value;
+    }
+
+    public Object readValue() {
+        skipWhitespace();
+
+        return switch (peek()) {
+            case '{' -> readObject();
+            case '[' -> readArray();
+            case '"' -> readString();
+            case 't' -> literal("true", Boolean.TRUE);
+            case 'f' -> literal("false", Boolean.FALSE);
+            case 'n' -> literal("null", null);
+            default -> readNumber();
+        };
+    }
+
+    public Map<String, Object> readObject() {
+        skipWhitespace();
+        expect('{');
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        skipWhitespace();
+
+        if (consumeIf('}')) {
+            return map;
+        }
+
+        do {
+            skipWhitespace();
+            String key = readString();
+            skipWhitespace();
+            expect(':');
+            map.put(key, readValue());
+            skipWhitespace();
+        } while (consumeIf(','));
+
+        expect('}');
+        return map;
+    }
+
+    public List<Object> readArray() {
+        List<Object> list = new ArrayList<>();
+
+        beginArray();
+        while (hasNext()) {
+            list.add(readValue());
+        }
+        endArray();
+
+        return list;
+    }
+
+    public void beginArray() {
+        skipWhitespace();
+        expect('[');
+        skipWhitespace();
+    }
+
+    // 배열에 다음 값이 있는지, 값 사이의 쉼표는 여기서 건너뜀
+    public boolean hasNext() {
+        skipWhitespace();
+
+        if (peek() == ']') {
+            return false;
+        }
+
+        if (consumeIf(',')) {
+            skipWhitespace();
+        }
+
+        return true;
+    }
+
+    public void endArray() {
+        skipWhitespace();
+        expect(']');
+    }
+
+    public void end() {
+        skipWhitespace();
+
+        if (pos < in.length()) {
+            throw error("값 뒤에 다른 내용이 있습니다.");
+        }
+    }
+
+    private String readString() {
+        expect('"');
+
+        int start = pos;
+
+        // 이스케이프가 없으면 잘라내기만 함
+        while (pos < in.length()) {
+            char c = in.charAt(pos);
+
+            if (c == '"') {
+                String value = in.subSequence(start, pos).toString();
+                pos++;
+                return value;
+            }
+
+            if (c == '\\') {
+                break;
+            }
+
+            pos++;
+        }
+
+        StringBuilder sb = new StringBuilder(pos - start + 16);
+        sb.append(in, start, pos);
+
+        while (true) {
+            char c = next();
+
+            if (c == '"') {
+                return sb.toString();
+            }
+
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+
+            char escaped = next();
+
+            if (escaped == 'u') {
+                sb.append(readHex4());
+                continue;
+            }
+
+            int unescaped = unescape(escaped);
+
+            if (unescaped < 0) {
+                throw error("알 수 없는 이스케이프: \\" + escaped);
+            }
+
+            sb.append((char) unescaped);
+        }
+    }
+
+    // 역슬래시 다음 글자 1개로 끝나는 이스케이프를 원래 글자로, JSON 에 없는 이스케이프면 -1
+    // 유니코드 이스케이프(역슬래시 u)는 16진수 4자리를 더 읽어야 하므로 여기서 처리하지 않음 (-1)
+    // 바이트 단위로 읽는 WiseSayingSnapshotReader 도 같은 규칙을 쓰도록 공개
+    public static int unescape(int escaped) {
+        return switch (escaped) {
+            case '"', '\\', '/' -> escaped;
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 't' -> '\t';
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            default -> -1;
+        };
+    }
+
+    private char readHex4() {
+        int value = 0;
+
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(next(), 16);
+
+            if (digit < 0) {
+                throw error("16진수 4자리가 필요합니다.");
+            }
+
+            value = value * 16 + digit;
+        }
+
+        return (char) value;
+    }
+
+    private Object readNumber() {
+        int start = pos;
+        boolean negative = consumeIf('-');
+        long value = 0;
+        int digits = 0;
+
+        while (pos < in.length() && isDigit(in.charAt(pos))) {
+            value = value * 10 + (in.charAt(pos) - '0');
+            digits++;
+            pos++;
+        }
+
+        if (digits == 0) {
+            throw error("값이 필요합니다.");
+        }
+
+        boolean decimal = false;
+
+        while (pos < in.length() && isNumberPart(in.charAt(pos))) {
+            decimal = true;
+            pos++;
+        }
+
+        // 19자리 이상은 long 범위를 넘을 수 있으므로 직접 계산하지 않음
+        if (!decimal && digits > 18) {
+            try {
+                return Long.parseLong(in.subSequence(start, pos).toString());
+            } catch (NumberFormatException e) {
+                decimal = true; // long 범위도 넘으면 Double
+            }
+        }
+
+        // 소수, 지수
+        if (decimal) {
+            try {
+                return Double.parseDouble(in.subSequence(start, pos).toString());
+            } catch (NumberFormatException e) {
+                throw error("잘못된 숫자입니다.");
+            }
+        }
+
+        value = negative ? -value : value;
+
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return (int) value;
+        }
+
+        return value;
+    }
+
+    private Object literal(String word, Object value) {
+        for (int i = 0; i < word.length(); i++) {
+            if (next() != word.charAt(i)) {
+                throw error("잘못된 값입니다.");
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isNumberPart(char c) {
+        return isDigit(c) || c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-';
+    }
+
+    private void skipWhitespace() {
+        while (pos < in.length()) {
+            char c = in.charAt(pos);
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') return;
+            pos++;
+        }
+    }
+
+    private boolean consumeIf(char c) {
+        if (peek() == c) {
+            pos++;
+            return true;
+        }
+
+        return false;
+    }
+
+    private void expect(char c) {
+        if (next() != c) {
+            pos--;
+            throw error("'" + c + "' 가 필요합니다.");
+        }
+    }
+
+    // 끝이면 0
+    private char peek() {
+        return pos < in.length() ? in.charAt(pos) : 0;
+    }
+
+    private char next() {
+        if (pos >= in.length()) {
+            throw error("JSON 이 중간에 끝났습니다.");
+        }
+
+        return in.charAt(pos++);
+    }
+
+    private RuntimeException error(String message) {
+        return new RuntimeException("JSON 형식 오류 (위치 %d): %s".formatted(pos, message));
+    }
+}
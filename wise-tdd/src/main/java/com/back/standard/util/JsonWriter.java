@@ -0,0 +1,215 @@
+package com.back.standard.util;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+// JSON 을 Appendable(StringBuilder, Writer 등)에 바로 이어 쓰는 writer
+// 중간 문자열을 만들지 않고 한 번에 씀, 들여쓰기 모양은 기존 Util.json.toString 과 같음
+//
+// {
+//     "id": 1,
+//     "saying": "..."
+// }
+//
+// writer.beginArray();
+// writer.value(map1);      // Map, List, String, 숫자, true/false, null
+// writer.value(map2);
+// writer.endArray();
+public class JsonWriter {
+    private static final String INDENT = "    ";
+
+    private final Appendable out;
+    // 깊이별로 첫 번째 항목인지 (첫 항목 앞에는 쉼표를 쓰지 않음)
+    private boolean[] first = new boolean[8];
+    private int depth;
+    // name() 다음의 값은 같은 줄에 씀
+    private boolean afterName;
+
+    public JsonWriter(Appendable out) {
+        this.out = out;
+    }
+
+    public JsonWriter beginObject() {
+        return begin('{');
+    }
+
+    public JsonWriter endObject() {
+        return end('}');
+    }
+
+    public JsonWriter beginArray() {
+        return begin('[');
+    }
+
+    public JsonWriter endArray() {
+        return end(']');
+    }
+
+    public JsonWriter name(String name) {
+        nextItem();
+        string(name);
+        append(": ");
+        afterName = true;
+        return this;
+    }
+
+    public JsonWriter value(long value) {
+        beforeValue();
+
+        if (out instanceof StringBuilder sb) {
+            sb.append(value);
+        } else {
+            append(Long.toString(value));
+        }
+
+        return this;
+    }
+
+    public JsonWriter value(String value) {
+        beforeValue();
+
+        if (value == null) {
+            append("null");
+        } else {
+            string(value);
+        }
+
+        return this;
+    }
+
+    public JsonWriter value(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            beginObject();
+            map.forEach((key, v) -> name(String.valueOf(key)).value(v));
+            return endObject();
+        }
+
+        if (value instanceof Iterable<?> iterable) {
+            beginArray();
+            iterable.forEach(this::value);
+            return endArray();
+        }
+
+        beforeValue();
+
+        if (value == null) {
+            append("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            append(value.toString());
+        } else {
+            string(value.toString());
+        }
+
+        return this;
+    }
+
+    private JsonWriter begin(char bracket) {
+        beforeValue();
+        append(bracket);
+        append('\n');
+
+        depth++;
+        if (depth == first.length) first = Arrays.copyOf(first, depth * 2);
+        first[depth] = true;
+        return this;
+    }
+
+    private JsonWriter end(char bracket) {
+        append('\n');
+        depth--;
+        indent();
+        append(bracket);
+        return this;
+    }
+
+    private void beforeValue() {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+
+        if (depth > 0) {
+            nextItem();
+        }
+    }
+
+    private void nextItem() {
+        if (!first[depth]) {
+            append(",\n");
+        }
+
+        first[depth] = false;
+        indent();
+    }
+
+    private void indent() {
+        for (int i = 0; i < depth; i++) {
+            append(INDENT);
+        }
+    }
+
+    // 따옴표, 역슬래시, 제어 문자는 이스케이프, 이스케이프할 게 없는 구간은 한 번에 씀
+    private void string(String value) {
+        append('"');
+
+        int start = 0;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String escaped = escape(c);
+
+            if (escaped == null) {
+                continue;
+            }
+
+            append(value, start, i);
+            append(escaped);
+            start = i + 1;
+        }
+
+        append(value, start, value.length());
+        append('"');
+    }
+
+    private static String escape(char c) {
+        if (c >= 0x20 && c != '"' && c != '\\') {
+            return null;
+        }
+
+        return switch (c) {
+            case '"' -> "\\\"";
+            case '\\' -> "\\\\";
+            case '\n' -> "\\n";
+            case '\r' -> "\\r";
+            case '\t' -> "\\t";
+            case '\b' -> "\\b";
+            case '\f' -> "\\f";
+            default -> "\\u00" + Character.forDigit(c >> 4, 16) + Character.forDigit(c & 0xF, 16);
+        };
+    }
+
+    private void append(char c) {
+        try {
+            out.append(c);
+        } catch (IOException e) {
+            throw new RuntimeException("JSON 쓰기 실패", e);
+        }
+    }
+
+    private void append(CharSequence s) {
+        append(s, 0, s.length());
+    }
+
+    private void append(CharSequence s, int start, int end) {
+        if (start == end) {
+            return;
+        }
+
+        try {
+            out.append(s, start, end);
+        } catch (IOException e) {
+            throw new RuntimeException("JSON 쓰기 실패", e);
+        }
+    }
+}
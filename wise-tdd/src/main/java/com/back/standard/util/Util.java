@@ -2,9 +2,10 @@ package com.back.standard.util;
 // 파일 관련된 것들을 다룰 예정
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -30,10 +31,36 @@ public class Util {
             }
         }
 
+        // 임시 파일에 다 쓴 다음 이름을 바꿈 => 쓰는 도중에 종료되어도 원래 파일은 이전 내용 그대로 남음
+        // (바로 덮어쓰면 반쯤 쓴 파일이 남아서 다음에 읽을 때 json 파싱이 깨짐)
         private static void writeFile(Path path, String content) throws IOException {
-            Files.writeString(path, content,
-                    StandardOpenOption.CREATE,
-                    StandardOpenOption.TRUNCATE_EXISTING);
+            Path tempPath = path.resolveSibling(path.getFileName() + "." + Thread.currentThread().threadId() + ".tmp");
+
+            try {
+                Files.writeString(tempPath, content,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.deleteIfExists(tempPath);
+                throw e;
+            }
+        }
+
+        // 쓴 내용을 디스크에 내림 (없는 파일이면 무시)
+        // 디렉토리를 넘기면 그 안에서 일어난 이름 바꾸기, 삭제를 내림 (디렉토리를 열 수 없는 OS 에서는 무시)
+        public static void sync(String filePath) {
+            Path path = getPath(filePath);
+
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                channel.force(true);
+            } catch (NoSuchFileException e) {
+                // 이미 삭제됨
+            } catch (IOException e) {
+                if (!Files.isDirectory(path)) {
+                    throw new RuntimeException("파일 동기화 실패: " + path, e);
+                }
+            }
         }
 
         private static void handleFileWriteError(Path path, String content, IOException e) {
@@ -124,92 +151,39 @@ public class Util {
         }
     }
 
+    // JsonWriter, JsonReader 로 한 번에 쓰고 읽음
     public static class json {
         public static String toString(List<Map<String, Object>> mapList) {
             StringBuilder sb = new StringBuilder();
-
-            sb.append("[");
-            sb.append("\n");
-
-            String indent = "    ";
-
-            mapList.forEach(map -> {
-                sb.append(indent);
-                sb.append(toString(map).replaceAll("\n", "\n" + indent));
-                sb.append(",\n");
-            });
-
-            if (!mapList.isEmpty()) {
-                sb.delete(sb.length() - 2, sb.length());
-            }
-
-            sb.append("\n");
-            sb.append("]");
-
+            new JsonWriter(sb).value(mapList);
             return sb.toString();
         }
 
         public static String toString(Map<String, Object> map) {
             StringBuilder sb = new StringBuilder();
-
-            sb.append("{");
-            sb.append("\n");
-
-            map.forEach((key, value) -> {
-                sb.append("    ");
-                key = "\"" + key + "\"";
-
-                if (value instanceof String) {
-                    value = "\"" + value + "\"";
-                }
-
-                sb.append("%s: %s,\n".formatted(key, value));
-            });
-
-            if (!map.isEmpty()) {
-                sb.delete(sb.length() - 2, sb.length());
-            }
-
-            sb.append("\n");
-            sb.append("}");
-
+            new JsonWriter(sb).value(map);
             return sb.toString();
         }
 
         public static Map<String, Object> toMap(String jsonStr) {
-            Map<String, Object> map = new LinkedHashMap<>();
-
-            jsonStr = jsonStr.substring(1, jsonStr.length() - 1);
-
-            String[] jsonStrBits = jsonStr.split(",\n    \"");
-
-            for (String jsonStrBit : jsonStrBits) {
-                jsonStrBit = jsonStrBit.trim();
-
-                if (jsonStrBit.endsWith(",")) jsonStrBit = jsonStrBit.substring(0, jsonStrBit.length() - 1);
-
-                String[] jsonField = jsonStrBit.split("\": ");
-
-                String key = jsonField[0];
-                if (key.startsWith("\"")) key = key.substring(1);
-
-                boolean valueIsString = jsonField[1].startsWith("\"") && jsonField[1].endsWith("\"");
-                String value = jsonField[1];
+            JsonReader reader = new JsonReader(jsonStr);
+            Map<String, Object> map = reader.readObject();
+            reader.end();
+            return map;
+        }
 
-                if (valueIsString) value = value.substring(1, value.length() - 1);
+        public static List<Map<String, Object>> toList(String jsonStr) {
+            JsonReader reader = new JsonReader(jsonStr);
+            List<Map<String, Object>> mapList = new ArrayList<>();
 
-                if (valueIsString) {
-                    map.put(key, value);
-                } else if (value.equals("true") || value.equals("false")) {
-                    map.put(key, value.equals("true"));
-                } else if (value.contains(".")) {
-                    map.put(key, Double.parseDouble(value));
-                } else {
-                    map.put(key, Integer.parseInt(value));
-                }
+            reader.beginArray();
+            while (reader.hasNext()) {
+                mapList.add(reader.readObject());
             }
+            reader.endArray();
+            reader.end();
 
-            return map;
+            return mapList;
         }
     }
 }
@@ -1,7 +1,18 @@
 package com.back.system;
 
+import com.back.AppContext;
+import com.back.domain.wiseSaying.repository.WiseSayingRepository;
+
 public class SystemController {
+    private WiseSayingRepository wiseSayingRepository;
+
+    public SystemController() {
+        this.wiseSayingRepository = AppContext.wiseSayingRepository;
+    }
+
     public void actionExit() {
+        // 묶어서 내리던 WAL 등 아직 디스크에 내리지 않은 내용을 내림
+        wiseSayingRepository.close();
         System.out.println("프로그램을 종료합니다.");
     }
 }
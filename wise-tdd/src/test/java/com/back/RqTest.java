@@ -0,0 +1,59 @@
+package com.back;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RqTest {
+    @Test
+    @DisplayName("액션 이름, 파라미터")
+    void t1() {
+        Rq rq = new Rq("목록?keywordType=content&keyword=꿈&page=2");
+
+        assertThat(rq.getActionName()).isEqualTo("목록");
+        assertThat(rq.getParam("keywordType", "")).isEqualTo("content");
+        assertThat(rq.getParam("keyword", "")).isEqualTo("꿈");
+        assertThat(rq.getParamAsInt("page", 1)).isEqualTo(2);
+        assertThat(rq.getParamAsInt("pageSize", 5)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("파라미터가 없거나 비어 있거나 숫자가 아니면 기본값")
+    void t2() {
+        assertThat(new Rq("목록").getParams()).isEmpty();
+        assertThat(new Rq("목록?").getParams()).isEmpty();
+
+        Rq rq = new Rq("삭제?id=&=1&page&size=abc&&");
+
+        assertThat(rq.getActionName()).isEqualTo("삭제");
+        assertThat(rq.getParams()).containsOnlyKeys("size");
+        assertThat(rq.getParamAsInt("id", -1)).isEqualTo(-1);
+        assertThat(rq.getParamAsInt("size", -1)).isEqualTo(-1);
+        assertThat(rq.getParamAsLong("size", -1L)).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("URL 디코딩, 잘못 인코딩된 값은 그대로")
+    void t3() {
+        Rq rq = new Rq("목록?keyword=%EA%BF%88%EC%9D%84+%EC%A7%80%EB%85%80%EB%9D%BC&q=a%26b%3Dc&bad=100%&big=3000000000&flag=true");
+
+        assertThat(rq.getParam("keyword", "")).isEqualTo("꿈을 지녀라");
+        assertThat(rq.getParam("q", "")).isEqualTo("a&b=c");
+        assertThat(rq.getParam("bad", "")).isEqualTo("100%");
+        assertThat(rq.getParamAsLong("big", 0)).isEqualTo(3_000_000_000L);
+        assertThat(rq.getParamAsBoolean("flag", false)).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 키는 마지막 값, 파라미터 Map 은 바꿀 수 없음")
+    void t4() {
+        Rq rq = new Rq("목록?page=1&page=3&keyword=a=b");
+
+        assertThat(rq.getParamAsInt("page", 1)).isEqualTo(3);
+        assertThat(rq.getParam("keyword", "")).isEqualTo("a=b");
+        assertThatThrownBy(() -> rq.getParams().put("page", "4"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
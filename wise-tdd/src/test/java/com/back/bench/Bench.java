@@ -0,0 +1,89 @@
+package com.back.bench;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+// 간단한 마이크로 벤치마크 도구 (main 으로 실행하는 벤치마크에서 사용)
+// - warmup 동안 충분히 돌려서 JIT 컴파일이 끝난 뒤에 측정
+// - 측정은 여러 라운드로 나눠서 중간값(ops/s)을 사용
+// - 스레드가 할당한 바이트 수로 1회당 할당량도 같이 보여줌
+// 시간은 -Dbench.warmup=초, -Dbench.time=초, -Dbench.rounds=횟수 로 조정
+// gradle benchmark -Pbench=JsonBenchmark 처럼 실행하면 -Pbench.* 값이 그대로 전달됨
+public class Bench {
+    // 결과를 어딘가에 써야 JIT 이 계산 자체를 없애지 않음
+    public static volatile Object sink;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public record Result(String name, double opsPerSecond, double nanosPerOp, double bytesPerOp) {
+        @Override
+        public String toString() {
+            return "%-40s %14.1f ops/s %12.1f ns/op %12.1f B/op".formatted(name, opsPerSecond, nanosPerOp, bytesPerOp);
+        }
+    }
+
+    public static Result run(String name, Supplier<?> op) {
+        double warmupSeconds = doubleProperty("bench.warmup", 2);
+        double roundSeconds = doubleProperty("bench.time", 1);
+        int rounds = (int) doubleProperty("bench.rounds", 5);
+
+        runFor(op, warmupSeconds);
+
+        double[] opsPerSecond = new double[rounds];
+        long totalOps = 0;
+        long totalBytes = 0;
+
+        for (int i = 0; i < rounds; i++) {
+            long bytesBefore = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+            long startedAt = System.nanoTime();
+            long ops = runFor(op, roundSeconds);
+            long elapsed = System.nanoTime() - startedAt;
+
+            totalBytes += THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - bytesBefore;
+            totalOps += ops;
+            opsPerSecond[i] = ops * 1e9 / elapsed;
+        }
+
+        Arrays.sort(opsPerSecond);
+        double median = opsPerSecond[rounds / 2];
+
+        Result result = new Result(name, median, 1e9 / median, (double) totalBytes / totalOps);
+        System.out.println(result);
+        return result;
+    }
+
+    public static void header(String title) {
+        System.out.println();
+        System.out.println("== " + title + " ==");
+    }
+
+    // 시간을 자주 재지 않도록 묶음 단위로 실행
+    private static long runFor(Supplier<?> op, double seconds) {
+        long deadline = System.nanoTime() + (long) (seconds * 1e9);
+        long ops = 0;
+        int batch = 1;
+
+        while (System.nanoTime() < deadline) {
+            for (int i = 0; i < batch; i++) {
+                sink = op.get();
+            }
+
+            ops += batch;
+            if (batch < 1024) batch *= 2;
+        }
+
+        return ops;
+    }
+
+    public static double doubleProperty(String key, double defaultValue) {
+        String value = System.getProperty(key);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    public static int intProperty(String key, int defaultValue) {
+        String value = System.getProperty(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+}
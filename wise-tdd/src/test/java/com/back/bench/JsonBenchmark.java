@@ -0,0 +1,42 @@
+package com.back.bench;
+
+import com.back.domain.wiseSaying.entity.WiseSaying;
+import com.back.standard.util.Util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 기존 Util.json(LegacyJson) 과 JsonWriter/JsonReader 기반 Util.json 비교
+// gradle benchmark -Pbench=JsonBenchmark
+public class JsonBenchmark {
+    public static void main(String[] args) {
+        int listSize = Bench.intProperty("bench.listSize", 1000);
+
+        Map<String, Object> map = wiseSaying(1).toMap();
+        String mapJson = Util.json.toString(map);
+
+        List<Map<String, Object>> mapList = new ArrayList<>();
+        for (int i = 1; i <= listSize; i++) {
+            mapList.add(wiseSaying(i).toMap());
+        }
+
+        Bench.header("명언 1개 Map => Json");
+        Bench.run("legacy toString(Map)", () -> LegacyJson.toString(map));
+        Bench.run("JsonWriter toString(Map)", () -> Util.json.toString(map));
+
+        Bench.header("Json => 명언 1개 Map");
+        Bench.run("legacy toMap", () -> LegacyJson.toMap(mapJson));
+        Bench.run("JsonReader toMap", () -> Util.json.toMap(mapJson));
+
+        Bench.header("명언 %d개 목록 => Json".formatted(listSize));
+        Bench.run("legacy toString(List)", () -> LegacyJson.toString(mapList));
+        Bench.run("JsonWriter toString(List)", () -> Util.json.toString(mapList));
+    }
+
+    private static WiseSaying wiseSaying(int id) {
+        WiseSaying wiseSaying = new WiseSaying("꿈을 지녀라. 그러면 어려운 현실을 이길 수 있다. " + id, "괴테");
+        wiseSaying.setId(id);
+        return wiseSaying;
+    }
+}
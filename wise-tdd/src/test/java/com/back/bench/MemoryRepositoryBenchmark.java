@@ -0,0 +1,68 @@
+package com.back.bench;
+
+import com.back.domain.wiseSaying.entity.WiseSaying;
+import com.back.domain.wiseSaying.repository.WiseSayingMemoryRepository;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// 기존 ArrayList 메모리 저장소(LegacyMemoryRepository) 와 WiseSayingTable 기반 WiseSayingMemoryRepository 비교
+// 명언 100만 개 (-Pbench.records 로 조정)
+// gradle benchmark -Pbench=MemoryRepositoryBenchmark
+public class MemoryRepositoryBenchmark {
+    public static void main(String[] args) {
+        int records = Bench.intProperty("bench.records", 1_000_000);
+        int pageSize = 5;
+        int lastPage = (records + pageSize - 1) / pageSize;
+
+        LegacyMemoryRepository legacy = new LegacyMemoryRepository();
+        WiseSayingMemoryRepository repository = new WiseSayingMemoryRepository();
+
+        for (int i = 1; i <= records; i++) {
+            legacy.save(new WiseSaying("명언 " + i, "작가 " + (i % 1000)));
+            repository.save(new WiseSaying("명언 " + i, "작가 " + (i % 1000)));
+        }
+
+        // 중간중간 삭제된 상태에서 측정
+        for (int id = 7; id <= records; id += 7) {
+            WiseSaying deleted = new WiseSaying("", "");
+            deleted.setId(id);
+            legacy.delete(deleted);
+            repository.delete(deleted);
+        }
+
+        Bench.header("명언 %d개 findById (임의의 id)".formatted(records));
+        Bench.run("legacy findById", () -> legacy.findById(randomId(records)));
+        Bench.run("table findById", () -> repository.findById(randomId(records)));
+
+        Bench.header("명언 %d개 목록 1페이지".formatted(records));
+        Bench.run("legacy list page 1", () -> legacy.findByContentContainingOrAuthorContainingDesc("", pageSize, 1));
+        Bench.run("table list page 1", () -> repository.findByContentContainingOrAuthorContainingDesc("", pageSize, 1));
+
+        Bench.header("명언 %d개 목록 임의의 페이지".formatted(records));
+        Bench.run("legacy list random page", () -> legacy.findByContentContainingOrAuthorContainingDesc(
+                "", pageSize, 1 + ThreadLocalRandom.current().nextInt(lastPage)));
+        Bench.run("table list random page", () -> repository.findByContentContainingOrAuthorContainingDesc(
+                "", pageSize, 1 + ThreadLocalRandom.current().nextInt(lastPage)));
+
+        // 삭제한 만큼 새로 등록해서 개수를 유지
+        Bench.header("명언 %d개 임의의 id 삭제 + 다시 등록".formatted(records));
+        Bench.run("legacy delete", () -> deleteAndRestore(legacy, randomId(records)));
+        Bench.run("table delete", () -> deleteAndRestore(repository, randomId(records)));
+    }
+
+    private static int randomId(int records) {
+        return 1 + ThreadLocalRandom.current().nextInt(records);
+    }
+
+    private static boolean deleteAndRestore(LegacyMemoryRepository legacy, int id) {
+        return legacy.findById(id)
+                .map(wiseSaying -> legacy.delete(wiseSaying) && legacy.save(new WiseSaying("명언", "작가")) != null)
+                .orElse(false);
+    }
+
+    private static boolean deleteAndRestore(WiseSayingMemoryRepository repository, int id) {
+        return repository.findById(id)
+                .map(wiseSaying -> repository.delete(wiseSaying) && repository.save(new WiseSaying("명언", "작가")) != null)
+                .orElse(false);
+    }
+}
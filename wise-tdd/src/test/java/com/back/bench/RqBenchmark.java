@@ -0,0 +1,70 @@
+package com.back.bench;
+
+import com.back.App;
+import com.back.AppContext;
+import com.back.Rq;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Scanner;
+
+// 기존 Rq(LegacyRq) 와 한 번만 잘라 두는 Rq 비교, 그리고 명령 100만 개(-Pbench.commands)를 App.run 으로 실행
+// gradle benchmark -Pbench=RqBenchmark
+public class RqBenchmark {
+    private static final String[] COMMANDS = {
+            "목록?keywordType=content&keyword=명언&page=2&pageSize=5",
+            "목록?keyword=%EB%AA%85%EC%96%B8&page=3",
+            "목록",
+            "삭제?id=1000000",
+    };
+
+    public static void main(String[] args) {
+        int commands = Bench.intProperty("bench.commands", 1_000_000);
+        String listCommand = COMMANDS[0];
+
+        // actionList 처럼 파라미터 4개를 꺼냄
+        Bench.header("목록 명령 1개 해석 + 파라미터 4개 조회");
+        Bench.run("legacy Rq", () -> {
+            LegacyRq rq = new LegacyRq(listCommand);
+            return rq.getActionName().length() + rq.getParam("keywordType", "").length() + rq.getParam("keyword", "").length()
+                    + rq.getParamAsInt("pageSize", 5) + rq.getParamAsInt("page", 1);
+        });
+        Bench.run("Rq", () -> {
+            Rq rq = new Rq(listCommand);
+            return rq.getActionName().length() + rq.getParam("keywordType", "").length() + rq.getParam("keyword", "").length()
+                    + rq.getParamAsInt("pageSize", 5) + rq.getParamAsInt("page", 1);
+        });
+
+        Bench.header("명령 %d개를 App.run 으로 실행 (메모리 저장소, 출력은 버림)".formatted(commands));
+        replay(commands);
+    }
+
+    private static void replay(int commands) {
+        StringBuilder script = new StringBuilder();
+
+        for (int i = 1; i <= 20; i++) {
+            script.append("등록\n명언 ").append(i).append("\n작가 ").append(i).append('\n');
+        }
+
+        for (int i = 0; i < commands; i++) {
+            script.append(COMMANDS[i % COMMANDS.length]).append('\n');
+        }
+
+        script.append("종료\n");
+
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        long startedAt = System.nanoTime();
+
+        try {
+            AppContext.init(new Scanner(script.toString()), false);
+            new App().run();
+        } finally {
+            System.setOut(out);
+        }
+
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        System.out.printf("%-40s %14.1f cmd/s %12.1f ns/cmd%n", "App.run", commands / seconds, seconds * 1e9 / commands);
+    }
+}
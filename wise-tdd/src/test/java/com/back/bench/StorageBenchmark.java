@@ -0,0 +1,145 @@
+package com.back.bench;
+
+import com.back.AppConfig;
+import com.back.AppContext;
+import com.back.domain.wiseSaying.repository.WiseSayingFileRepository;
+import com.back.domain.wiseSaying.repository.WiseSayingJdbcRepository;
+import com.back.domain.wiseSaying.repository.WiseSayingLogRepository;
+import com.back.domain.wiseSaying.repository.WiseSayingRepositories;
+import com.back.domain.wiseSaying.repository.WiseSayingRepository;
+import com.back.domain.wiseSaying.service.WiseSayingService;
+import com.back.standard.util.Util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+// 저장소마다 같은 WiseSayingService 작업을 돌려서 비교 (저장소 고르기 참고용)
+// 1. 등록 records 개
+// 2. 검색어 목록 (content, author, 둘 다 번갈아)
+// 3. 검색어 없이 임의의 페이지
+// 4. records / 10 개 삭제
+// 단계마다 횟수를 정해 두고 걸린 시간으로 ops/s 를 구함 (등록, 삭제는 데이터가 바뀌어서 Bench.run 처럼 시간으로 반복하지 않음)
+// 마지막에 저장소를 닫고 bench/db/wiseSaying 디렉토리 크기를 잼
+// gradle benchmark -Pbench=StorageBenchmark -Pbench.records=10000 -Pbench.queries=1000 -Pbench.storages=memory,jdbc
+public class StorageBenchmark {
+    private static final int PAGE_SIZE = 5;
+
+    private record Row(String storage, double writeOps, double keywordOps, double pageOps, double deleteOps, long diskBytes) {
+        @Override
+        public String toString() {
+            return "%-12s %12.1f %12.1f %12.1f %12.1f %12s".formatted(
+                    storage, writeOps, keywordOps, pageOps, deleteOps, formatBytes(diskBytes));
+        }
+    }
+
+    public static void main(String[] args) {
+        // 파일 저장소는 클래스를 처음 쓸 때 경로를 정하므로 가장 먼저 바꿈
+        AppConfig.mode = "bench";
+
+        int records = Bench.intProperty("bench.records", 10_000);
+        int queries = Bench.intProperty("bench.queries", 1_000);
+        String storages = System.getProperty("bench.storages", String.join(",", WiseSayingRepositories.getNames()));
+
+        List<Row> rows = new ArrayList<>();
+
+        for (String storage : storages.split(",")) {
+            rows.add(run(storage.trim(), records, queries));
+        }
+
+        Bench.header("저장소별 WiseSayingService 처리량 (명언 %d개, 조회 %d번)".formatted(records, queries));
+        System.out.println("%-12s %12s %12s %12s %12s %12s".formatted(
+                "storage", "write/s", "keyword/s", "page/s", "delete/s", "disk"));
+        rows.forEach(System.out::println);
+
+        Util.file.delete(AppConfig.getMode());
+    }
+
+    private static Row run(String storage, int records, int queries) {
+        Util.file.delete(AppConfig.getMode());
+        AppContext.init(new Scanner(""), storage);
+
+        WiseSayingRepository repository = AppContext.wiseSayingRepository;
+        WiseSayingService service = AppContext.wiseSayingService;
+        int lastPage = (records + PAGE_SIZE - 1) / PAGE_SIZE;
+
+        double writeOps = measure(records, i -> service.write("명언 " + i + " 꿈을 지녀라", "작가 " + (i % 100)));
+
+        String[] kwdTypes = {"content", "author", "all"};
+        double keywordOps = measure(queries, i -> service.findListDesc(
+                String.valueOf(ThreadLocalRandom.current().nextInt(100)), kwdTypes[i % kwdTypes.length], PAGE_SIZE, 1));
+
+        double pageOps = measure(queries, i -> service.findListDesc(
+                "", "all", PAGE_SIZE, 1 + ThreadLocalRandom.current().nextInt(lastPage)));
+
+        double deleteOps = measure(records / 10, i -> service.delete(1 + i * 10));
+
+        close(repository);
+        long diskBytes = directorySize(Path.of(AppConfig.getMode()));
+
+        System.out.println("%s 끝".formatted(storage));
+
+        return new Row(storage, writeOps, keywordOps, pageOps, deleteOps, diskBytes);
+    }
+
+    // count 번 실행하고 초당 횟수를 돌려줌
+    private static double measure(int count, IntFunction<?> op) {
+        long startedAt = System.nanoTime();
+
+        for (int i = 0; i < count; i++) {
+            Bench.sink = op.apply(i);
+        }
+
+        long elapsed = System.nanoTime() - startedAt;
+
+        return count * 1e9 / elapsed;
+    }
+
+    // 닫을 때 남은 내용을 디스크에 내리는 저장소는 닫은 뒤에 크기를 재야 정확함
+    private static void close(WiseSayingRepository repository) {
+        if (repository instanceof WiseSayingFileRepository fileRepository) {
+            fileRepository.close();
+        } else if (repository instanceof WiseSayingLogRepository logRepository) {
+            logRepository.close();
+        } else if (repository instanceof WiseSayingJdbcRepository jdbcRepository) {
+            jdbcRepository.close();
+        }
+    }
+
+    private static long directorySize(Path dir) {
+        if (Files.notExists(dir)) {
+            return 0;
+        }
+
+        try (Stream<Path> paths = Files.walk(dir)) {
+            return paths.filter(Files::isRegularFile).mapToLong(path -> {
+                try {
+                    return Files.size(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }).sum();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+
+        if (bytes < 1024 * 1024) {
+            return "%.1f KB".formatted(bytes / 1024.0);
+        }
+
+        return "%.1f MB".formatted(bytes / 1024.0 / 1024);
+    }
+}
@@ -3,6 +3,7 @@ package com.back.domain.wiseSaying.controller;
 import com.back.AppConfig;
 import com.back.AppContext;
 import com.back.AppTestRunner;
+import com.back.standard.util.Util;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -367,4 +368,91 @@ public class WiseSayingControllerTest {
         assertThat(out)
                 .contains("data.json 파일의 내용이 갱신되었습니다.");
     }
+
+    @Test
+    @DisplayName("내보내기, 가져오기")
+    void t17() {
+        String exportOut = AppTestRunner.run("""
+                등록
+                현재를 사랑하라
+                작자미상
+                등록
+                과거에 집착하지 마라.
+                작자미상
+                내보내기?file=temp/export.json
+                """);
+
+        assertThat(exportOut)
+                .contains("2개의 명언을 temp/export.json 파일로 내보냈습니다.")
+                .contains("초당");
+
+        // 새로 시작한 앱에서 가져오기
+        String importOut = AppTestRunner.run("""
+                가져오기?file=temp/export.json&chunkSize=1
+                가져오기?file=temp/export.json
+                목록
+                """);
+
+        Util.file.delete("temp/export.json");
+
+        assertThat(importOut)
+                .contains("2개의 명언을 가져왔습니다.")
+                .contains("4 / 작자미상 / 과거에 집착하지 마라.")
+                .contains("3 / 작자미상 / 현재를 사랑하라")
+                .contains("2 / 작자미상 / 과거에 집착하지 마라.")
+                .contains("1 / 작자미상 / 현재를 사랑하라");
+    }
+
+    @Test
+    @DisplayName("가져오기 - 없는 파일")
+    void t18() {
+        String out = AppTestRunner.run("""
+                가져오기?file=temp/none.json
+                """);
+
+        assertThat(out).contains("temp/none.json 파일이 존재하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("가져오기 - 비었거나 깨진 파일이면 오류를 출력하고 앱은 계속 돌아감")
+    void t19() {
+        Util.file.set("temp/empty.json", "");
+        Util.file.set("temp/broken.json", "[{\"id\": 1, \"content\": \"꿈을");
+
+        String out = AppTestRunner.run("""
+                가져오기?file=temp/empty.json
+                가져오기?file=temp/broken.json
+                등록
+                현재를 사랑하라
+                작자미상
+                """);
+
+        Util.file.delete("temp/empty.json");
+        Util.file.delete("temp/broken.json");
+
+        assertThat(out)
+                .contains("temp/empty.json 파일을 가져오지 못했습니다.")
+                .contains("temp/broken.json 파일을 가져오지 못했습니다.")
+                .contains("1번 명언이 등록되었습니다.")
+                .contains("프로그램을 종료합니다.");
+    }
+
+    @Test
+    @DisplayName("가져오기 - chunkSize 가 아주 커도 상한까지만 잡음")
+    void t20() {
+        AppTestRunner.run("""
+                등록
+                현재를 사랑하라
+                작자미상
+                내보내기?file=temp/export.json
+                """);
+
+        String out = AppTestRunner.run("""
+                가져오기?file=temp/export.json&chunkSize=2000000000
+                """);
+
+        Util.file.delete("temp/export.json");
+
+        assertThat(out).contains("1개의 명언을 가져왔습니다.");
+    }
 }
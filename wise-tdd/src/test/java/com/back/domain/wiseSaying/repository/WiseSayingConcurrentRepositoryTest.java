@@ -0,0 +1,167 @@
+package com.back.domain.wiseSaying.repository;
+
+import com.back.PageDto;
+import com.back.domain.wiseSaying.entity.WiseSaying;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WiseSayingConcurrentRepositoryTest {
+    private static final int THREADS = 64;
+
+    @Test
+    @DisplayName("조회한 명언을 고쳐도 save 하기 전까지는 저장소에 반영되지 않음")
+    void t1() {
+        WiseSayingConcurrentRepository repository = new WiseSayingConcurrentRepository();
+        repository.save(new WiseSaying("꿈을 지녀라.", "괴테"));
+
+        WiseSaying wiseSaying = repository.findById(1).get();
+        wiseSaying.setSaying("너 자신을 알라.");
+
+        assertThat(repository.findById(1).get().getSaying()).isEqualTo("꿈을 지녀라.");
+
+        repository.save(wiseSaying);
+        assertThat(repository.findById(1).get().getSaying()).isEqualTo("너 자신을 알라.");
+
+        assertThat(repository.delete(wiseSaying)).isTrue();
+        assertThat(repository.delete(wiseSaying)).isFalse();
+
+        // 삭제된 명언을 수정해도 되살아나지 않음
+        repository.save(wiseSaying);
+        assertThat(repository.findById(1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("명언 다건 조회 - id 내림차순, 검색어 필터링")
+    void t2() {
+        WiseSayingConcurrentRepository repository = new WiseSayingConcurrentRepository();
+
+        for (int i = 1; i <= 12; i++) {
+            repository.save(new WiseSaying("명언 " + i, i % 2 == 0 ? "짝수" : "홀수"));
+        }
+
+        PageDto page = repository.findByContentContainingOrAuthorContainingDesc("", 5, 2);
+        assertThat(page.getTotalItems()).isEqualTo(12);
+        assertThat(page.getContent()).extracting(WiseSaying::getId).containsExactly(7, 6, 5, 4, 3);
+
+        PageDto evenPage = repository.findByAuthorContainingDesc("짝수", 5, 2);
+        assertThat(evenPage.getTotalItems()).isEqualTo(6);
+        assertThat(evenPage.getContent()).extracting(WiseSaying::getId).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("64개 스레드가 동시에 등록해도 id 가 겹치거나 빠지지 않음")
+    void t3() throws Exception {
+        WiseSayingConcurrentRepository repository = new WiseSayingConcurrentRepository();
+        int perThread = 2000;
+        Set<Integer> ids = ConcurrentHashMap.newKeySet();
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < perThread; i++) {
+                WiseSaying wiseSaying = repository.save(new WiseSaying("명언 " + thread + "-" + i, "작가 " + thread));
+                assertThat(ids.add(wiseSaying.getId())).isTrue();
+            }
+        });
+
+        int total = THREADS * perThread;
+        List<Integer> expectedIds = IntStream.rangeClosed(1, total).boxed().toList();
+
+        // 원소가 많아서 AssertJ 의 containsAll 대신 equals 로 비교
+        assertThat(ids.equals(Set.copyOf(expectedIds))).isTrue();
+        assertThat(repository.count()).isEqualTo(total);
+        assertThat(repository.findAll().stream().map(WiseSaying::getId).toList().equals(expectedIds)).isTrue();
+    }
+
+    @Test
+    @DisplayName("64개 스레드가 등록/수정/삭제/목록 조회를 섞어서 해도 개수가 맞고 삭제된 명언은 되살아나지 않음")
+    void t4() throws Exception {
+        WiseSayingConcurrentRepository repository = new WiseSayingConcurrentRepository();
+        int operations = 3000;
+        AtomicInteger saved = new AtomicInteger();
+        Set<Integer> deletedIds = ConcurrentHashMap.newKeySet();
+
+        runConcurrently(thread -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            for (int i = 0; i < operations; i++) {
+                int id = 1 + random.nextInt(saved.get() + 1);
+
+                switch (random.nextInt(4)) {
+                    case 0 -> {
+                        repository.save(new WiseSaying("명언 " + thread, "작가 " + thread));
+                        saved.incrementAndGet();
+                    }
+                    case 1 -> repository.findById(id).ifPresent(wiseSaying -> {
+                        wiseSaying.setSaying("수정된 명언 " + thread);
+                        wiseSaying.setAuthor("수정된 작가 " + thread);
+                        repository.save(wiseSaying);
+                    });
+                    case 2 -> repository.findById(id).ifPresent(wiseSaying -> {
+                        if (repository.delete(wiseSaying)) {
+                            assertThat(deletedIds.add(id)).isTrue();
+                        }
+                    });
+                    default -> {
+                        PageDto page = repository.findByContentContainingOrAuthorContainingDesc("", 10, 1 + random.nextInt(5));
+                        List<Integer> pageIds = page.getContent().stream().map(WiseSaying::getId).toList();
+                        assertThat(pageIds).isSortedAccordingTo((a, b) -> Integer.compare(b, a));
+
+                        // 읽는 도중에 수정되어도 명언과 작가는 항상 같은 저장에서 나온 것
+                        page.getContent().forEach(wiseSaying -> assertThat(wiseSaying.getAuthor().replace("작가", ""))
+                                .isEqualTo(wiseSaying.getSaying().replace("명언", "")));
+                    }
+                }
+            }
+        });
+
+        assertThat(repository.count()).isEqualTo(saved.get() - deletedIds.size());
+        assertThat(repository.findAll()).hasSize(saved.get() - deletedIds.size());
+        assertThat(repository.findByContentContainingOrAuthorContainingDesc("", 10, 1).getTotalItems())
+                .isEqualTo(saved.get() - deletedIds.size());
+        deletedIds.forEach(id -> assertThat(repository.findById(id)).isEmpty());
+    }
+
+    private interface Work {
+        void run(int thread) throws Exception;
+    }
+
+    // 모든 스레드가 준비된 다음 동시에 출발
+    private static void runConcurrently(Work work) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                int thread = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    work.run(thread);
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.back.standard.util.Util;
 import org.junit.jupiter.api.*;
 
 import java.util.List;
+import java.util.Scanner;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -15,7 +16,7 @@ public class WiseSayingFileRepositoryTest {
     private WiseSayingFileRepository wiseSayingFileRepository;
 
     public WiseSayingFileRepositoryTest() {
-        AppContext.init();
+        AppContext.init(new Scanner(""), "file");
         wiseSayingFileRepository = AppContext.wiseSayingFileRepository;
     }
 
@@ -204,4 +205,92 @@ public class WiseSayingFileRepositoryTest {
 
         assertThat(Util.file.exists(filePath)).isTrue();
     }
+
+    @Test
+    @DisplayName("복구 - 명언 파일이 깨지거나 사라져도 WAL 에 남은 내용으로 다시 만듦")
+    void t10() {
+        WiseSaying wiseSaying1 = new WiseSaying("꿈을 지녀라. 그러면 어려운 현실을 이길 수 있다.", "괴테");
+        wiseSayingFileRepository.save(wiseSaying1);
+
+        WiseSaying wiseSaying2 = new WiseSaying("너 자신을 알라.", "소크라테스");
+        wiseSayingFileRepository.save(wiseSaying2);
+
+        // 쓰다가 종료된 것처럼 만듦
+        String dbPath = WiseSayingFileRepository.getDbPath();
+        Util.file.set(dbPath + "/1.json", "{\n    \"id\": 1,");
+        Util.file.delete(dbPath + "/2.json");
+        Util.file.set(dbPath + "/lastId.txt", "0");
+
+        WiseSayingFileRepository restarted = new WiseSayingFileRepository();
+
+        assertThat(restarted.findAll()).containsExactlyInAnyOrder(wiseSaying1, wiseSaying2);
+        assertThat(restarted.save(new WiseSaying("꿈은 현실이 된다.", "작자미상")).getId()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("복구 - 쓰다 만 임시 파일은 버림")
+    void t11() {
+        WiseSaying wiseSaying1 = new WiseSaying("꿈을 지녀라. 그러면 어려운 현실을 이길 수 있다.", "괴테");
+        wiseSayingFileRepository.save(wiseSaying1);
+
+        String tempPath = WiseSayingFileRepository.getDbPath() + "/1.json.99.tmp";
+        Util.file.set(tempPath, "{\n    \"id\": 1,");
+
+        WiseSayingFileRepository restarted = new WiseSayingFileRepository();
+
+        assertThat(restarted.findAll()).containsExactly(wiseSaying1);
+        assertThat(Util.file.exists(tempPath)).isFalse();
+    }
+
+    @Test
+    @DisplayName("checkpoint - 명언 파일을 디스크에 내린 뒤에는 WAL 을 비움")
+    void t12() {
+        WiseSayingFileRepository repository = new WiseSayingFileRepository(1);
+        WiseSaying wiseSaying1 = new WiseSaying("꿈을 지녀라. 그러면 어려운 현실을 이길 수 있다.", "괴테");
+        repository.save(wiseSaying1);
+
+        String walPath = WiseSayingFileRepository.getDbPath() + "/wal.log";
+        assertThat(Util.file.get(walPath, null)).isEmpty();
+        assertThat(repository.findById(1)).contains(wiseSaying1);
+    }
+
+    @Test
+    @DisplayName("여러 건 저장 - id 를 이어서 받고, 이후 저장도 이어짐")
+    void t13() {
+        wiseSayingFileRepository.save(new WiseSaying("꿈을 지녀라. 그러면 어려운 현실을 이길 수 있다.", "괴테"));
+
+        List<WiseSaying> wiseSayings = List.of(
+                new WiseSaying("너 자신을 알라.", "소크라테스"),
+                new WiseSaying("꿈은 현실이 된다.", "작자미상")
+        );
+        wiseSayingFileRepository.saveAll(wiseSayings);
+
+        assertThat(wiseSayings).extracting(WiseSaying::getId).containsExactly(2, 3);
+        assertThat(wiseSayingFileRepository.findById(3)).contains(wiseSayings.get(1));
+        assertThat(wiseSayingFileRepository.save(new WiseSaying("잠을 잘 자야 합니다.", "꿈꾸는자")).getId()).isEqualTo(4);
+        assertThat(wiseSayingFileRepository.findByAuthorContainingDesc("소크라테스", 5, 1).getContent())
+                .containsExactly(wiseSayings.get(0));
+    }
+
+    @Test
+    @DisplayName("검색 색인 - 명언 파일이 밖에서 지워져도 검색은 예외 없이 남은 명언만")
+    void t14() {
+        wiseSayingFileRepository.save(new WiseSaying("꿈을 지녀라. 그러면 어려운 현실을 이길 수 있다.", "괴테"));
+        wiseSayingFileRepository.save(new WiseSaying("너 자신을 알라.", "소크라테스"));
+        WiseSaying wiseSaying3 = wiseSayingFileRepository.save(new WiseSaying("꿈은 현실이 된다.", "작자미상"));
+        assertThat(wiseSayingFileRepository.findByContentContainingDesc("현실", 5, 1).getTotalItems()).isEqualTo(2);
+
+        Util.file.delete(WiseSayingFileRepository.getDbPath() + "/1.json");
+
+        PageDto pageDto = wiseSayingFileRepository.findByContentContainingDesc("현실", 5, 1);
+        assertThat(pageDto.getContent()).containsExactly(wiseSaying3);
+        assertThat(pageDto.getTotalItems()).isEqualTo(1);
+
+        // 모두 지운 뒤 같은 id 로 다른 명언을 저장해도 이전 내용으로는 찾을 수 없음
+        WiseSayingFileRepository.clear();
+        wiseSayingFileRepository.save(new WiseSaying("잠을 잘 자야 합니다.", "꿈꾸는자"));
+
+        assertThat(wiseSayingFileRepository.findByContentContainingDesc("현실", 5, 1).getContent()).isEmpty();
+        assertThat(wiseSayingFileRepository.findByContentContainingDesc("잠을", 5, 1).getTotalItems()).isEqualTo(1);
+    }
 }
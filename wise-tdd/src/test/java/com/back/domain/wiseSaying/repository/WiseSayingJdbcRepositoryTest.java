@@ -0,0 +1,109 @@
+package com.back.domain.wiseSaying.repository;
+
+import com.back.AppConfig;
+import com.back.AppContext;
+import com.back.PageDto;
+import com.back.domain.wiseSaying.entity.WiseSaying;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.Scanner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WiseSayingJdbcRepositoryTest {
+    private WiseSayingJdbcRepository wiseSayingJdbcRepository;
+
+    public WiseSayingJdbcRepositoryTest() {
+        AppContext.init(new Scanner(""), "jdbc");
+        wiseSayingJdbcRepository = AppContext.wiseSayingJdbcRepository;
+    }
+
+    @BeforeAll
+    static void beforeAll() {
+        AppConfig.setTestMode();
+        AppContext.init();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        WiseSayingJdbcRepository.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        wiseSayingJdbcRepository.close();
+        WiseSayingJdbcRepository.clear();
+    }
+
+    @Test
+    @DisplayName("명언 저장, 수정, 삭제")
+    void t1() {
+        WiseSaying wiseSaying = wiseSayingJdbcRepository.save(new WiseSaying("꿈을 지녀라. 그러면 어려운 현실을 이길 수 있다.", "괴테"));
+        assertThat(wiseSaying.getId()).isEqualTo(1);
+        assertThat(wiseSayingJdbcRepository.findById(1).get()).isEqualTo(wiseSaying);
+
+        wiseSaying.setSaying("너 자신을 알라");
+        wiseSaying.setAuthor("소크라테스");
+        wiseSayingJdbcRepository.save(wiseSaying);
+        assertThat(wiseSayingJdbcRepository.findById(1).get()).isEqualTo(wiseSaying);
+
+        assertThat(wiseSayingJdbcRepository.delete(wiseSaying)).isTrue();
+        assertThat(wiseSayingJdbcRepository.findById(1)).isEmpty();
+        assertThat(wiseSayingJdbcRepository.delete(wiseSaying)).isFalse();
+    }
+
+    @Test
+    @DisplayName("명언 다건 조회 - content, author 필터링, 페이징")
+    void t2() {
+        WiseSaying wiseSaying1 = wiseSayingJdbcRepository.save(new WiseSaying("꿈을 지녀라. 그러면 어려운 현실을 이길 수 있다.", "괴테"));
+        WiseSaying wiseSaying2 = wiseSayingJdbcRepository.save(new WiseSaying("너 자신을 알라.", "소크라테스"));
+        WiseSaying wiseSaying3 = wiseSayingJdbcRepository.save(new WiseSaying("꿈은 현실이 된다.", "작자미상"));
+        WiseSaying wiseSaying4 = wiseSayingJdbcRepository.save(new WiseSaying("잠을 잘 자야 합니다.", "꿈꾸는자"));
+
+        assertThat(wiseSayingJdbcRepository.findAll()).containsExactly(wiseSaying1, wiseSaying2, wiseSaying3, wiseSaying4);
+        assertThat(wiseSayingJdbcRepository.findByContentContainingDesc("꿈", 5, 1).getContent())
+                .containsExactly(wiseSaying3, wiseSaying1);
+        assertThat(wiseSayingJdbcRepository.findByAuthorContainingDesc("테", 5, 1).getContent())
+                .containsExactly(wiseSaying2, wiseSaying1);
+
+        PageDto pageDto = wiseSayingJdbcRepository.findByContentContainingOrAuthorContainingDesc("꿈", 2, 2);
+        assertThat(pageDto.getTotalItems()).isEqualTo(3);
+        assertThat(pageDto.getContent()).containsExactly(wiseSaying1);
+
+        PageDto allPage = wiseSayingJdbcRepository.findByContentContainingOrAuthorContainingDesc("", 3, 1);
+        assertThat(allPage.getTotalItems()).isEqualTo(4);
+        assertThat(allPage.getContent()).containsExactly(wiseSaying4, wiseSaying3, wiseSaying2);
+    }
+
+    @Test
+    @DisplayName("검색어의 %, _ 는 글자 그대로 찾음")
+    void t3() {
+        WiseSaying wiseSaying1 = wiseSayingJdbcRepository.save(new WiseSaying("100% 노력", "작자미상"));
+        wiseSayingJdbcRepository.save(new WiseSaying("100번 노력", "작자미상"));
+
+        assertThat(wiseSayingJdbcRepository.findByContentContainingDesc("0%", 5, 1).getContent())
+                .containsExactly(wiseSaying1);
+        assertThat(wiseSayingJdbcRepository.findByContentContainingDesc("_", 5, 1).getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 건 저장 후 다시 열어도 그대로 있음")
+    void t4() {
+        List<WiseSaying> wiseSayings = List.of(
+                new WiseSaying("명언 1", "작가 1"),
+                new WiseSaying("명언 2", "작가 2"),
+                new WiseSaying("명언 3", "작가 3")
+        );
+
+        wiseSayingJdbcRepository.saveAll(wiseSayings);
+        assertThat(wiseSayings).extracting(WiseSaying::getId).containsExactly(1, 2, 3);
+
+        wiseSayingJdbcRepository.close();
+
+        WiseSayingJdbcRepository reopened = new WiseSayingJdbcRepository();
+        assertThat(reopened.findAll()).containsExactlyElementsOf(wiseSayings);
+        assertThat(reopened.save(new WiseSaying("명언 4", "작가 4")).getId()).isEqualTo(4);
+        reopened.close();
+    }
+}
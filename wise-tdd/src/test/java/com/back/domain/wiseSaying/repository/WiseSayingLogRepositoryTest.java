@@ -0,0 +1,260 @@
+package com.back.domain.wiseSaying.repository;
+
+import com.back.AppConfig;
+import com.back.AppContext;
+import com.back.PageDto;
+import com.back.domain.wiseSaying.entity.WiseSaying;
+import com.back.standard.util.Util;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Scanner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WiseSayingLogRepositoryTest {
+    private WiseSayingLogRepository wiseSayingLogRepository;
+
+    public WiseSayingLogRepositoryTest() {
+        AppContext.init(new Scanner(""), "log");
+        wiseSayingLogRepository = AppContext.wiseSayingLogRepository;
+    }
+
+    @BeforeAll
+    static void beforeAll() {
+        AppConfig.setTestMode();
+        AppContext.init();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        WiseSayingLogRepository.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        wiseSayingLogRepository.close();
+        WiseSayingLogRepository.clear();
+    }
+
+    @Test
+    @DisplayName("명언 저장")
+    void t1() {
+        WiseSaying wiseSaying = new WiseSaying("꿈을 지녀라. 그러면 어려운 현실을 이길 수 있다.", "괴테");
+
+        wiseSayingLogRepository.save(wiseSaying);
+
+        WiseSaying foundedWiseSaying = wiseSayingLogRepository.findById(1).get();
+        assertThat(foundedWiseSaying).isEqualTo(wiseSaying);
+    }
+
+    @Test
+    @DisplayName("2개 이상의 명언 저장")
+    void t2() {
+        WiseSaying wiseSaying1 = new WiseSaying("꿈을 지녀라. 그러면 어려운 현실을 이길 수 있다.", "괴테");
+        WiseSaying wiseSaying2 = new WiseSaying("너 자신을 알라", "소크라테스");
+
+        wiseSayingLogRepository.save(wiseSaying1);
+        wiseSayingLogRepository.save(wiseSaying2);
+
+        assertThat(wiseSayingLogRepository.findById(1).get()).isEqualTo(wiseSaying1);
+        assertThat(wiseSayingLogRepository.findById(2).get()).isEqualTo(wiseSaying2);
+    }
+
+    @Test
+    @DisplayName("명언 삭제")
+    void t3() {
+        WiseSaying wiseSaying1 = new WiseSaying("꿈을 지녀라. 그러면 어려운 현실을 이길 수 있다.", "괴테");
+
+        wiseSayingLogRepository.save(wiseSaying1);
+
+        assertThat(wiseSayingLogRepository.delete(wiseSaying1)).isTrue();
+        assertThat(wiseSayingLogRepository.findById(1)).isEmpty();
+        assertThat(wiseSayingLogRepository.delete(wiseSaying1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("명언 수정")
+    void t4() {
+        wiseSayingLogRepository.save(new WiseSaying("꿈을 지녀라. 그러면 어려운 현실을 이길 수 있다.", "괴테"));
+
+        WiseSaying wiseSaying = wiseSayingLogRepository.findById(1).get();
+        wiseSaying.setSaying("너 자신을 알라");
+        wiseSaying.setAuthor("소크라테스");
+
+        wiseSayingLogRepository.save(wiseSaying);
+
+        WiseSaying foundWiseSaying = wiseSayingLogRepository.findById(1).get();
+        assertThat(foundWiseSaying.getId()).isEqualTo(1);
+        assertThat(foundWiseSaying.getSaying()).isEqualTo("너 자신을 알라");
+        assertThat(foundWiseSaying.getAuthor()).isEqualTo("소크라테스");
+    }
+
+    @Test
+    @DisplayName("명언 다건 조회 - 전체 조회")
+    void t5() {
+        WiseSaying wiseSaying1 = wiseSayingLogRepository.save(new WiseSaying("꿈을 지녀라. 그러면 어려운 현실을 이길 수 있다.", "괴테"));
+        WiseSaying wiseSaying2 = wiseSayingLogRepository.save(new WiseSaying("너 자신을 알라", "괴테"));
+        WiseSaying wiseSaying3 = wiseSayingLogRepository.save(new WiseSaying("나의 죽음을 적에게 알리지 마라.", "이순신"));
+
+        List<WiseSaying> wiseSayings = wiseSayingLogRepository.findAll();
+
+        assertThat(wiseSayings).containsExactly(wiseSaying1, wiseSaying2, wiseSaying3);
+    }
+
+    @Test
+    @DisplayName("명언 다건 조회 - content 필터링")
+    void t6() {
+        WiseSaying wiseSaying1 = wiseSayingLogRepository.save(new WiseSaying("꿈을 지녀라. 그러면 어려운 현실을 이길 수 있다.", "괴테"));
+        wiseSayingLogRepository.save(new WiseSaying("너 자신을 알라.", "소크라테스"));
+        WiseSaying wiseSaying3 = wiseSayingLogRepository.save(new WiseSaying("꿈은 현실이 된다.", "작자미상"));
+
+        PageDto pageDto = wiseSayingLogRepository.findByContentContainingDesc("꿈", 5, 1);
+
+        assertThat(pageDto.getContent()).containsExactly(wiseSaying3, wiseSaying1);
+    }
+
+    @Test
+    @DisplayName("명언 다건 조회 - author 필터링")
+    void t7() {
+        WiseSaying wiseSaying1 = wiseSayingLogRepository.save(new WiseSaying("꿈을 지녀라. 그러면 어려운 현실을 이길 수 있다.", "괴테"));
+        WiseSaying wiseSaying2 = wiseSayingLogRepository.save(new WiseSaying("너 자신을 알라.", "소크라테스"));
+        wiseSayingLogRepository.save(new WiseSaying("꿈은 현실이 된다.", "작자미상"));
+
+        PageDto pageDto = wiseSayingLogRepository.findByAuthorContainingDesc("테", 5, 1);
+
+        assertThat(pageDto.getContent()).containsExactly(wiseSaying2, wiseSaying1);
+    }
+
+    @Test
+    @DisplayName("명언 다건 조회 - content, author 필터링, 페이징")
+    void t8() {
+        WiseSaying wiseSaying1 = wiseSayingLogRepository.save(new WiseSaying("꿈을 지녀라. 그러면 어려운 현실을 이길 수 있다.", "괴테"));
+        wiseSayingLogRepository.save(new WiseSaying("너 자신을 알라.", "소크라테스"));
+        WiseSaying wiseSaying3 = wiseSayingLogRepository.save(new WiseSaying("꿈은 현실이 된다.", "작자미상"));
+        WiseSaying wiseSaying4 = wiseSayingLogRepository.save(new WiseSaying("잠을 잘 자야 합니다.", "꿈꾸는자"));
+
+        PageDto pageDto = wiseSayingLogRepository.findByContentContainingOrAuthorContainingDesc("꿈", 5, 1);
+        assertThat(pageDto.getContent()).containsExactly(wiseSaying4, wiseSaying3, wiseSaying1);
+
+        PageDto page2 = wiseSayingLogRepository.findByContentContainingOrAuthorContainingDesc("꿈", 2, 2);
+        assertThat(page2.getTotalItems()).isEqualTo(3);
+        assertThat(page2.getContent()).containsExactly(wiseSaying1);
+    }
+
+    @Test
+    @DisplayName("빌드 - data.json 파일이 생성됨")
+    void t9() {
+        wiseSayingLogRepository.save(new WiseSaying("꿈을 지녀라. 그러면 어려운 현실을 이길 수 있다.", "괴테"));
+        wiseSayingLogRepository.save(new WiseSaying("너 자신을 알라.", "소크라테스"));
+
+        String filePath = wiseSayingLogRepository.build();
+
+        assertThat(Util.file.exists(filePath)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다시 시작하면 파일을 읽어서 위치 목록과 lastId 를 복구")
+    void t10() {
+        WiseSaying wiseSaying1 = wiseSayingLogRepository.save(new WiseSaying("꿈을 지녀라. 그러면 어려운 현실을 이길 수 있다.", "괴테"));
+        WiseSaying wiseSaying2 = wiseSayingLogRepository.save(new WiseSaying("너 자신을 알라.", "소크라테스"));
+        wiseSaying1.setSaying("꿈은 현실이 된다.");
+        wiseSayingLogRepository.save(wiseSaying1);
+        wiseSayingLogRepository.delete(wiseSaying2);
+        wiseSayingLogRepository.close();
+
+        WiseSayingLogRepository reopened = new WiseSayingLogRepository();
+
+        try {
+            assertThat(reopened.findAll()).containsExactly(wiseSaying1);
+            // 삭제된 2번은 다시 쓰지 않음
+            assertThat(reopened.save(new WiseSaying("잠을 잘 자야 합니다.", "꿈꾸는자")).getId()).isEqualTo(3);
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    @DisplayName("compaction - 수정/삭제로 쌓인 레코드를 정리해도 데이터와 lastId 유지")
+    void t11() {
+        // 자동 정리는 하지 않고 compact() 를 직접 호출
+        WiseSayingLogRepository repository = new WiseSayingLogRepository(Long.MAX_VALUE);
+
+        try {
+            WiseSaying wiseSaying1 = repository.save(new WiseSaying("명언 0", "작가"));
+            WiseSaying wiseSaying2 = repository.save(new WiseSaying("삭제될 명언", "작가"));
+
+            for (int i = 1; i <= 100; i++) {
+                wiseSaying1.setSaying("명언 " + i);
+                repository.save(wiseSaying1);
+            }
+            repository.delete(wiseSaying2);
+
+            long sizeBeforeCompaction = repository.getFileSize();
+            repository.compact();
+
+            assertThat(repository.getFileSize()).isLessThan(sizeBeforeCompaction / 10);
+            assertThat(repository.findAll()).containsExactly(wiseSaying1);
+            repository.close();
+
+            WiseSayingLogRepository reopened = new WiseSayingLogRepository();
+            try {
+                assertThat(reopened.findById(1)).contains(wiseSaying1);
+                assertThat(reopened.save(new WiseSaying("새 명언", "작가")).getId()).isEqualTo(3);
+            } finally {
+                reopened.close();
+            }
+        } finally {
+            repository.close();
+        }
+    }
+
+    @Test
+    @DisplayName("마지막 레코드가 덜 써진 채로 종료되었으면 그 앞까지만 복구")
+    void t12() throws IOException {
+        WiseSaying wiseSaying1 = wiseSayingLogRepository.save(new WiseSaying("꿈을 지녀라. 그러면 어려운 현실을 이길 수 있다.", "괴테"));
+        wiseSayingLogRepository.save(new WiseSaying("너 자신을 알라.", "소크라테스"));
+        long size = wiseSayingLogRepository.getFileSize();
+        wiseSayingLogRepository.close();
+
+        try (FileChannel channel = FileChannel.open(Path.of(AppConfig.getMode() + "/db/wiseSaying/log/segment.log"), StandardOpenOption.WRITE)) {
+            channel.truncate(size - 3);
+        }
+
+        WiseSayingLogRepository reopened = new WiseSayingLogRepository();
+
+        try {
+            assertThat(reopened.findAll()).containsExactly(wiseSaying1);
+            assertThat(reopened.save(new WiseSaying("꿈은 현실이 된다.", "작자미상")).getId()).isEqualTo(2);
+            assertThat(reopened.findById(2).get().getSaying()).isEqualTo("꿈은 현실이 된다.");
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    @DisplayName("compaction - 못 쓰는 레코드가 살아 있는 레코드보다 많아지면 자동으로 정리")
+    void t13() {
+        // 최소 크기 0 => 절반 이상이 못 쓰는 레코드가 되는 순간 정리
+        WiseSayingLogRepository repository = new WiseSayingLogRepository(0);
+
+        try {
+            WiseSaying wiseSaying = repository.save(new WiseSaying("명언 0", "작가"));
+            long sizeOfOne = repository.getFileSize();
+
+            for (int i = 1; i <= 1000; i++) {
+                wiseSaying.setSaying("명언 " + i);
+                repository.save(wiseSaying);
+            }
+
+            assertThat(repository.getFileSize()).isLessThan(sizeOfOne * 4);
+            assertThat(repository.findById(1).get().getSaying()).isEqualTo("명언 1000");
+        } finally {
+            repository.close();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.back.domain.wiseSaying.repository;
+
+import com.back.PageDto;
+import com.back.domain.wiseSaying.entity.WiseSaying;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WiseSayingMemoryRepositoryTest {
+    @Test
+    @DisplayName("수정 - 이미 삭제된 명언을 저장해도 되살리지 않고 검색에도 나오지 않음")
+    void t1() {
+        WiseSayingMemoryRepository repository = new WiseSayingMemoryRepository();
+        WiseSaying wiseSaying1 = repository.save(new WiseSaying("꿈을 지녀라.", "괴테"));
+        WiseSaying wiseSaying2 = repository.save(new WiseSaying("꿈은 현실이 된다.", "작자미상"));
+
+        repository.delete(wiseSaying1);
+        wiseSaying1.setSaying("꿈을 지녀라. 수정");
+        repository.save(wiseSaying1);
+
+        assertThat(repository.findById(wiseSaying1.getId())).isEmpty();
+
+        PageDto pageDto = repository.findByContentContainingDesc("꿈", 5, 1);
+        assertThat(pageDto.getTotalItems()).isEqualTo(1);
+        assertThat(pageDto.getContent()).containsExactly(wiseSaying2);
+    }
+
+    @Test
+    @DisplayName("수정 - 표에 없는 id 로 저장해도 표와 색인 모두 그대로")
+    void t2() {
+        WiseSayingMemoryRepository repository = new WiseSayingMemoryRepository();
+        repository.save(new WiseSaying("꿈을 지녀라.", "괴테"));
+
+        WiseSaying unknown = new WiseSaying("꿈 없는 명언", "작가");
+        unknown.setId(100);
+        repository.save(unknown);
+
+        assertThat(repository.findById(100)).isEmpty();
+        assertThat(repository.findByContentContainingDesc("꿈", 5, 1).getContent())
+                .extracting(WiseSaying::getId)
+                .containsExactly(1);
+    }
+}
@@ -0,0 +1,75 @@
+package com.back.domain.wiseSaying.repository;
+
+import com.back.domain.wiseSaying.entity.WiseSaying;
+import com.back.standard.util.Util;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WiseSayingRecordCodecTest {
+    private static final String DIR = "temp/codec";
+    private static final Path PATH = Path.of(DIR, "records.log");
+
+    @AfterEach
+    void afterEach() {
+        Util.file.rmdir(DIR);
+    }
+
+    @Test
+    @DisplayName("쓴 레코드를 그대로 읽음, null 도 null 로")
+    void t1() throws IOException {
+        Files.createDirectories(PATH.getParent());
+
+        try (FileChannel channel = FileChannel.open(PATH, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer put = WiseSayingRecordCodec.encode(WiseSayingRecordCodec.TYPE_PUT, 1, "꿈을 지녀라.", null);
+            int putSize = put.remaining();
+            channel.write(put);
+            channel.write(WiseSayingRecordCodec.encode(WiseSayingRecordCodec.TYPE_DELETE, 1, null, null));
+
+            List<WiseSayingRecordCodec.Record> records = new ArrayList<>();
+            long end = WiseSayingRecordCodec.readAll(channel, records::add);
+
+            assertThat(end).isEqualTo(channel.size());
+            assertThat(records).containsExactly(
+                    new WiseSayingRecordCodec.Record(0, putSize, WiseSayingRecordCodec.TYPE_PUT, 1, "꿈을 지녀라.", null),
+                    new WiseSayingRecordCodec.Record(putSize, (int) (end - putSize), WiseSayingRecordCodec.TYPE_DELETE, 1, null, null)
+            );
+
+            WiseSaying decoded = WiseSayingRecordCodec.decode(WiseSayingRecordCodec.encode(WiseSayingRecordCodec.TYPE_PUT, 7, "너 자신을 알라.", "소크라테스"));
+            assertThat(decoded.getId()).isEqualTo(7);
+            assertThat(decoded.getSaying()).isEqualTo("너 자신을 알라.");
+            assertThat(decoded.getAuthor()).isEqualTo("소크라테스");
+        }
+    }
+
+    @Test
+    @DisplayName("마지막 레코드가 덜 써졌으면 그 앞까지만 읽고 잘라냄")
+    void t2() throws IOException {
+        Files.createDirectories(PATH.getParent());
+
+        try (FileChannel channel = FileChannel.open(PATH, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.write(WiseSayingRecordCodec.encode(WiseSayingRecordCodec.TYPE_PUT, 1, "꿈을 지녀라.", "괴테"));
+            long sizeAfterOne = channel.size();
+            ByteBuffer torn = WiseSayingRecordCodec.encode(WiseSayingRecordCodec.TYPE_PUT, 2, "너 자신을 알라.", "소크라테스");
+            torn.limit(torn.limit() - 3);
+            channel.write(torn);
+
+            List<WiseSayingRecordCodec.Record> records = new ArrayList<>();
+
+            assertThat(WiseSayingRecordCodec.readAll(channel, records::add)).isEqualTo(sizeAfterOne);
+            assertThat(records).hasSize(1);
+            assertThat(channel.size()).isEqualTo(sizeAfterOne);
+        }
+    }
+}
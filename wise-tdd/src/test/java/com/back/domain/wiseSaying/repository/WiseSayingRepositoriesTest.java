@@ -0,0 +1,91 @@
+package com.back.domain.wiseSaying.repository;
+
+import com.back.AppConfig;
+import com.back.AppContext;
+import com.back.domain.wiseSaying.entity.WiseSaying;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Scanner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class WiseSayingRepositoriesTest {
+    @Test
+    @DisplayName("이름으로 저장소를 고름")
+    void t1() {
+        assertThat(WiseSayingRepositories.getNames()).contains("memory", "file", "log", "concurrent", "jdbc");
+
+        assertThat(WiseSayingRepositories.create("memory")).isInstanceOf(WiseSayingMemoryRepository.class);
+        assertThat(WiseSayingRepositories.create("file")).isInstanceOf(WiseSayingFileRepository.class);
+        assertThat(WiseSayingRepositories.create("jdbc")).isInstanceOf(WiseSayingJdbcRepository.class);
+    }
+
+    @Test
+    @DisplayName("없는 저장소 이름이면 예외")
+    void t2() {
+        assertThatThrownBy(() -> WiseSayingRepositories.create("mongo"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("mongo");
+    }
+
+    @Test
+    @DisplayName("AppContext 는 설정한 저장소를 사용")
+    void t3() {
+        String storage = AppConfig.getStorage();
+
+        try {
+            AppConfig.setStorage("log");
+            AppContext.init();
+            assertThat(AppContext.wiseSayingRepository).isInstanceOf(WiseSayingLogRepository.class);
+            // 같은 디렉토리를 쓰는 저장소 객체가 2개 생기지 않도록 선택한 것만 만듦
+            assertThat(AppContext.wiseSayingLogRepository).isSameAs(AppContext.wiseSayingRepository);
+            assertThat(AppContext.wiseSayingFileRepository).isNull();
+            assertThat(AppContext.wiseSayingJdbcRepository).isNull();
+
+            AppContext.init(new Scanner(""), "concurrent");
+            assertThat(AppContext.wiseSayingRepository).isInstanceOf(WiseSayingConcurrentRepository.class);
+        } finally {
+            AppConfig.setStorage(storage);
+        }
+    }
+
+    @Test
+    @DisplayName("저장소마다 디렉토리가 따로 => 하나를 clear() 해도 다른 저장소는 그대로")
+    void t4() {
+        WiseSayingFileRepository.clear();
+        WiseSayingLogRepository.clear();
+        WiseSayingJdbcRepository.clear();
+
+        try {
+            WiseSayingFileRepository fileRepository = new WiseSayingFileRepository();
+            WiseSayingLogRepository logRepository = new WiseSayingLogRepository();
+            WiseSayingJdbcRepository jdbcRepository = new WiseSayingJdbcRepository();
+
+            fileRepository.save(new WiseSaying("꿈을 지녀라.", "괴테"));
+            logRepository.save(new WiseSaying("너 자신을 알라.", "소크라테스"));
+            jdbcRepository.save(new WiseSaying("꿈은 현실이 된다.", "작자미상"));
+
+            fileRepository.close();
+            logRepository.close();
+            jdbcRepository.close();
+
+            WiseSayingFileRepository.clear();
+
+            WiseSayingLogRepository reopenedLog = new WiseSayingLogRepository();
+            WiseSayingJdbcRepository reopenedJdbc = new WiseSayingJdbcRepository();
+
+            assertThat(new WiseSayingFileRepository().findAll()).isEmpty();
+            assertThat(reopenedLog.findAll()).extracting(WiseSaying::getAuthor).containsExactly("소크라테스");
+            assertThat(reopenedJdbc.findAll()).extracting(WiseSaying::getAuthor).containsExactly("작자미상");
+
+            reopenedLog.close();
+            reopenedJdbc.close();
+        } finally {
+            WiseSayingFileRepository.clear();
+            WiseSayingLogRepository.clear();
+            WiseSayingJdbcRepository.clear();
+        }
+    }
+}
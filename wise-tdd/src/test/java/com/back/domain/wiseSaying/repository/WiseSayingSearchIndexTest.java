@@ -0,0 +1,198 @@
+package com.back.domain.wiseSaying.repository;
+
+import com.back.domain.wiseSaying.entity.WiseSaying;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WiseSayingSearchIndexTest {
+    @Test
+    @DisplayName("한 글자, 두 글자, 긴 검색어")
+    void t1() {
+        Store store = new Store();
+        store.put(1, "꿈을 지녀라. 그러면 어려운 현실을 이길 수 있다.", "괴테");
+        store.put(2, "너 자신을 알라.", "소크라테스");
+        store.put(3, "꿈은 현실이 된다.", "작자미상");
+        store.put(4, "잠을 잘 자야 합니다.", "꿈꾸는자");
+        WiseSayingSearchIndex index = store.index;
+
+        assertThat(index.searchSaying("꿈", 1, 5).ids()).containsExactly(3, 1);
+        assertThat(index.searchAuthor("테", 1, 5).ids()).containsExactly(2, 1);
+        assertThat(index.searchSayingOrAuthor("꿈", 1, 5).ids()).containsExactly(4, 3, 1);
+        assertThat(index.searchSaying("현실", 1, 5).ids()).containsExactly(3, 1);
+        assertThat(index.searchSaying("현실을 이", 1, 5).ids()).containsExactly(1);
+        // bigram 은 모두 있지만 이어져 있지는 않음
+        assertThat(index.searchSaying("을 알라 꿈", 1, 5).ids()).isEmpty();
+        assertThat(index.searchSaying("없는말", 1, 5).totalItems()).isZero();
+        assertThat(index.searchSayingOrAuthor("", 1, 5).ids()).containsExactly(4, 3, 2, 1);
+    }
+
+    @Test
+    @DisplayName("요청한 페이지의 id 만, 전체 개수는 그대로")
+    void t2() {
+        Store store = new Store();
+
+        for (int id = 1; id <= 23; id++) {
+            store.put(id, "명언 " + id, id % 2 == 0 ? "짝수" : "홀수");
+        }
+
+        WiseSayingSearchIndex index = store.index;
+
+        WiseSayingSearchIndex.Hits page2 = index.searchAuthor("짝수", 2, 5);
+        assertThat(page2.totalItems()).isEqualTo(11);
+        assertThat(page2.ids()).containsExactly(12, 10, 8, 6, 4);
+
+        WiseSayingSearchIndex.Hits page3 = index.searchAuthor("짝수", 3, 5);
+        assertThat(page3.ids()).containsExactly(2);
+
+        assertThat(index.searchAuthor("짝수", 4, 5).ids()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정하면 이전 내용으로는 찾을 수 없고, 삭제하면 사라짐")
+    void t3() {
+        Store store = new Store();
+        WiseSayingSearchIndex index = store.index;
+        store.put(1, "꿈을 지녀라.", "괴테");
+
+        store.put(1, "너 자신을 알라.", "소크라테스");
+
+        assertThat(index.searchSaying("꿈", 1, 5).ids()).isEmpty();
+        assertThat(index.searchSaying("자신", 1, 5).ids()).containsExactly(1);
+        assertThat(index.searchAuthor("괴테", 1, 5).ids()).isEmpty();
+
+        store.remove(1);
+
+        assertThat(index.searchSaying("자신", 1, 5).ids()).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("임의의 등록/수정/삭제 후에도 contains 로 훑은 결과와 같음")
+    void t4() {
+        Store store = new Store();
+        WiseSayingSearchIndex index = store.index;
+        TreeMap<Integer, String[]> expected = new TreeMap<>();
+        Random random = new Random(7);
+        String alphabet = "꿈은현실이된다 가나다라";
+
+        for (int i = 0; i < 3000; i++) {
+            int id = 1 + random.nextInt(300);
+
+            if (random.nextInt(5) == 0) {
+                store.remove(id);
+                expected.remove(id);
+            } else {
+                String saying = randomString(random, alphabet, random.nextInt(12));
+                String author = randomString(random, alphabet, random.nextInt(4));
+                store.put(id, saying, author);
+                expected.put(id, new String[]{saying, author});
+            }
+        }
+
+        for (int i = 0; i < 300; i++) {
+            String kw = randomString(random, alphabet, random.nextInt(4));
+            int pageSize = 1 + random.nextInt(10);
+            int pageNo = 1 + random.nextInt(3);
+
+            assertHits(index.searchSaying(kw, pageNo, pageSize), expected, e -> e[0].contains(kw), kw, pageNo, pageSize);
+            assertHits(index.searchAuthor(kw, pageNo, pageSize), expected, e -> e[1].contains(kw), kw, pageNo, pageSize);
+            assertHits(index.searchSayingOrAuthor(kw, pageNo, pageSize), expected,
+                    e -> e[0].contains(kw) || e[1].contains(kw), kw, pageNo, pageSize);
+        }
+    }
+
+    @Test
+    @DisplayName("3글자 이상 검색어는 교집합에 남은 후보만 명언을 꺼내서 확인, 전체 개수는 실제 개수")
+    void t5() {
+        Store store = new Store();
+
+        for (int id = 1; id <= 1000; id++) {
+            store.put(id, "꿈을 지녀라 " + id, "작가");
+        }
+
+        store.lookups = 0;
+        WiseSayingSearchIndex.Hits hits = store.index.searchSaying("꿈을 지녀", 2, 5);
+
+        assertThat(hits.ids()).containsExactly(995, 994, 993, 992, 991);
+        assertThat(hits.totalItems()).isEqualTo(1000);
+        assertThat(store.lookups).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("3글자 이상 검색어의 전체 개수에는 bigram 만 모두 있는 명언이 들어가지 않음")
+    void t6() {
+        Store store = new Store();
+
+        for (int id = 1; id <= 20; id++) {
+            store.put(id, id % 2 == 0 ? "꿈을 지녀라" : "을 지녀 꿈을 ", "작가");
+        }
+
+        WiseSayingSearchIndex.Hits hits = store.index.searchSaying("꿈을 지녀", 1, 5);
+
+        assertThat(hits.ids()).containsExactly(20, 18, 16, 14, 12);
+        assertThat(hits.totalItems()).isEqualTo(10);
+    }
+
+    private static void assertHits(WiseSayingSearchIndex.Hits hits, TreeMap<Integer, String[]> expected,
+                                   Predicate<String[]> filter, String kw, int pageNo, int pageSize) {
+        List<Integer> matched = new ArrayList<>();
+        expected.descendingMap().forEach((id, entry) -> {
+            if (filter.test(entry)) matched.add(id);
+        });
+
+        List<Integer> page = matched.stream()
+                .skip((long) (pageNo - 1) * pageSize)
+                .limit(pageSize)
+                .toList();
+
+        assertThat(hits.ids()).containsExactly(page.stream().mapToInt(Integer::intValue).toArray());
+        assertThat(hits.totalItems()).isEqualTo(matched.size());
+    }
+
+    // 색인과 색인이 후보를 확인할 때 보는 저장소 역할 (id => 명언)
+    private static class Store {
+        private final Map<Integer, WiseSaying> wiseSayings = new HashMap<>();
+        private int lookups;
+        private final WiseSayingSearchIndex index = new WiseSayingSearchIndex(id -> {
+            lookups++;
+            return wiseSayings.get(id);
+        });
+
+        void put(int id, String saying, String author) {
+            remove(id);
+
+            WiseSaying wiseSaying = new WiseSaying(saying, author);
+            wiseSaying.setId(id);
+            wiseSayings.put(id, wiseSaying);
+            index.add(wiseSaying);
+        }
+
+        void remove(int id) {
+            WiseSaying old = wiseSayings.remove(id);
+
+            if (old != null) {
+                index.remove(old);
+            }
+        }
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+
+        return sb.toString();
+    }
+}
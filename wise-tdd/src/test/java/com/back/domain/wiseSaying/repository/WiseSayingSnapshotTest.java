@@ -0,0 +1,138 @@
+package com.back.domain.wiseSaying.repository;
+
+import com.back.domain.wiseSaying.entity.WiseSaying;
+import com.back.standard.util.Util;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class WiseSayingSnapshotTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("writer 로 쓴 내용은 Util.json.toString 과 같은 모양")
+    void t1() throws IOException {
+        List<WiseSaying> wiseSayings = List.of(
+                wiseSaying(1, "꿈을 지녀라. 그러면 어려운 현실을 이길 수 있다.", "괴테"),
+                wiseSaying(2, "너 자신을 알라.", "소크라테스")
+        );
+        Path path = dir.resolve("data.json");
+
+        write(path, wiseSayings);
+
+        assertThat(Files.readString(path))
+                .isEqualTo(Util.json.toString(wiseSayings.stream().map(WiseSaying::toMap).toList()));
+    }
+
+    @Test
+    @DisplayName("따옴표, 줄바꿈, 이모지가 들어 있어도 그대로 다시 읽힘")
+    void t2() {
+        List<WiseSaying> wiseSayings = List.of(
+                wiseSaying(1, "그는 \"내일\"이라고 말했다.\n그리고 떠났다.", "작자\\미상"),
+                wiseSaying(2, "탭\t문자와 제어 문자\u0001", "😀 이모지"),
+                wiseSaying(3, "", "")
+        );
+        Path path = dir.resolve("data.json");
+
+        write(path, wiseSayings);
+
+        assertThat(readAll(path, 64 * 1024 * 1024)).containsExactlyElementsOf(wiseSayings);
+    }
+
+    @Test
+    @DisplayName("빈 목록")
+    void t3() throws IOException {
+        Path path = dir.resolve("data.json");
+
+        write(path, List.of());
+
+        assertThat(Files.readString(path)).isEqualTo("[\n\n]");
+        assertThat(readAll(path, 64 * 1024 * 1024)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("매핑 구간 경계에 걸친 명언도 읽힘")
+    void t4() {
+        List<WiseSaying> wiseSayings = new ArrayList<>();
+        for (int i = 1; i <= 1000; i++) {
+            wiseSayings.add(wiseSaying(i, "명언 " + i + " 가나다라마바사", "작가 " + i));
+        }
+        Path path = dir.resolve("data.json");
+
+        write(path, wiseSayings);
+
+        // 몇십 바이트씩 매핑 => 거의 모든 명언이 경계에 걸림
+        assertThat(readAll(path, 37)).containsExactlyElementsOf(wiseSayings);
+    }
+
+    @Test
+    @DisplayName("\\u 이스케이프, 모르는 키, 공백 없는 모양도 읽힘")
+    void t5() throws IOException {
+        Path path = dir.resolve("data.json");
+        Files.writeString(path, "[{\"id\":7,\"saying\":\"\\uD55C\\uae00 \\ud83d\\ude00\",\"likes\":3,\"author\":null}]");
+
+        List<WiseSaying> wiseSayings = readAll(path, 64 * 1024 * 1024);
+
+        assertThat(wiseSayings).containsExactly(wiseSaying(7, "한글 😀", null));
+    }
+
+    @Test
+    @DisplayName("다 쓰고 close 하기 전까지는 기존 data.json 이 그대로")
+    void t6() {
+        Path path = dir.resolve("data.json");
+        write(path, List.of(wiseSaying(1, "기존 명언", "작가")));
+
+        WiseSayingSnapshotWriter writer = new WiseSayingSnapshotWriter(path);
+        writer.write(wiseSaying(2, "새 명언", "작가"));
+
+        assertThat(readAll(path, 64 * 1024 * 1024)).extracting(WiseSaying::getId).containsExactly(1);
+
+        writer.close();
+
+        assertThat(readAll(path, 64 * 1024 * 1024)).extracting(WiseSaying::getId).containsExactly(2);
+        assertThat(Files.exists(dir.resolve("data.json.tmp"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("JSON 에 없는 이스케이프는 위치와 함께 예외")
+    void t7() throws IOException {
+        Path path = dir.resolve("data.json");
+        Files.writeString(path, "[{\"id\":1,\"saying\":\"잘못된 \\q 이스케이프\",\"author\":\"작가\"}]");
+
+        assertThatThrownBy(() -> readAll(path, 64 * 1024 * 1024))
+                .hasMessageContaining("위치")
+                .hasMessageContaining("알 수 없는 이스케이프");
+    }
+
+    private static void write(Path path, List<WiseSaying> wiseSayings) {
+        try (WiseSayingSnapshotWriter writer = new WiseSayingSnapshotWriter(path)) {
+            wiseSayings.forEach(writer::write);
+        }
+    }
+
+    private static List<WiseSaying> readAll(Path path, long windowSize) {
+        List<WiseSaying> wiseSayings = new ArrayList<>();
+
+        try (WiseSayingSnapshotReader reader = WiseSayingSnapshotReader.open(path, windowSize)) {
+            reader.forEachRemaining(wiseSayings::add);
+        }
+
+        return wiseSayings;
+    }
+
+    private static WiseSaying wiseSaying(int id, String saying, String author) {
+        WiseSaying wiseSaying = new WiseSaying(saying, author);
+        wiseSaying.setId(id);
+        return wiseSaying;
+    }
+}
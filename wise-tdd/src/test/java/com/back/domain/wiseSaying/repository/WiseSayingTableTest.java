@@ -0,0 +1,91 @@
+package com.back.domain.wiseSaying.repository;
+
+import com.back.domain.wiseSaying.entity.WiseSaying;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WiseSayingTableTest {
+    @Test
+    @DisplayName("id 로 조회, 삭제")
+    void t1() {
+        WiseSayingTable table = new WiseSayingTable();
+        table.put(wiseSaying(1));
+        table.put(wiseSaying(2));
+
+        assertThat(table.get(2).getSaying()).isEqualTo("명언 2");
+        assertThat(table.get(3)).isNull();
+        assertThat(table.get(-1)).isNull();
+
+        assertThat(table.remove(1)).isTrue();
+        assertThat(table.remove(1)).isFalse();
+        assertThat(table.get(1)).isNull();
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("id 내림차순 페이지, 삭제된 id 는 건너뜀")
+    void t2() {
+        WiseSayingTable table = new WiseSayingTable();
+
+        for (int id = 1; id <= 12; id++) {
+            table.put(wiseSaying(id));
+        }
+
+        table.remove(11);
+        table.remove(8);
+
+        assertThat(ids(table.pageDesc(1, 5))).containsExactly(12, 10, 9, 7, 6);
+        assertThat(ids(table.pageDesc(2, 5))).containsExactly(5, 4, 3, 2, 1);
+        assertThat(table.pageDesc(3, 5)).isEmpty();
+        assertThat(ids(table.stream().toList())).containsExactly(1, 2, 3, 4, 5, 6, 7, 9, 10, 12);
+    }
+
+    @Test
+    @DisplayName("임의의 등록/삭제 후에도 TreeMap 으로 구한 페이지와 같음")
+    void t3() {
+        WiseSayingTable table = new WiseSayingTable();
+        TreeMap<Integer, WiseSaying> expected = new TreeMap<>();
+        Random random = new Random(11);
+
+        for (int i = 0; i < 20000; i++) {
+            int id = 1 + random.nextInt(2000);
+
+            if (random.nextInt(3) == 0) {
+                assertThat(table.remove(id)).isEqualTo(expected.remove(id) != null);
+            } else {
+                WiseSaying wiseSaying = wiseSaying(id);
+                table.put(wiseSaying);
+                expected.put(id, wiseSaying);
+            }
+
+            if (i % 100 == 0) {
+                int pageSize = 1 + random.nextInt(20);
+                int pageNo = 1 + random.nextInt(expected.size() / pageSize + 2);
+
+                List<WiseSaying> page = expected.descendingMap().values().stream()
+                        .skip((long) (pageNo - 1) * pageSize)
+                        .limit(pageSize)
+                        .toList();
+
+                assertThat(table.size()).isEqualTo(expected.size());
+                assertThat(table.pageDesc(pageNo, pageSize)).containsExactlyElementsOf(page);
+            }
+        }
+    }
+
+    private static WiseSaying wiseSaying(int id) {
+        WiseSaying wiseSaying = new WiseSaying("명언 " + id, "작가 " + id);
+        wiseSaying.setId(id);
+        return wiseSaying;
+    }
+
+    private static List<Integer> ids(List<WiseSaying> wiseSayings) {
+        return wiseSayings.stream().map(WiseSaying::getId).toList();
+    }
+}
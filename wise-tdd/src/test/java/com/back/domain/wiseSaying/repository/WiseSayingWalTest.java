@@ -0,0 +1,212 @@
+package com.back.domain.wiseSaying.repository;
+
+import com.back.standard.util.Util;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class WiseSayingWalTest {
+    private static final String DIR = "temp/wal";
+    private static final Path PATH = Path.of(DIR, "wal.log");
+
+    @AfterEach
+    void afterEach() {
+        Util.file.rmdir(DIR);
+    }
+
+    @Test
+    @DisplayName("추가한 순서대로 다시 읽음")
+    void t1() {
+        try (WiseSayingWal wal = new WiseSayingWal(PATH)) {
+            wal.appendPut(1, "꿈을 지녀라.", "괴테");
+            wal.appendPut(2, "너 자신을 알라.", "소크라테스");
+            wal.commit(wal.appendDelete(1));
+        }
+
+        try (WiseSayingWal wal = new WiseSayingWal(PATH)) {
+            List<WiseSayingWal.Entry> entries = new ArrayList<>();
+            wal.replay(entries::add);
+
+            assertThat(entries).containsExactly(
+                    new WiseSayingWal.Entry(WiseSayingWal.TYPE_PUT, 1, "꿈을 지녀라.", "괴테"),
+                    new WiseSayingWal.Entry(WiseSayingWal.TYPE_PUT, 2, "너 자신을 알라.", "소크라테스"),
+                    new WiseSayingWal.Entry(WiseSayingWal.TYPE_DELETE, 1, null, null)
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("마지막 레코드가 덜 써졌으면 그 앞까지만 읽고 잘라냄")
+    void t2() throws IOException {
+        long sizeAfterTwo;
+
+        try (WiseSayingWal wal = new WiseSayingWal(PATH)) {
+            wal.appendPut(1, "꿈을 지녀라.", "괴테");
+            wal.appendPut(2, "너 자신을 알라.", "소크라테스");
+            sizeAfterTwo = wal.size();
+            wal.appendPut(3, "꿈은 현실이 된다.", "작자미상");
+            wal.commit();
+        }
+
+        try (FileChannel channel = FileChannel.open(PATH, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        try (WiseSayingWal wal = new WiseSayingWal(PATH)) {
+            assertThat(wal.replay(entry -> {
+            })).isEqualTo(2);
+            assertThat(wal.size()).isEqualTo(sizeAfterTwo);
+
+            // 잘라낸 뒤에 이어 쓴 레코드도 읽힘
+            wal.commit(wal.appendPut(3, "꿈은 현실이 된다.", "작자미상"));
+            assertThat(wal.replay(entry -> {
+            })).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 건을 추가하고 commit 한 번 => fsync 한 번")
+    void t3() {
+        try (WiseSayingWal wal = new WiseSayingWal(PATH)) {
+            long seq = 0;
+
+            for (int i = 1; i <= 100; i++) {
+                seq = wal.appendPut(i, "명언 " + i, "작가 " + i);
+            }
+
+            wal.commit(seq);
+            wal.commit(seq);
+
+            assertThat(wal.getSyncCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 commit 해도 모두 디스크에 내려가고 fsync 는 commit 수보다 많지 않음")
+    void t4() throws Exception {
+        int threads = 16;
+        int perThread = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (WiseSayingWal wal = new WiseSayingWal(PATH)) {
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        wal.commit(wal.appendPut(thread * perThread + i + 1, "명언", "작가"));
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            assertThat(wal.getSyncCount()).isBetween(1L, (long) threads * perThread);
+            assertThat(wal.replay(entry -> {
+            })).isEqualTo(threads * perThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("reset 하면 비워짐")
+    void t5() {
+        try (WiseSayingWal wal = new WiseSayingWal(PATH)) {
+            wal.commit(wal.appendPut(1, "꿈을 지녀라.", "괴테"));
+            wal.reset();
+
+            assertThat(wal.size()).isZero();
+            assertThat(wal.replay(entry -> {
+            })).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("commitGrouped - groupSize 개가 쌓일 때만 fsync")
+    void t6() {
+        try (WiseSayingWal wal = new WiseSayingWal(PATH, 10, 60_000)) {
+            for (int i = 1; i <= 25; i++) {
+                wal.commitGrouped(wal.appendPut(i, "명언 " + i, "작가 " + i));
+            }
+
+            assertThat(wal.getSyncCount()).isEqualTo(2);
+
+            wal.commit();
+
+            assertThat(wal.getSyncCount()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("닫힌 뒤에 아직 안 내려간 레코드를 commit 하면 예외")
+    void t7() {
+        WiseSayingWal wal = new WiseSayingWal(PATH);
+        long seq = wal.appendPut(1, "꿈을 지녀라.", "괴테");
+        wal.close();
+
+        assertThatThrownBy(() -> wal.commit(seq)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("checkpoint - 시작할 때의 끝 위치까지만 지우고 그 뒤에 붙은 레코드는 남김")
+    void t8() {
+        try (WiseSayingWal wal = new WiseSayingWal(PATH)) {
+            wal.appendPut(1, "꿈을 지녀라.", "괴테");
+            wal.appendPut(2, "너 자신을 알라.", "소크라테스");
+
+            // 명언 파일을 내리는 도중에 붙은 레코드 (같은 스레드라 잠금을 다시 얻음)
+            wal.checkpoint(() -> wal.appendDelete(1));
+
+            List<WiseSayingWal.Entry> entries = new ArrayList<>();
+            wal.replay(entries::add);
+
+            assertThat(entries).containsExactly(new WiseSayingWal.Entry(WiseSayingWal.TYPE_DELETE, 1, null, null));
+        }
+    }
+
+    @Test
+    @DisplayName("checkpoint 도중에는 다른 스레드의 append 가 기다림")
+    void t9() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try (WiseSayingWal wal = new WiseSayingWal(PATH)) {
+            wal.appendPut(1, "꿈을 지녀라.", "괴테");
+            Future<?>[] append = new Future<?>[1];
+
+            wal.checkpoint(() -> {
+                append[0] = executor.submit(() -> wal.appendPut(2, "너 자신을 알라.", "소크라테스"));
+
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+
+                assertThat(append[0].isDone()).isFalse();
+            });
+
+            append[0].get();
+
+            assertThat(wal.replay(entry -> {
+            })).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
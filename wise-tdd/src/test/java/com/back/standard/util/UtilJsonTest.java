@@ -4,9 +4,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class UtilJsonTest {
     @Test
@@ -55,4 +58,113 @@ public class UtilJsonTest {
                 .containsEntry("age", 20);
 
     }
+
+    @Test
+    @DisplayName("값 안의 쉼표, 따옴표, 줄바꿈, 역슬래시도 그대로 돌아옴")
+    void t3() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", 1);
+        map.put("saying", "그는 \"내일\"이라고 말했다,\n    \"author\": 가짜");
+        map.put("author", "C:\\temp\\작가");
+
+        String jsonStr = Util.json.toString(map);
+
+        assertThat(jsonStr).contains("\"saying\": \"그는 \\\"내일\\\"이라고 말했다,\\n    \\\"author\\\": 가짜\"");
+        assertThat(Util.json.toMap(jsonStr)).isEqualTo(map);
+    }
+
+    @Test
+    @DisplayName("Map 목록을 Json 으로 바꾸고 다시 읽을 수 있다.")
+    void t4() {
+        Map<String, Object> map1 = new LinkedHashMap<>();
+        map1.put("id", 1);
+        map1.put("saying", "현재를 사랑하라.");
+        Map<String, Object> map2 = new LinkedHashMap<>();
+        map2.put("id", 2);
+        map2.put("saying", "너 자신을 알라.");
+
+        String jsonStr = Util.json.toString(List.of(map1, map2));
+
+        assertThat(jsonStr).isEqualTo(
+                """
+                        [
+                            {
+                                "id": 1,
+                                "saying": "현재를 사랑하라."
+                            },
+                            {
+                                "id": 2,
+                                "saying": "너 자신을 알라."
+                            }
+                        ]"""
+        );
+        assertThat(Util.json.toList(jsonStr)).containsExactly(map1, map2);
+        assertThat(Util.json.toList(Util.json.toString(List.of()))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("들여쓰기가 없거나 다른 모양도 읽을 수 있다.")
+    void t5() {
+        Map<String, Object> map = Util.json.toMap("{\"id\":1,\"ok\":true,\"rate\":1.5,\"big\":12345678901,\"none\":null,\"u\":\"\\uD55C\\u0041\"}");
+
+        assertThat(map)
+                .containsEntry("id", 1)
+                .containsEntry("ok", true)
+                .containsEntry("rate", 1.5)
+                .containsEntry("big", 12345678901L)
+                .containsEntry("none", null)
+                .containsEntry("u", "한A");
+    }
+
+    @Test
+    @DisplayName("잘못된 Json 은 위치와 함께 예외")
+    void t6() {
+        assertThatThrownBy(() -> Util.json.toMap("{\"id\": 1, \"saying\": \"끝나지 않은 문자열"))
+                .hasMessageContaining("JSON");
+        assertThatThrownBy(() -> Util.json.toMap("{\"id\": 1} 남은 내용"))
+                .hasMessageContaining("위치");
+    }
+
+    @Test
+    @DisplayName("임의로 만든 명언 Map 을 Json 으로 바꾸고 다시 읽으면 같은 값 (fuzz)")
+    void t7() {
+        // 깨지기 쉬운 문자를 많이 섞음
+        String alphabet = "가나다괴테 ,:\"\\{}[]\n\r\t\b\f\u0000\u001f/ab01-.eE😀";
+        Random random = new Random(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("id", random.nextInt());
+            map.put("saying", randomString(random, alphabet, random.nextInt(40)));
+            map.put("author", randomString(random, alphabet, random.nextInt(10)));
+
+            if (random.nextInt(4) == 0) map.put("score", random.nextLong());
+            if (random.nextInt(4) == 0) map.put("rate", random.nextDouble() * 1000 - 500);
+            if (random.nextInt(4) == 0) map.put("flag", random.nextBoolean());
+            if (random.nextInt(4) == 0) map.put("memo", null);
+
+            String jsonStr = Util.json.toString(map);
+            Map<String, Object> parsed = Util.json.toMap(jsonStr);
+
+            // long 은 int 범위면 Integer 로 읽힘
+            if (map.get("score") instanceof Long score && score == score.intValue()) {
+                map.put("score", score.intValue());
+            }
+
+            assertThat(parsed).as(jsonStr).isEqualTo(map);
+        }
+    }
+
+    // 서로게이트 쌍(이모지)이 중간에 잘리지 않도록 코드 포인트 단위로 고름
+    private static String randomString(Random random, String alphabet, int length) {
+        int[] codePoints = alphabet.codePoints().toArray();
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < length; i++) {
+            sb.appendCodePoint(codePoints[random.nextInt(codePoints.length)]);
+        }
+
+        return sb.toString();
+    }
 }
+
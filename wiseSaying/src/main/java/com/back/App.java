@@ -7,7 +7,6 @@ public class App {
     private Scanner sc = new Scanner(System.in);
     private int lastId = 0;
     private List<WiseSaying> wiseSayings = new ArrayList<>();
-    Map<String, String> paramMap = new HashMap<>();
 
     public void run() {
 
@@ -17,64 +16,31 @@ public class App {
             System.out.print("명령) ");
             String command = sc.nextLine();
 
-            if (command.equals("등록")) {
+            // 명령마다 새로 해석 (이전 명령의 파라미터가 남지 않음)
+            Rq rq = new Rq(command);
+            String actionName = rq.getActionName();
+
+            if (actionName.equals("등록")) {
                 actionWrite();
 
-            } else if (command.equals("목록")) {
+            } else if (actionName.equals("목록")) {
                 actionList();
 
-            } else if (command.startsWith("삭제")) {
-                setParams(command);
-                actionDelete();
+            } else if (actionName.equals("삭제")) {
+                actionDelete(rq);
 
-            } else if (command.startsWith("수정")) {
-                setParams(command);
-                actionModify();
+            } else if (actionName.equals("수정")) {
+                actionModify(rq);
 
-            } else if (command.equals("종료")) {
+            } else if (actionName.equals("종료")) {
                 break;
             }
         }
     }
 
-    private void setParams(String command) {
-
-        String[] commandBits = command.split("\\?");
-
-        String actionName = commandBits[0];
-        String queryString = "";
-
-        if (commandBits.length > 1) {
-            queryString = commandBits[1];
-        }
-
-        String[] queryStringBits = queryString.split("&");
-
-        for (String param : queryStringBits) {
-            String[] paramBits = param.split("=");
-            String key = paramBits[0];
-            String value = null;
-
-            if (paramBits.length > 1) {
-                value = paramBits[1];
-            }
-
-            if (value == null) {
-                continue;
-            }
-
-            paramMap.put(key, value);
-        }
-    }
-
-    private String getParam(String key) {
-        return paramMap.get(key);
-    }
-
-    private void actionModify() {
+    private void actionModify(Rq rq) {
 
-        String strId = getParam("id");
-        int id = Integer.parseInt(strId);
+        int id = rq.getParamAsInt("id", -1);
         WiseSaying wiseSaying = findByIdOrNull(id);
 
         if(wiseSaying == null) {
@@ -97,10 +63,9 @@ public class App {
         wiseSaying.setAuthor(newAuthor);
     }
 
-    private void actionDelete() {
+    private void actionDelete(Rq rq) {
 
-        String idStr = getParam("id");
-        int id = Integer.parseInt(idStr);
+        int id = rq.getParamAsInt("id", -1);
 
         boolean result = delete(id);
 
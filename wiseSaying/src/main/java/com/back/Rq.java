@@ -0,0 +1,83 @@
+package com.back;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class Rq {
+
+    private final Map<String, String> paramMap;
+    private final String actionName;
+
+    // 한 번만 잘라서(정규식 없이 indexOf 로) 바꿀 수 없는 Map 에 담아 둠
+    // 키, 값은 URL 디코딩 (%EA%BF%88 => 꿈, + => 공백), 키나 값이 비어 있는 파라미터는 무시
+    public Rq(String command) {
+        int queryStart = command.indexOf('?');
+
+        if (queryStart < 0) {
+            actionName = command;
+            paramMap = Map.of();
+            return;
+        }
+
+        actionName = command.substring(0, queryStart);
+
+        Map<String, String> params = new HashMap<>();
+        int start = queryStart + 1;
+
+        while (start < command.length()) { // key1=value1&key2=value2 ...
+            int end = command.indexOf('&', start);
+
+            if (end < 0) {
+                end = command.length();
+            }
+
+            int eq = command.indexOf('=', start);
+
+            if (eq > start && eq < end - 1) {
+                params.put(decode(command.substring(start, eq)), decode(command.substring(eq + 1, end)));
+            }
+
+            start = end + 1;
+        }
+
+        paramMap = Collections.unmodifiableMap(params);
+    }
+
+    // 인코딩된 글자가 없으면 그대로, 잘못 인코딩된 값(%zz 등)도 그대로
+    private static String decode(String value) {
+        if (value.indexOf('%') < 0 && value.indexOf('+') < 0) {
+            return value;
+        }
+
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return value;
+        }
+    }
+
+    public String getActionName() {
+        return actionName;
+    }
+
+    public String getParam(String key, String defaultValue) {
+        return paramMap.getOrDefault(key, defaultValue);
+    }
+
+    public int getParamAsInt(String key, int defaultValue) {
+        String value = getParam(key, null);
+
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}